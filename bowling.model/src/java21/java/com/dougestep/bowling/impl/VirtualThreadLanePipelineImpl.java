@@ -0,0 +1,174 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.LaneListener;
+import com.dougestep.bowling.LanePipeline;
+import com.dougestep.bowling.data.LaneEvent;
+import com.google.common.base.Verify;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Applies lane events to the games being bowled with one virtual thread per lane. Each lane session is started by
+ * the lane's first event and owns the lazily scored {@link GameManagerImpl}s of the bowlers on its lane. It runs the
+ * same {@link LaneWorker} loop as {@link LanePipelineImpl}: it blocks on a bounded mailbox, rolls every event waiting
+ * in the mailbox into its games and publishes the scored games to the {@link LaneListener}. A blocked session is a
+ * parked virtual thread whose small stack lives on the heap, so tens of thousands of lanes can be served without a
+ * platform thread per lane.
+ * <p>
+ * {@link #submit(LaneEvent)} waits while the lane's mailbox is full, which holds producers back to the pace of the
+ * lane. This class needs JDK 21 and is built separately from the Java 8 classes of the model; see
+ * {@link LanePipelineImpl} for the fixed thread pool that runs on Java 8.
+ * </p>
+ *
+ * @author dougestep
+ */
+public final class VirtualThreadLanePipelineImpl implements LanePipeline {
+    private static final String NON_NULL_MSG = "expected a non-null reference to %s";
+
+    /**
+     * The default number of events each lane's mailbox can hold.
+     */
+    private static final int DEFAULT_MAILBOX_CAPACITY = 256;
+
+    private final LaneListener listener;
+    private final ThreadFactory threadFactory;
+    private final int mailboxCapacity;
+    private final ConcurrentMap<Integer, LaneSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong applied = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * Creates an instance of this class.
+     *
+     * @param listener        receives the updated games.
+     * @param threadFactory   creates the thread of each lane session.
+     * @param mailboxCapacity the number of events each lane's mailbox can hold.
+     */
+    VirtualThreadLanePipelineImpl(final LaneListener listener, final ThreadFactory threadFactory,
+            final int mailboxCapacity) {
+        Verify.verifyNotNull(listener, NON_NULL_MSG, "LaneListener");
+        Verify.verify(mailboxCapacity > 0, "The mailbox capacity must be greater than 0. Received: %s",
+                mailboxCapacity);
+
+        this.listener = listener;
+        this.threadFactory = threadFactory;
+        this.mailboxCapacity = mailboxCapacity;
+    }
+
+    /**
+     * Returns an instance of this class.
+     *
+     * @param listener receives the updated games.
+     * @return the instance.
+     */
+    public static LanePipeline newInstance(final LaneListener listener) {
+        return newInstance(listener, DEFAULT_MAILBOX_CAPACITY);
+    }
+
+    /**
+     * Returns an instance of this class.
+     *
+     * @param listener        receives the updated games.
+     * @param mailboxCapacity the number of events each lane's mailbox can hold before producers are held back.
+     * @return the instance.
+     */
+    public static LanePipeline newInstance(final LaneListener listener, final int mailboxCapacity) {
+        final ThreadFactory virtualThreads = Thread.ofVirtual().name("lane-session-", 0).factory();
+        return new VirtualThreadLanePipelineImpl(listener, virtualThreads, mailboxCapacity);
+    }
+
+    @Override
+    public boolean offer(final LaneEvent event) {
+        return sessionFor(event).worker.queue().offer(event);
+    }
+
+    @Override
+    public void submit(final LaneEvent event) throws InterruptedException {
+        sessionFor(event).worker.queue().put(event);
+    }
+
+    /**
+     * Returns the session of the lane of the supplied event, starting it if this is the lane's first event.
+     *
+     * @param event the event.
+     * @return the session.
+     */
+    private LaneSession sessionFor(final LaneEvent event) {
+        Verify.verify(!closed, "The lane pipeline is closed.");
+        Verify.verifyNotNull(event, NON_NULL_MSG, "LaneEvent");
+        Verify.verifyNotNull(event.getBowlerUid(), NON_NULL_MSG, "Bowler UID");
+
+        final LaneSession session = sessions.get(event.getLane());
+        if (session != null) {
+            return session;
+        }
+        return sessions.computeIfAbsent(event.getLane(), lane -> new LaneSession());
+    }
+
+    @Override
+    public long replay(final Path file) throws IOException, InterruptedException {
+        return LanePipelineImpl.replay(this, file);
+    }
+
+    @Override
+    public long getAppliedCount() {
+        return applied.get();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * Returns the number of lane sessions started.
+     *
+     * @return the count.
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Stops accepting events, waits for the events already queued to be applied and stops the lane sessions.
+     * Events submitted by other threads while the pipeline is closing may be dropped.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (final LaneSession session : sessions.values()) {
+            session.worker.stop();
+        }
+        for (final LaneSession session : sessions.values()) {
+            Uninterruptibles.joinUninterruptibly(session.thread);
+        }
+    }
+
+    /**
+     * The lane worker of one lane and the thread running it.
+     */
+    private final class LaneSession {
+        private final LaneWorker worker = new LaneWorker(new LinkedBlockingQueue<LaneEvent>(mailboxCapacity),
+                listener, applied, rejected);
+        private final Thread thread;
+
+        /**
+         * Creates an instance of this class and starts its thread.
+         */
+        LaneSession() {
+            thread = threadFactory.newThread(worker);
+            thread.start();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.LaneListener;
+import com.dougestep.bowling.LanePipeline;
+import com.dougestep.bowling.data.GameSnapshot;
+import com.dougestep.bowling.data.LaneEvent;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class VirtualThreadLanePipelineImplTest {
+
+    @Test
+    public void testTensOfThousandsOfLanes() throws InterruptedException {
+        int lanes = 20000;
+        UUID[] bowlers = new UUID[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            bowlers[lane] = UUID.randomUUID();
+        }
+
+        AtomicInteger completedGames = new AtomicInteger();
+        AtomicLong totalScore = new AtomicLong();
+        LaneListener listener = new LaneListener() {
+            @Override
+            public void gameUpdated(final int lane, final GameSnapshot game) {
+                if (game.isComplete()) {
+                    completedGames.incrementAndGet();
+                    totalScore.addAndGet(game.getScore());
+                }
+            }
+
+            @Override
+            public void eventRejected(final LaneEvent event, final RuntimeException error) {
+                // counted by the pipeline
+            }
+        };
+
+        LanePipeline pipeline = VirtualThreadLanePipelineImpl.newInstance(listener, 4);
+        // every lane bowls a 7/ spare in each frame, then a bonus ball of 7.
+        for (int ball = 0; ball < 21; ball++) {
+            for (int lane = 0; lane < lanes; lane++) {
+                pipeline.submit(new LaneEvent(lane, bowlers[lane], ball % 2 == 0 ? 7 : 3, false));
+            }
+        }
+        pipeline.close();
+
+        Assert.assertEquals(lanes, ((VirtualThreadLanePipelineImpl) pipeline).getSessionCount());
+        Assert.assertEquals(lanes * 21L, pipeline.getAppliedCount());
+        Assert.assertEquals(0, pipeline.getRejectedCount());
+        Assert.assertEquals(lanes, completedGames.get());
+        Assert.assertEquals(lanes * 170L, totalScore.get());
+    }
+}
@@ -0,0 +1,103 @@
+package com.dougestep.bowling.benchmark;
+
+import com.dougestep.bowling.BatchScorer;
+import com.dougestep.bowling.data.Game;
+import com.dougestep.bowling.impl.BatchScorerImpl;
+import com.dougestep.bowling.impl.ParallelBatchScorerImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of the batch scorers over 100,000 finished games: copies of one game, and a mix of random
+ * games whose frames don't repeat. A single scorer is expected to score well over 2,000,000 games a second.
+ * <p>
+ * Each operation scores {@value #GAME_COUNT} games, so the target is met when {@link #scoreGames()} and
+ * {@link #scoreMixedGames()} report at least 20 ops/s. Check it with {@code gradle jmh -PjmhInclude=BatchScorer} and
+ * compare the scores in {@code build/reports/jmh/results.json}.
+ *
+ * @author dougestep
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchScorerBenchmark {
+    private static final int GAME_COUNT = 100000;
+    private static final int MAX_BALLS = 21;
+    private static final int MIXED_GAME_SEED = 7;
+
+    private BatchScorer batchScorer;
+    private BatchScorer parallelScorer;
+    private byte[] balls;
+    private int[] gameOffsets;
+    private byte[] mixedBalls;
+    private int[] mixedGameOffsets;
+    private int[] scores;
+
+    /**
+     * Packs the games scored by the benchmarks.
+     */
+    @Setup
+    public void setUp() {
+        batchScorer = BatchScorerImpl.newInstance();
+        parallelScorer = ParallelBatchScorerImpl.newInstance();
+        final Game game = BenchmarkGames.finishedGames(1)[0];
+        balls = new byte[GAME_COUNT * MAX_BALLS];
+        gameOffsets = new int[GAME_COUNT + 1];
+        for (int i = 0; i < GAME_COUNT; i++) {
+            gameOffsets[i + 1] = batchScorer.packGame(game, balls, gameOffsets[i]);
+        }
+        final Game[] mixedGames = BenchmarkGames.randomGames(GAME_COUNT, MIXED_GAME_SEED);
+        mixedBalls = new byte[GAME_COUNT * MAX_BALLS];
+        mixedGameOffsets = new int[GAME_COUNT + 1];
+        for (int i = 0; i < GAME_COUNT; i++) {
+            mixedGameOffsets[i + 1] = batchScorer.packGame(mixedGames[i], mixedBalls, mixedGameOffsets[i]);
+        }
+        scores = new int[GAME_COUNT * BatchScorer.SCORES_PER_GAME];
+    }
+
+    /**
+     * Scores every game on the current thread.
+     *
+     * @return the scores.
+     */
+    @Benchmark
+    public int[] scoreGames() {
+        batchScorer.scoreGames(balls, gameOffsets, scores);
+        return scores;
+    }
+
+    /**
+     * Scores the mix of random games on the current thread.
+     *
+     * @return the scores.
+     */
+    @Benchmark
+    public int[] scoreMixedGames() {
+        batchScorer.scoreGames(mixedBalls, mixedGameOffsets, scores);
+        return scores;
+    }
+
+    /**
+     * Scores every game on the common fork/join pool.
+     *
+     * @return the scores.
+     */
+    @Benchmark
+    public int[] scoreGamesParallel() {
+        parallelScorer.scoreGames(balls, gameOffsets, scores);
+        return scores;
+    }
+}
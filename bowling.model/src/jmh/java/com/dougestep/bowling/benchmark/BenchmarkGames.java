@@ -0,0 +1,112 @@
+package com.dougestep.bowling.benchmark;
+
+import com.dougestep.bowling.GameManager;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.Game;
+import com.dougestep.bowling.impl.GameManagerImpl;
+
+import java.util.Random;
+
+/**
+ * Supplies the games used by the benchmarks.
+ *
+ * @author dougestep
+ */
+final class BenchmarkGames {
+    /**
+     * 10 points.
+     */
+    private static final int MARK_1 = 10;
+
+    /**
+     * Tenth frame.
+     */
+    private static final int LAST_FRAME = 10;
+
+    /**
+     * Default constructor.
+     */
+    private BenchmarkGames() {
+    }
+
+    /**
+     * Returns the twelve frames of a finished game with strikes, spares, opens and a split.
+     *
+     * @return the frames.
+     */
+    static BowlingFrame[] doug() {
+        return new BowlingFrame[]{
+            BowlingFrame.strike(),
+            BowlingFrame.strike(),
+            BowlingFrame.strike(),
+            new BowlingFrame(9, 1),
+            new BowlingFrame(9, 1),
+            new BowlingFrame(8, 1).setSplit(true),
+            new BowlingFrame(8, 2),
+            new BowlingFrame(9, 1),
+            new BowlingFrame(9, 1),
+            BowlingFrame.strike(),
+            BowlingFrame.strike(),
+            BowlingFrame.oneBall(9),
+        };
+    }
+
+    /**
+     * Returns the supplied number of finished games.
+     *
+     * @param count the number of games.
+     * @return the games.
+     */
+    static Game[] finishedGames(final int count) {
+        final Game[] games = new Game[count];
+        for (int i = 0; i < count; i++) {
+            final Bowler bowler = new Bowler().setFirstName("Bowler").setLastName(String.valueOf(i));
+            games[i] = GameManagerImpl.newGame(bowler).addFrames(doug()).getGame();
+        }
+        return games;
+    }
+
+    /**
+     * Returns the supplied number of finished games bowled one ball at a time with random pin fall, so the frames
+     * mix strikes, spares and opens the way league games do. The same seed returns the same games.
+     *
+     * @param count the number of games.
+     * @param seed  seeds the pin fall.
+     * @return the games.
+     */
+    static Game[] randomGames(final int count, final long seed) {
+        final Random random = new Random(seed);
+        final Game[] games = new Game[count];
+        for (int i = 0; i < count; i++) {
+            final GameManager processor = GameManagerImpl.newGame(new Bowler());
+            for (int frame = 1; frame <= LAST_FRAME; frame++) {
+                final int firstBall = randomBall(random, MARK_1);
+                processor.roll(firstBall);
+                if (firstBall != MARK_1) {
+                    processor.roll(randomBall(random, MARK_1 - firstBall));
+                }
+            }
+            // the bonus balls of a mark in the tenth frame.
+            int standing = MARK_1;
+            while (!processor.getGame().isComplete()) {
+                final int pins = randomBall(random, standing);
+                processor.roll(pins);
+                standing = standing == MARK_1 && pins != MARK_1 ? MARK_1 - pins : MARK_1;
+            }
+            games[i] = processor.getGame();
+        }
+        return games;
+    }
+
+    /**
+     * Returns the pins knocked down by a random ball, favouring knocking down every standing pin.
+     *
+     * @param random   the source of the pin fall.
+     * @param standing the number of pins standing.
+     * @return the pins knocked down.
+     */
+    private static int randomBall(final Random random, final int standing) {
+        return random.nextInt(3) == 0 ? standing : random.nextInt(standing + 1);
+    }
+}
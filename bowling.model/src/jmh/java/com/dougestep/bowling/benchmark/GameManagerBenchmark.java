@@ -0,0 +1,94 @@
+package com.dougestep.bowling.benchmark;
+
+import com.dougestep.bowling.GameManager;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.impl.GameManagerImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of the {@link GameManagerImpl} mutations.
+ *
+ * @author dougestep
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameManagerBenchmark {
+    private Bowler bowler;
+    private BowlingFrame[] frames;
+    private GameManager finishedGame;
+    private BowlingFrame openFrame;
+    private BowlingFrame strikeFrame;
+    private boolean replaceWithStrike;
+
+    /**
+     * Builds the frames and the finished game used by the benchmarks.
+     */
+    @Setup
+    public void setUp() {
+        bowler = new Bowler().setFirstName("Doug").setLastName("Estep");
+        frames = BenchmarkGames.doug();
+        finishedGame = GameManagerImpl.newGame(bowler).addFrames(BenchmarkGames.doug());
+        openFrame = new BowlingFrame(8, 1);
+        strikeFrame = BowlingFrame.strike();
+    }
+
+    /**
+     * Adds the first frame to a new game.
+     *
+     * @return the game manager.
+     */
+    @Benchmark
+    public GameManager addFrameColdGame() {
+        return GameManagerImpl.newGame(bowler).addFrame(frames[0]);
+    }
+
+    /**
+     * Adds all twelve frames of a game to a new game.
+     *
+     * @return the game manager.
+     */
+    @Benchmark
+    public GameManager addFramesFullGame() {
+        return GameManagerImpl.newGame(bowler).addFrames(frames);
+    }
+
+    /**
+     * Replaces the first frame of a finished game, alternating between a strike and an open frame so every
+     * invocation changes the score of every frame.
+     *
+     * @return the game manager.
+     */
+    @Benchmark
+    public GameManager replaceFirstFrameFinishedGame() {
+        replaceWithStrike = !replaceWithStrike;
+        return finishedGame.replaceFrame(1, replaceWithStrike ? strikeFrame : openFrame);
+    }
+
+    /**
+     * Deletes the first frame of a finished game and adds it back as the last frame, so the game stays at twelve
+     * frames between invocations. The delete dominates: it moves every frame and re-scores the whole game.
+     *
+     * @return the game manager.
+     */
+    @Benchmark
+    public GameManager deleteFirstFrameFinishedGame() {
+        final BowlingFrame first = finishedGame.retrieveFrame(1);
+        return finishedGame.deleteFrame(1).addFrame(first);
+    }
+}
@@ -0,0 +1,69 @@
+package com.dougestep.bowling.benchmark;
+
+import com.dougestep.bowling.PrintManager;
+import com.dougestep.bowling.data.Game;
+import com.dougestep.bowling.impl.PrintManagerImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of {@link PrintManagerImpl#printGames(Game[], PrintStream)}. The cards are written to a
+ * stream that discards its output so only the rendering is measured.
+ *
+ * @author dougestep
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrintManagerBenchmark {
+    @Param({"1", "10", "1000"})
+    private int gameCount;
+
+    private Game[] games;
+    private PrintManager printManager;
+    private PrintStream out;
+
+    /**
+     * Builds the games and the discarding output stream.
+     */
+    @Setup
+    public void setUp() {
+        games = BenchmarkGames.finishedGames(gameCount);
+        printManager = PrintManagerImpl.newInstance();
+        out = new PrintStream(new OutputStream() {
+            @Override
+            public void write(final int b) {
+                // discard
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) {
+                // discard
+            }
+        });
+    }
+
+    /**
+     * Prints the score card of every game.
+     */
+    @Benchmark
+    public void printGames() {
+        printManager.printGames(games, out);
+    }
+}
@@ -0,0 +1,50 @@
+package com.dougestep.bowling;
+
+import com.dougestep.bowling.data.Game;
+
+/**
+ * Defines a class which scores many bowling games at once. Games are supplied as packed ball arrays: the pins
+ * knocked down by every ball of every game, one byte per ball, in the order the balls were thrown. The bonus balls
+ * of the tenth frame follow the tenth frame like any other ball.
+ *
+ * @author dougestep
+ */
+public interface BatchScorer {
+
+    /**
+     * The number of frame slots scored per game: the ten frames plus the two bonus frames.
+     */
+    int FRAME_SLOTS = 12;
+
+    /**
+     * The position of the game total within the scores of a game.
+     */
+    int TOTAL_OFFSET = FRAME_SLOTS;
+
+    /**
+     * The number of scores written per game: the running score of each frame slot followed by the game total.
+     */
+    int SCORES_PER_GAME = FRAME_SLOTS + 1;
+
+    /**
+     * Scores every game in the supplied packed ball array. The balls of game <code>g</code> are found at
+     * <code>balls[gameOffsets[g]]</code> up to, but not including, <code>balls[gameOffsets[g + 1]]</code>. The
+     * scores of game <code>g</code> are written to <code>scores[g * SCORES_PER_GAME]</code> onward: the running
+     * score of each of the {@link #FRAME_SLOTS} frames, zero for frames not bowled, followed by the game total.
+     *
+     * @param balls       the pins knocked down by each ball of every game.
+     * @param gameOffsets the position of the first ball of each game, followed by the end of the last game.
+     * @param scores      receives the scores. Must hold at least <code>SCORES_PER_GAME</code> entries per game.
+     */
+    void scoreGames(byte[] balls, int[] gameOffsets, int[] scores);
+
+    /**
+     * Writes the balls of the frames recorded for the supplied game into the supplied packed ball array.
+     *
+     * @param game   the game.
+     * @param balls  receives the balls.
+     * @param offset the position of the first ball to write.
+     * @return the position after the last ball written.
+     */
+    int packGame(Game game, byte[] balls, int offset);
+}
@@ -0,0 +1,30 @@
+package com.dougestep.bowling;
+
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.Game;
+
+/**
+ * Defines a class which validates bowling frames without raising exceptions. Feeds validated up front can be loaded
+ * into a {@link GameManager} created with {@link ValidationMode#TRUSTED}.
+ *
+ * @author dougestep
+ */
+public interface FrameValidator {
+
+    /**
+     * Validates the balls and score of the supplied frame.
+     *
+     * @param frame the frame.
+     * @return {@link ValidationError#NONE} or the first rule the frame breaks.
+     */
+    ValidationError validateFrame(BowlingFrame frame);
+
+    /**
+     * Validates every frame of the supplied game, including the number of frames and the bonus frame rules of the
+     * tenth frame.
+     *
+     * @param game the game.
+     * @return {@link ValidationError#NONE} or the first rule the game breaks.
+     */
+    ValidationError validateGame(Game game);
+}
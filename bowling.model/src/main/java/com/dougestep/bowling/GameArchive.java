@@ -0,0 +1,46 @@
+package com.dougestep.bowling;
+
+import com.dougestep.bowling.data.Game;
+
+/**
+ * Defines a class which keeps finished bowling games outside of the Java heap, such as the games kept for a
+ * season's standings. Archived games are read through {@link GameView} flyweights and are identified by their
+ * position in the archive, starting at zero.
+ *
+ * @author dougestep
+ */
+public interface GameArchive {
+
+    /**
+     * Copies the supplied complete game into the archive. The game object is no longer needed once archived.
+     *
+     * @param game the game.
+     * @return the position of the archived game.
+     */
+    int archive(Game game);
+
+    /**
+     * Returns the number of archived games.
+     *
+     * @return the number of games.
+     */
+    int size();
+
+    /**
+     * Returns a new view pointing at the archived game at the supplied position. Reuse the view with
+     * {@link GameView#moveTo(int)} to read other games.
+     *
+     * @param index the position of the game.
+     * @return the view.
+     */
+    GameView view(int index);
+
+    /**
+     * Creates a {@link Game} holding a copy of the archived game at the supplied position. Frame UIDs aren't
+     * archived, so the frames of the created game have none.
+     *
+     * @param index the position of the game.
+     * @return the game.
+     */
+    Game toGame(int index);
+}
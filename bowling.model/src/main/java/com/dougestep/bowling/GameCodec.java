@@ -0,0 +1,41 @@
+package com.dougestep.bowling;
+
+import java.nio.ByteBuffer;
+
+import com.dougestep.bowling.data.Game;
+
+/**
+ * Defines a class which converts a bowling game to and from a compact binary form, for shipping live game state
+ * between nodes or storing it.
+ *
+ * @author dougestep
+ */
+public interface GameCodec {
+
+    /**
+     * Returns the number of bytes the supplied game is encoded into.
+     *
+     * @param game the game.
+     * @return the encoded size in bytes.
+     */
+    int encodedSize(Game game);
+
+    /**
+     * Writes the supplied game to the supplied buffer, starting at the buffer's position. The position is advanced
+     * past the encoded game.
+     *
+     * @param game   the game.
+     * @param buffer the buffer. Must have at least {@link #encodedSize(Game)} bytes remaining.
+     * @return the number of bytes written.
+     */
+    int encode(Game game, ByteBuffer buffer);
+
+    /**
+     * Reads a game from the supplied buffer, starting at the buffer's position. The position is advanced past the
+     * encoded game.
+     *
+     * @param buffer the buffer.
+     * @return the game.
+     */
+    Game decode(ByteBuffer buffer);
+}
@@ -0,0 +1,42 @@
+package com.dougestep.bowling;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.dougestep.bowling.data.Game;
+
+/**
+ * Defines a class which exports bowling games to a text format, such as JSON for a web scoreboard or CSV for league
+ * reports. The games are written one at a time as they are read from the supplied {@link Iterable}, so any number of
+ * games can be exported without holding them, or a document of them, in memory.
+ *
+ * @author dougestep
+ */
+public interface GameExporter {
+
+    /**
+     * Writes all supplied games to the supplied output as one document.
+     *
+     * @param games the games.
+     * @param out   the output to write the document to.
+     * @throws IOException if the output can't be written.
+     */
+    void exportGames(Iterable<Game> games, Appendable out) throws IOException;
+
+    /**
+     * Writes all supplied games to the supplied output stream as one UTF-8 encoded document. The stream is flushed,
+     * but not closed.
+     *
+     * @param games the games.
+     * @param out   the output stream to write the document to.
+     * @throws IOException if the output stream can't be written.
+     */
+    void exportGames(Iterable<Game> games, OutputStream out) throws IOException;
+
+    /**
+     * Returns the media type of the documents this exporter writes, such as "application/json".
+     *
+     * @return the media type.
+     */
+    String getContentType();
+}
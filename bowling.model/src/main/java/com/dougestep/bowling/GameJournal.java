@@ -0,0 +1,46 @@
+package com.dougestep.bowling;
+
+import com.dougestep.bowling.data.Bowler;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Defines a class which durably records every change made to live bowling games, so the games can be rebuilt after
+ * a restart. Games are started through the journal, and every frame added, rolled, replaced or deleted through the
+ * returned {@link GameManager} is recorded before the call returns.
+ *
+ * @author dougestep
+ */
+public interface GameJournal extends Closeable {
+
+    /**
+     * Starts a new game for the supplied bowler whose changes are recorded in this journal.
+     *
+     * @param player the bowler.
+     * @return the game.
+     */
+    GameManager newGame(Bowler player);
+
+    /**
+     * Records that the game with the supplied UID is finished. It is no longer rebuilt when the journal is opened.
+     *
+     * @param gameUid the game UID.
+     */
+    void endGame(UUID gameUid);
+
+    /**
+     * Returns the games which were still live when the journal was last closed, rebuilt from the journal when it was
+     * opened, in the order they were started. Changes made to these games are recorded in this journal.
+     *
+     * @return the recovered games.
+     */
+    List<GameManager> getRecoveredGames();
+
+    /**
+     * Forces every recorded change to the storage device, so it survives the loss of power as well as a crash of
+     * the process.
+     */
+    void sync();
+}
@@ -1,7 +1,9 @@
 package com.dougestep.bowling;
 
 import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.FrameShape;
 import com.dougestep.bowling.data.Game;
+import com.dougestep.bowling.data.GameSnapshot;
 
 /**
  * Defines a class which manages a bowling game.
@@ -26,6 +28,25 @@ public interface GameManager {
      */
     GameManager addFrames(BowlingFrame[] frames);
 
+    /**
+     * Records a single ball thrown by the bowler. The ball either completes the frame in progress or starts a new
+     * frame, including the bonus balls earned by a mark in the tenth frame.
+     *
+     * @param pins the number of pins knocked down by the ball.
+     * @return this instance.
+     */
+    GameManager roll(int pins);
+
+    /**
+     * Records a single ball thrown by the bowler. The ball either completes the frame in progress or starts a new
+     * frame, including the bonus balls earned by a mark in the tenth frame.
+     *
+     * @param pins  the number of pins knocked down by the ball.
+     * @param split supply true to indicate the bowler threw a split.
+     * @return this instance.
+     */
+    GameManager roll(int pins, boolean split);
+
     /**
      * Computes the score for each frame in the game.
      *
@@ -58,10 +79,36 @@ public interface GameManager {
      */
     BowlingFrame retrieveFrame(int frameNumber);
 
+    /**
+     * Returns the pin fall of the frame associated with the supplied frame number as a shared, immutable
+     * {@link FrameShape}. Unlike {@link #retrieveFrame(int)} this never exposes a mutable frame.
+     *
+     * @param frameNumber locates the frame to retrieve.
+     * @return the frame shape or null if not found.
+     */
+    FrameShape retrieveFrameShape(int frameNumber);
+
+    /**
+     * Returns the running score of the frame associated with the supplied frame number.
+     *
+     * @param frameNumber locates the frame.
+     * @return the score or zero if not found.
+     */
+    int retrieveFrameScore(int frameNumber);
+
     /**
      * Returns the {@link Game} element associated with this instance.
      *
      * @return the game.
      */
     Game getGame();
+
+    /**
+     * Returns an immutable snapshot of the game as it is now. Unlike the {@link Game} returned by
+     * {@link #getGame()}, the snapshot never changes, so it can be handed to other threads without copying. Snapshots
+     * taken between changes share the frames that didn't change.
+     *
+     * @return the snapshot.
+     */
+    GameSnapshot getSnapshot();
 }
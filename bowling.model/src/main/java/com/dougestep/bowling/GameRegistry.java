@@ -0,0 +1,63 @@
+package com.dougestep.bowling;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Defines a class which keeps track of the live bowling games in a bowling center. Games are registered with the
+ * lane they are bowled on and can be looked up by game, by lane or by bowler from any thread.
+ *
+ * @author dougestep
+ */
+public interface GameRegistry {
+
+    /**
+     * Registers the supplied game as being bowled on the supplied lane. The game is identified by the UID of its
+     * {@link com.dougestep.bowling.data.Game} and indexed by the UID of its bowler, when the bowler has one.
+     * Registering a game again moves it to the supplied lane.
+     *
+     * @param lane    the lane number.
+     * @param manager the game.
+     * @return this instance.
+     */
+    GameRegistry register(int lane, GameManager manager);
+
+    /**
+     * Removes the game with the supplied UID.
+     *
+     * @param gameUid the game UID.
+     * @return the removed game or null if not found.
+     */
+    GameManager unregister(UUID gameUid);
+
+    /**
+     * Returns the game with the supplied UID.
+     *
+     * @param gameUid the game UID.
+     * @return the game or null if not found.
+     */
+    GameManager findGame(UUID gameUid);
+
+    /**
+     * Returns the games being bowled on the supplied lane.
+     *
+     * @param lane the lane number.
+     * @return the games, or an empty list if none.
+     */
+    List<GameManager> findGamesByLane(int lane);
+
+    /**
+     * Returns the games being bowled by the bowler with the supplied UID.
+     *
+     * @param bowlerUid the bowler UID.
+     * @return the games, or an empty list if none.
+     */
+    List<GameManager> findGamesByBowler(UUID bowlerUid);
+
+    /**
+     * Returns the number of games registered.
+     *
+     * @return the number of games.
+     */
+    int size();
+}
@@ -0,0 +1,158 @@
+package com.dougestep.bowling;
+
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.Game;
+
+import java.util.UUID;
+
+/**
+ * Defines a class which holds many finished bowling games in parallel primitive arrays, one array per column, for
+ * scanning large numbers of historical games without creating {@link Game} or
+ * {@link com.dougestep.bowling.data.BowlingFrame} objects. Games are identified by their position in the store,
+ * starting at zero, and bowlers by their position in the store's bowler table. Frame numbers are one based.
+ *
+ * @author dougestep
+ */
+public interface GameStore {
+
+    /**
+     * The bowler index of a game without a bowler.
+     */
+    int NO_BOWLER = -1;
+
+    /**
+     * Adds the supplied bowler to the bowler table, unless it is already there. Bowlers with a UID are matched by
+     * UID; a bowler without a UID is only matched by itself.
+     *
+     * @param bowler the bowler.
+     * @return the bowler index.
+     */
+    int addBowler(Bowler bowler);
+
+    /**
+     * Returns the number of bowlers in the bowler table.
+     *
+     * @return the number of bowlers.
+     */
+    int getBowlerCount();
+
+    /**
+     * Returns the bowler at the supplied bowler index.
+     *
+     * @param bowlerIndex the bowler index.
+     * @return the bowler.
+     */
+    Bowler getBowler(int bowlerIndex);
+
+    /**
+     * Adds the supplied scored game, and its bowler, to this store. The frame scores are copied from the game.
+     *
+     * @param game the game.
+     * @return the game index.
+     */
+    int addGame(Game game);
+
+    /**
+     * Scores every game in the supplied packed ball array, laid out as for
+     * {@link BatchScorer#scoreGames(byte[], int[], int[])}, and adds it to this store. Packed balls carry no split
+     * flags.
+     *
+     * @param balls         the pins knocked down by each ball of every game.
+     * @param gameOffsets   the position of the first ball of each game, followed by the end of the last game.
+     * @param bowlerIndexes the bowler index of each game, or {@link #NO_BOWLER}.
+     * @return the game index of the first game added.
+     */
+    int addGames(byte[] balls, int[] gameOffsets, int[] bowlerIndexes);
+
+    /**
+     * Returns the number of games in this store.
+     *
+     * @return the number of games.
+     */
+    int size();
+
+    /**
+     * Returns the UID of the supplied game.
+     *
+     * @param game the game index.
+     * @return the UID, or null if the game had none.
+     */
+    UUID getUid(int game);
+
+    /**
+     * Returns the bowler index of the supplied game.
+     *
+     * @param game the game index.
+     * @return the bowler index, or {@link #NO_BOWLER}.
+     */
+    int getBowlerIndex(int game);
+
+    /**
+     * Returns the number of frames recorded for the supplied game, including the bonus frames.
+     *
+     * @param game the game index.
+     * @return the number of frames.
+     */
+    int getFrameCount(int game);
+
+    /**
+     * Returns the number of pins knocked down on the first ball of a frame.
+     *
+     * @param game        the game index.
+     * @param frameNumber the frame number.
+     * @return the first ball.
+     */
+    int getFirstBall(int game, int frameNumber);
+
+    /**
+     * Returns the number of pins knocked down on the second ball of a frame.
+     *
+     * @param game        the game index.
+     * @param frameNumber the frame number.
+     * @return the second ball.
+     */
+    int getSecondBall(int game, int frameNumber);
+
+    /**
+     * Returns true if the bowler threw a split in a frame.
+     *
+     * @param game        the game index.
+     * @param frameNumber the frame number.
+     * @return true if a split.
+     */
+    boolean isSplit(int game, int frameNumber);
+
+    /**
+     * Returns the running score of a frame.
+     *
+     * @param game        the game index.
+     * @param frameNumber the frame number.
+     * @return the score.
+     */
+    int getFrameScore(int game, int frameNumber);
+
+    /**
+     * Returns the score of the supplied game.
+     *
+     * @param game the game index.
+     * @return the score.
+     */
+    int getScore(int game);
+
+    /**
+     * Returns true if every ball of the supplied game was thrown.
+     *
+     * @param game the game index.
+     * @return true if complete.
+     */
+    boolean isComplete(int game);
+
+    /**
+     * Creates a {@link Game} holding the supplied game's UID, bowler, frames and scores. Frame UIDs aren't stored,
+     * so the frames of the created game have none.
+     *
+     * @param game the game index.
+     * @return the game.
+     */
+    Game toGame(int game);
+}
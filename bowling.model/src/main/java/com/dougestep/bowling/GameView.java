@@ -0,0 +1,138 @@
+package com.dougestep.bowling;
+
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.FrameShape;
+
+import java.util.UUID;
+
+/**
+ * Defines a read-only view of a stored bowling game. A view is a flyweight: it holds no copy of the game, only the
+ * position of the game it currently points at, and reads every value from the underlying storage when asked. Move a
+ * view to another game with {@link #moveTo(int)} instead of creating a new one. Frame numbers are one based.
+ *
+ * @author dougestep
+ */
+public interface GameView {
+
+    /**
+     * Points this view at the game at the supplied position.
+     *
+     * @param index the position of the game.
+     * @return this instance.
+     */
+    GameView moveTo(int index);
+
+    /**
+     * Returns the position of the game this view points at.
+     *
+     * @return the position.
+     */
+    int getIndex();
+
+    /**
+     * Returns the UID of the game.
+     *
+     * @return the UID, or null if the game has none.
+     */
+    UUID getUid();
+
+    /**
+     * Returns the bowler of the game.
+     *
+     * @return the bowler, or null if the game has none.
+     */
+    Bowler getBowler();
+
+    /**
+     * Returns the score of the game.
+     *
+     * @return the score.
+     */
+    int getScore();
+
+    /**
+     * Returns true if the game has completed.
+     *
+     * @return true if completed.
+     */
+    boolean isComplete();
+
+    /**
+     * Returns the number of frames recorded for the game, including the bonus frames.
+     *
+     * @return the number of frames.
+     */
+    int getNumberOfFrames();
+
+    /**
+     * Returns the number of pins knocked down on the first ball of a frame.
+     *
+     * @param frameNumber the frame number.
+     * @return the first ball.
+     */
+    int getFirstBall(int frameNumber);
+
+    /**
+     * Returns the number of pins knocked down on the second ball of a frame.
+     *
+     * @param frameNumber the frame number.
+     * @return the second ball.
+     */
+    int getSecondBall(int frameNumber);
+
+    /**
+     * Returns true if the bowler threw a split in a frame.
+     *
+     * @param frameNumber the frame number.
+     * @return true if a split.
+     */
+    boolean isSplit(int frameNumber);
+
+    /**
+     * Returns the running score of a frame.
+     *
+     * @param frameNumber the frame number.
+     * @return the score.
+     */
+    int getFrameScore(int frameNumber);
+
+    /**
+     * Returns true if a frame is a strike (first ball = 10).
+     *
+     * @param frameNumber the frame number.
+     * @return true if a strike.
+     */
+    boolean isStrike(int frameNumber);
+
+    /**
+     * Returns true if a frame is a spare (first ball != 10 and ball1 + ball2 = 10).
+     *
+     * @param frameNumber the frame number.
+     * @return true if a spare.
+     */
+    boolean isSpare(int frameNumber);
+
+    /**
+     * Returns true if a frame is neither a strike nor a spare.
+     *
+     * @param frameNumber the frame number.
+     * @return true if an open frame.
+     */
+    boolean isOpenFrame(int frameNumber);
+
+    /**
+     * Returns the sum of the first and second balls of a frame.
+     *
+     * @param frameNumber the frame number.
+     * @return the frame total.
+     */
+    int getFrameTotal(int frameNumber);
+
+    /**
+     * Returns the shared shape of a frame.
+     *
+     * @param frameNumber the frame number.
+     * @return the frame shape.
+     */
+    FrameShape getFrameShape(int frameNumber);
+}
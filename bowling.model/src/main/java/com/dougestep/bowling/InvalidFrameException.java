@@ -0,0 +1,35 @@
+package com.dougestep.bowling;
+
+import com.google.common.base.VerifyException;
+
+/**
+ * Raised when a frame or ball is rejected. Carries the {@link ValidationError} so callers can react to the reason
+ * without parsing the message.
+ *
+ * @author dougestep
+ */
+public class InvalidFrameException extends VerifyException {
+    private static final long serialVersionUID = -4410328617025950326L;
+
+    private final ValidationError error;
+
+    /**
+     * Creates an instance of this class.
+     *
+     * @param error  the reason the frame or ball was rejected.
+     * @param details the values substituted into the message, such as the rejected ball or frame number.
+     */
+    public InvalidFrameException(final ValidationError error, final Object... details) {
+        super(error.getMessage(details));
+        this.error = error;
+    }
+
+    /**
+     * Returns the reason the frame or ball was rejected.
+     *
+     * @return the error.
+     */
+    public ValidationError getError() {
+        return error;
+    }
+}
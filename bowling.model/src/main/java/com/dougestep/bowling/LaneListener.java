@@ -0,0 +1,39 @@
+package com.dougestep.bowling;
+
+import com.dougestep.bowling.data.GameSnapshot;
+import com.dougestep.bowling.data.LaneEvent;
+
+/**
+ * Receives the results of the lane events applied by a {@link LanePipeline}. The methods are called on the worker
+ * thread that owns the lane, so the calls for a lane arrive in the order its events were submitted. Implementations
+ * should return quickly: a slow listener slows every lane owned by the same worker and, through back-pressure, the
+ * producers submitting to those lanes.
+ * <p>
+ * An exception thrown by a listener is handed to the worker thread's uncaught exception handler; the worker carries
+ * on with its lanes.
+ * </p>
+ *
+ * @author dougestep
+ */
+public interface LaneListener {
+
+    /**
+     * Called once per batch for every game that received balls in the batch, after the game has been scored. The
+     * snapshot is immutable and can be kept or handed to another thread; it shares the frames that didn't change with
+     * the game's previous snapshot. A complete game is reported once and then dropped by the pipeline, so the
+     * bowler's next ball starts a new game.
+     *
+     * @param lane the lane number.
+     * @param game a snapshot of the game.
+     */
+    void gameUpdated(int lane, GameSnapshot game);
+
+    /**
+     * Called for an event that could not be applied, such as a ball knocking down more pins than were standing.
+     * The event is skipped and the game is left as it was.
+     *
+     * @param event the event.
+     * @param error the reason the event was rejected.
+     */
+    void eventRejected(LaneEvent event, RuntimeException error);
+}
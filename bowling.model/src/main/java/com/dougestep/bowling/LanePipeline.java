@@ -0,0 +1,66 @@
+package com.dougestep.bowling;
+
+import com.dougestep.bowling.data.LaneEvent;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Defines a class which applies the balls reported by the lanes of a bowling center to the games being bowled.
+ * Each lane is owned by a single worker thread, so the games of a lane are only ever updated by one thread and
+ * need no locking. Events wait in a bounded queue per worker; when a worker falls behind its queue fills up and
+ * producers are held back.
+ *
+ * @author dougestep
+ */
+public interface LanePipeline extends Closeable {
+
+    /**
+     * Submits the supplied event without waiting.
+     *
+     * @param event the event.
+     * @return true if the event was queued, or false if the lane's queue is full.
+     */
+    boolean offer(LaneEvent event);
+
+    /**
+     * Submits the supplied event, waiting while the lane's queue is full.
+     *
+     * @param event the event.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    void submit(LaneEvent event) throws InterruptedException;
+
+    /**
+     * Submits every event recorded in the supplied file, waiting whenever a lane's queue is full. The file holds one
+     * event per line as {@code lane,bowlerUid,pins,split}, where split is {@code true} or {@code false}; blank lines
+     * are ignored.
+     *
+     * @param file the file.
+     * @return the number of events submitted.
+     * @throws IOException          if the file can't be read.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    long replay(Path file) throws IOException, InterruptedException;
+
+    /**
+     * Returns the number of events applied to games so far.
+     *
+     * @return the count.
+     */
+    long getAppliedCount();
+
+    /**
+     * Returns the number of events rejected so far.
+     *
+     * @return the count.
+     */
+    long getRejectedCount();
+
+    /**
+     * Stops accepting events, waits for the events already queued to be applied and stops the workers.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,29 @@
+package com.dougestep.bowling;
+
+import java.io.PrintStream;
+
+import com.dougestep.bowling.data.Game;
+
+/**
+ * Defines a class which repeatedly renders a scoreboard of bowling games, such as the overhead monitors of a bowling
+ * center. The renderer remembers the score card it last rendered for each game and only re-renders the parts of a
+ * card that changed since the last refresh.
+ *
+ * @author dougestep
+ */
+public interface ScoreboardRenderer {
+
+    /**
+     * Renders the supplied games to the supplied output stream. The games are identified by their UIDs; a game
+     * without a UID is re-rendered in full on every refresh.
+     *
+     * @param games the games.
+     * @param out   the output stream.
+     */
+    void render(Game[] games, PrintStream out);
+
+    /**
+     * Forgets the score cards rendered so far, so the next refresh renders every game in full.
+     */
+    void reset();
+}
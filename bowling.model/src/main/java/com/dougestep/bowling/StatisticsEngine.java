@@ -0,0 +1,22 @@
+package com.dougestep.bowling;
+
+import java.util.List;
+
+import com.dougestep.bowling.data.BowlerStatistics;
+
+/**
+ * Defines a class which computes the statistics of every bowler from the games held in a {@link GameStore}.
+ *
+ * @author dougestep
+ */
+public interface StatisticsEngine {
+
+    /**
+     * Computes the statistics of every bowler in the supplied store over their complete games. Incomplete games and
+     * games without a bowler are skipped.
+     *
+     * @param store the games.
+     * @return the statistics of each bowler, indexed by bowler index.
+     */
+    List<BowlerStatistics> computeStatistics(GameStore store);
+}
@@ -0,0 +1,116 @@
+package com.dougestep.bowling;
+
+/**
+ * Identifies why a frame or ball was rejected. The constants are shared, so validating a frame never creates an
+ * object; a message is only formatted when the error is raised as an {@link InvalidFrameException}.
+ *
+ * @author dougestep
+ */
+public enum ValidationError {
+    /**
+     * The frame or ball is valid.
+     */
+    NONE(0, "The frame is valid."),
+
+    /**
+     * No frame was supplied.
+     */
+    NULL_FRAME(1, "expected a non-null reference to %s"),
+
+    /**
+     * The first ball is less than 0 or greater than 10.
+     */
+    INVALID_FIRST_BALL(2, "Invalid value for the first ball: %s"),
+
+    /**
+     * The second ball is less than 0 or greater than 10.
+     */
+    INVALID_SECOND_BALL(3, "Invalid value for the second ball: %s"),
+
+    /**
+     * A single ball is less than 0 or greater than 10.
+     */
+    INVALID_BALL(4, "Invalid value for the ball in frame %s: %s"),
+
+    /**
+     * The score is less than 0 or greater than 300.
+     */
+    INVALID_SCORE(5, "The score must be a value between 0 and 300. Received: %s"),
+
+    /**
+     * The first and second ball knock down more than 10 pins.
+     */
+    TOO_MANY_PINS(6, "The sum of the first and second ball can not be greater than 10."),
+
+    /**
+     * The game already has 12 frames.
+     */
+    TOO_MANY_FRAMES(7, "A game can not have more than %s frames."),
+
+    /**
+     * The frame in progress hasn't received its second ball.
+     */
+    AWAITING_SECOND_BALL(8, "Frame %s is waiting on its second ball."),
+
+    /**
+     * Every ball of the game has been thrown.
+     */
+    GAME_COMPLETE(9, "The game is complete."),
+
+    /**
+     * A bonus frame follows a tenth frame, or first bonus frame, that didn't earn it.
+     */
+    BONUS_FRAME_NOT_EARNED(10, "Frame %s is a bonus frame which was not earned."),
+
+    /**
+     * A bonus frame which is worth a single ball has a second ball.
+     */
+    EXTRA_BONUS_BALL(11, "Frame %s is a bonus frame which only gets one ball."),
+
+    /**
+     * No frame is recorded at the frame number.
+     */
+    FRAME_NOT_FOUND(12, "Frame not found for frame number %s");
+
+    private final int code;
+    private final String template;
+
+    /**
+     * Creates an instance of this class.
+     *
+     * @param code     the error code.
+     * @param template the message template, with at most one %s placeholder.
+     */
+    ValidationError(final int code, final String template) {
+        this.code = code;
+        this.template = template;
+    }
+
+    /**
+     * Returns the numeric error code. Codes are stable and can be stored or sent to other systems.
+     *
+     * @return the code.
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Returns true if this is {@link #NONE}.
+     *
+     * @return true if valid.
+     */
+    public boolean isValid() {
+        return this == NONE;
+    }
+
+    /**
+     * Returns the message describing this error.
+     *
+     * @param details the values substituted into the message, such as the rejected ball or frame number.
+     * @return the message.
+     */
+    public String getMessage(final Object... details) {
+        return String.format(template, details);
+    }
+}
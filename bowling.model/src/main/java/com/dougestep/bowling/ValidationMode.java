@@ -0,0 +1,21 @@
+package com.dougestep.bowling;
+
+/**
+ * Selects how much checking a {@link GameManager} applies to the frames supplied to it.
+ *
+ * @author dougestep
+ */
+public enum ValidationMode {
+    /**
+     * Every frame is checked: the balls, the score, the pin count and the bonus frame rules of the tenth frame.
+     */
+    STRICT,
+
+    /**
+     * The frames come from a feed which has already been validated, for example with a {@link FrameValidator} or a
+     * journal written by a strict manager. Only the checks which protect the manager itself are applied: a frame
+     * must be supplied, each ball must knock down 0 to 10 pins and no more than 10 between them, and the game must
+     * have room for it. A frame that breaks any other rule leaves the game with undefined scores.
+     */
+    TRUSTED
+}
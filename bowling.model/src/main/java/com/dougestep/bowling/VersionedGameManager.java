@@ -0,0 +1,64 @@
+package com.dougestep.bowling;
+
+import com.dougestep.bowling.data.GameSnapshot;
+
+/**
+ * Defines a class which manages a bowling game and keeps every version of it. Each change to the game, such as a
+ * ball rolled or a frame replaced or deleted, records a new version; changes can be undone and redone, and any
+ * version can be read back as a {@link GameSnapshot}.
+ *
+ * @author dougestep
+ */
+public interface VersionedGameManager extends GameManager {
+
+    /**
+     * Returns true if there is a change to undo.
+     *
+     * @return true if a change can be undone.
+     */
+    boolean canUndo();
+
+    /**
+     * Returns true if there is an undone change to redo.
+     *
+     * @return true if a change can be redone.
+     */
+    boolean canRedo();
+
+    /**
+     * Returns the game to the version before the current version. Does nothing if there is no change to undo.
+     *
+     * @return this instance.
+     */
+    VersionedGameManager undo();
+
+    /**
+     * Returns the game to the version after the current version, re-applying a change that was undone. Does nothing
+     * if there is no change to redo. Making a change discards the versions that could have been redone.
+     *
+     * @return this instance.
+     */
+    VersionedGameManager redo();
+
+    /**
+     * Returns the number of the current version. The game starts at version zero and every change adds one.
+     *
+     * @return the version number.
+     */
+    int getVersion();
+
+    /**
+     * Returns the number of versions kept, including the versions that can be redone.
+     *
+     * @return the number of versions.
+     */
+    int getNumberOfVersions();
+
+    /**
+     * Returns the snapshot of the game at the supplied version number.
+     *
+     * @param version the version number, from zero up to but not including the number of versions kept.
+     * @return the snapshot or null if not found.
+     */
+    GameSnapshot versionAt(int version);
+}
@@ -0,0 +1,282 @@
+package com.dougestep.bowling.data;
+
+import java.io.Serializable;
+
+import com.google.common.base.MoreObjects;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Represents the statistics of a bowler over a number of complete games. The frame statistics cover the ten frames
+ * of each game; the bonus balls after the tenth frame only count towards the game scores.
+ *
+ * @author dougestep
+ */
+@SuppressFBWarnings
+@SuppressWarnings("PMD")
+public class BowlerStatistics implements Serializable {
+    private static final long serialVersionUID = -3165920154472316527L;
+    private static final int FRAMES_PER_GAME = 10;
+    private static final double PERCENT = 100.0;
+    private Bowler bowler;
+    private int games;
+    private long totalPins;
+    private int highGame;
+    private int strikes;
+    private int spares;
+    private long firstBallPins;
+    private int splits;
+    private int convertedSplits;
+
+    /**
+     * Creates an instance of this class.
+     */
+    public BowlerStatistics() {
+    }
+
+    /**
+     * Returns the bowler.
+     *
+     * @return the bowler.
+     */
+    public Bowler getBowler() {
+        return bowler;
+    }
+
+    /**
+     * Sets the bowler.
+     *
+     * @param bowler the bowler.
+     * @return returns this instance.
+     */
+    public BowlerStatistics setBowler(final Bowler bowler) {
+        this.bowler = bowler;
+        return this;
+    }
+
+    /**
+     * Returns the number of complete games bowled.
+     *
+     * @return the number of games.
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Sets the number of complete games bowled.
+     *
+     * @param games the number of games.
+     * @return returns this instance.
+     */
+    public BowlerStatistics setGames(final int games) {
+        this.games = games;
+        return this;
+    }
+
+    /**
+     * Returns the sum of the scores of every game.
+     *
+     * @return the total pins.
+     */
+    public long getTotalPins() {
+        return totalPins;
+    }
+
+    /**
+     * Sets the sum of the scores of every game.
+     *
+     * @param totalPins the total pins.
+     * @return returns this instance.
+     */
+    public BowlerStatistics setTotalPins(final long totalPins) {
+        this.totalPins = totalPins;
+        return this;
+    }
+
+    /**
+     * Returns the highest game score.
+     *
+     * @return the high game.
+     */
+    public int getHighGame() {
+        return highGame;
+    }
+
+    /**
+     * Sets the highest game score.
+     *
+     * @param highGame the high game.
+     * @return returns this instance.
+     */
+    public BowlerStatistics setHighGame(final int highGame) {
+        this.highGame = highGame;
+        return this;
+    }
+
+    /**
+     * Returns the number of strikes thrown.
+     *
+     * @return the number of strikes.
+     */
+    public int getStrikes() {
+        return strikes;
+    }
+
+    /**
+     * Sets the number of strikes thrown.
+     *
+     * @param strikes the number of strikes.
+     * @return returns this instance.
+     */
+    public BowlerStatistics setStrikes(final int strikes) {
+        this.strikes = strikes;
+        return this;
+    }
+
+    /**
+     * Returns the number of spares picked up.
+     *
+     * @return the number of spares.
+     */
+    public int getSpares() {
+        return spares;
+    }
+
+    /**
+     * Sets the number of spares picked up.
+     *
+     * @param spares the number of spares.
+     * @return returns this instance.
+     */
+    public BowlerStatistics setSpares(final int spares) {
+        this.spares = spares;
+        return this;
+    }
+
+    /**
+     * Returns the sum of the pins knocked down on the first ball of every frame.
+     *
+     * @return the first ball pins.
+     */
+    public long getFirstBallPins() {
+        return firstBallPins;
+    }
+
+    /**
+     * Sets the sum of the pins knocked down on the first ball of every frame.
+     *
+     * @param firstBallPins the first ball pins.
+     * @return returns this instance.
+     */
+    public BowlerStatistics setFirstBallPins(final long firstBallPins) {
+        this.firstBallPins = firstBallPins;
+        return this;
+    }
+
+    /**
+     * Returns the number of splits thrown.
+     *
+     * @return the number of splits.
+     */
+    public int getSplits() {
+        return splits;
+    }
+
+    /**
+     * Sets the number of splits thrown.
+     *
+     * @param splits the number of splits.
+     * @return returns this instance.
+     */
+    public BowlerStatistics setSplits(final int splits) {
+        this.splits = splits;
+        return this;
+    }
+
+    /**
+     * Returns the number of splits converted into spares.
+     *
+     * @return the number of converted splits.
+     */
+    public int getConvertedSplits() {
+        return convertedSplits;
+    }
+
+    /**
+     * Sets the number of splits converted into spares.
+     *
+     * @param convertedSplits the number of converted splits.
+     * @return returns this instance.
+     */
+    public BowlerStatistics setConvertedSplits(final int convertedSplits) {
+        this.convertedSplits = convertedSplits;
+        return this;
+    }
+
+    /**
+     * Returns the bowler's average: the total pins divided by the number of games, dropping any fraction as bowling
+     * averages do.
+     *
+     * @return the average, or zero if no games were bowled.
+     */
+    public int getAverage() {
+        return games == 0 ? 0 : (int) (totalPins / games);
+    }
+
+    /**
+     * Returns the percentage of frames which were strikes.
+     *
+     * @return the strike percentage.
+     */
+    public double getStrikePercentage() {
+        return percentage(strikes, (long) games * FRAMES_PER_GAME);
+    }
+
+    /**
+     * Returns the percentage of frames without a strike in which the spare was picked up.
+     *
+     * @return the spare percentage.
+     */
+    public double getSparePercentage() {
+        return percentage(spares, (long) games * FRAMES_PER_GAME - strikes);
+    }
+
+    /**
+     * Returns the average number of pins knocked down on the first ball of a frame.
+     *
+     * @return the first ball average.
+     */
+    public double getFirstBallAverage() {
+        return games == 0 ? 0 : (double) firstBallPins / ((long) games * FRAMES_PER_GAME);
+    }
+
+    /**
+     * Returns the percentage of splits converted into spares.
+     *
+     * @return the split conversion percentage.
+     */
+    public double getSplitConversionPercentage() {
+        return percentage(convertedSplits, splits);
+    }
+
+    /**
+     * Returns the supplied count as a percentage of the supplied total.
+     *
+     * @param count the count.
+     * @param total the total.
+     * @return the percentage, or zero if the total is zero.
+     */
+    private static double percentage(final long count, final long total) {
+        return total == 0 ? 0 : count * PERCENT / total;
+    }
+
+    @Override
+    public String toString() {
+        final MoreObjects.ToStringHelper str = MoreObjects.toStringHelper(this);
+        str.add("bowler", bowler);
+        str.add("games", games);
+        str.add("average", getAverage());
+        str.add("highGame", highGame);
+        return str.toString();
+    }
+}
@@ -54,6 +54,16 @@ public class BowlingFrame implements Serializable {
         return new BowlingFrame();
     }
 
+    /**
+     * Returns an instance of this frame with the pin fall of the supplied shape.
+     *
+     * @param shape the frame shape.
+     * @return returns the frame.
+     */
+    public static BowlingFrame fromShape(final FrameShape shape) {
+        return new BowlingFrame(shape.getFirstBall(), shape.getSecondBall(), shape.isSplit());
+    }
+
     /**
      * Creates an instance of this class.
      */
@@ -230,6 +240,15 @@ public class BowlingFrame implements Serializable {
         return this;
     }
 
+    /**
+     * Returns the shared {@link FrameShape} with the pin fall of this frame.
+     *
+     * @return the frame shape.
+     */
+    public FrameShape getShape() {
+        return FrameShape.of(firstBall, secondBall, split);
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (obj == null) {
@@ -0,0 +1,247 @@
+package com.dougestep.bowling.data;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.VerifyException;
+
+/**
+ * Represents the pin fall of a bowling frame: the first ball, the second ball and the split flag. There are only 66
+ * legal (first ball, second ball) combinations, each with or without a split, so every shape is created once and
+ * shared. Shapes are immutable and carry no score or identity; compare them with ==.
+ *
+ * @author dougestep
+ */
+public final class FrameShape {
+    /**
+     * 10 points.
+     */
+    private static final int MARK_1 = 10;
+
+    /**
+     * The number of legal (first ball, second ball) combinations.
+     */
+    private static final int PIN_COMBINATIONS = 66;
+
+    /**
+     * The number of distinct frame shapes, with and without a split.
+     */
+    public static final int COUNT = PIN_COMBINATIONS * 2;
+
+    /**
+     * The position of the first shape with the supplied first ball, indexed by first ball.
+     */
+    private static final int[] FIRST_BALL_OFFSETS = new int[MARK_1 + 1];
+
+    private static final FrameShape[] SHAPES = createShapes();
+
+    private final int index;
+    private final int firstBall;
+    private final int secondBall;
+    private final boolean split;
+
+    /**
+     * Creates an instance of this class.
+     *
+     * @param index      the position of this shape within all shapes.
+     * @param firstBall  the number of pins knocked down on the first ball.
+     * @param secondBall the number of pins knocked down on the second ball.
+     * @param split      true if the bowler threw a split.
+     */
+    private FrameShape(final int index, final int firstBall, final int secondBall, final boolean split) {
+        this.index = index;
+        this.firstBall = firstBall;
+        this.secondBall = secondBall;
+        this.split = split;
+    }
+
+    /**
+     * Creates the shared shape of every legal frame, filling in the offsets of the first balls as it goes. Runs once,
+     * when the class is loaded.
+     *
+     * @return the shapes, indexed by shape index.
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private static FrameShape[] createShapes() {
+        final FrameShape[] shapes = new FrameShape[COUNT];
+        int offset = 0;
+        for (int firstBall = 0; firstBall <= MARK_1; firstBall++) {
+            FIRST_BALL_OFFSETS[firstBall] = offset;
+            for (int secondBall = 0; secondBall <= MARK_1 - firstBall; secondBall++) {
+                shapes[offset] = new FrameShape(offset, firstBall, secondBall, false);
+                shapes[offset + PIN_COMBINATIONS] =
+                        new FrameShape(offset + PIN_COMBINATIONS, firstBall, secondBall, true);
+                offset++;
+            }
+        }
+        return shapes;
+    }
+
+    /**
+     * Returns the shape for the supplied pin fall.
+     *
+     * @param firstBall  the number of pins knocked down on the first ball.
+     * @param secondBall the number of pins knocked down on the second ball.
+     * @return the shared shape.
+     */
+    public static FrameShape of(final int firstBall, final int secondBall) {
+        return of(firstBall, secondBall, false);
+    }
+
+    /**
+     * Returns the shape for the supplied pin fall.
+     *
+     * @param firstBall  the number of pins knocked down on the first ball.
+     * @param secondBall the number of pins knocked down on the second ball.
+     * @param split      supply true to indicate the bowler threw a split.
+     * @return the shared shape.
+     */
+    public static FrameShape of(final int firstBall, final int secondBall, final boolean split) {
+        if (!isLegal(firstBall, secondBall)) {
+            throw new VerifyException(String.format("Invalid frame: %s, %s", firstBall, secondBall));
+        }
+        return SHAPES[indexOf(firstBall, secondBall, split)];
+    }
+
+    /**
+     * Returns the shape stored at the supplied position within all shapes.
+     *
+     * @param index the position, from zero to {@link #COUNT} - 1.
+     * @return the shared shape.
+     */
+    public static FrameShape fromIndex(final int index) {
+        return SHAPES[index];
+    }
+
+    /**
+     * Returns the shape which represents a strike.
+     *
+     * @return the shared shape.
+     */
+    public static FrameShape strike() {
+        return SHAPES[FIRST_BALL_OFFSETS[MARK_1]];
+    }
+
+    /**
+     * Returns the shape which represents two gutter balls.
+     *
+     * @return the shared shape.
+     */
+    public static FrameShape gutterFrame() {
+        return SHAPES[0];
+    }
+
+    /**
+     * Returns true if the supplied balls form a legal frame.
+     *
+     * @param firstBall  the number of pins knocked down on the first ball.
+     * @param secondBall the number of pins knocked down on the second ball.
+     * @return true if legal.
+     */
+    public static boolean isLegal(final int firstBall, final int secondBall) {
+        return firstBall >= 0 && secondBall >= 0 && firstBall + secondBall <= MARK_1;
+    }
+
+    /**
+     * Returns the position of the shape for the supplied pin fall within all shapes. The balls are expected to
+     * form a legal frame.
+     *
+     * @param firstBall  the number of pins knocked down on the first ball.
+     * @param secondBall the number of pins knocked down on the second ball.
+     * @param split      true if the bowler threw a split.
+     * @return the position, from zero to {@link #COUNT} - 1.
+     */
+    public static int indexOf(final int firstBall, final int secondBall, final boolean split) {
+        final int index = FIRST_BALL_OFFSETS[firstBall] + secondBall;
+        return split ? index + PIN_COMBINATIONS : index;
+    }
+
+    /**
+     * Returns the position of this shape within all shapes.
+     *
+     * @return the position, from zero to {@link #COUNT} - 1.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the number of pins knocked down on the first ball.
+     *
+     * @return the first ball.
+     */
+    public int getFirstBall() {
+        return firstBall;
+    }
+
+    /**
+     * Returns the number of pins knocked down on the second ball.
+     *
+     * @return the second ball.
+     */
+    public int getSecondBall() {
+        return secondBall;
+    }
+
+    /**
+     * Returns true if the bowler threw a split.
+     *
+     * @return true if a split.
+     */
+    public boolean isSplit() {
+        return split;
+    }
+
+    /**
+     * Returns true if this shape is a strike (first ball = 10).
+     *
+     * @return true if a strike.
+     */
+    public boolean isStrike() {
+        return firstBall == MARK_1;
+    }
+
+    /**
+     * Returns true if this shape is a spare (first ball != 10 and ball1 + ball2 = 10).
+     *
+     * @return true if a spare.
+     */
+    public boolean isSpare() {
+        return firstBall != MARK_1 && getFrameTotal() == MARK_1;
+    }
+
+    /**
+     * Returns true if this shape is neither a strike nor a spare.
+     *
+     * @return true if an open frame.
+     */
+    public boolean isOpenFrame() {
+        return getFrameTotal() != MARK_1;
+    }
+
+    /**
+     * Returns the sum of the first and second balls.
+     *
+     * @return the frame total.
+     */
+    public int getFrameTotal() {
+        return firstBall + secondBall;
+    }
+
+    /**
+     * Returns a shape with the same pin fall as this shape and the supplied split flag.
+     *
+     * @param splitFlag true if the bowler threw a split.
+     * @return the shared shape.
+     */
+    public FrameShape withSplit(final boolean splitFlag) {
+        return SHAPES[indexOf(firstBall, secondBall, splitFlag)];
+    }
+
+    @Override
+    public String toString() {
+        final MoreObjects.ToStringHelper str = MoreObjects.toStringHelper(this);
+        str.add("firstBall", firstBall);
+        str.add("secondBall", secondBall);
+        str.add("split", split);
+        return str.toString();
+    }
+}
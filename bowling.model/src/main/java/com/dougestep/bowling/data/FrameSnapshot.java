@@ -0,0 +1,160 @@
+package com.dougestep.bowling.data;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+
+import java.util.UUID;
+
+/**
+ * Represents a frame of a {@link GameSnapshot}: the UID and pin fall of the frame and its running score at the time
+ * the snapshot was taken. Frame snapshots are immutable, so a frame which didn't change is shared by every snapshot of
+ * the game taken while it stayed the same.
+ *
+ * @author dougestep
+ */
+public final class FrameSnapshot {
+    /**
+     * 10 points.
+     */
+    private static final int MARK_1 = 10;
+
+    private final UUID uid;
+    private final int firstBall;
+    private final int secondBall;
+    private final boolean split;
+    private final int score;
+
+    /**
+     * Creates an instance of this class from the supplied frame.
+     *
+     * @param frame the frame.
+     */
+    FrameSnapshot(final BowlingFrame frame) {
+        uid = frame.getUid();
+        firstBall = frame.getFirstBall();
+        secondBall = frame.getSecondBall();
+        split = frame.isSplit();
+        score = frame.getScore();
+    }
+
+    /**
+     * Returns true if this snapshot shows the current UID, pin fall and score of the supplied frame.
+     *
+     * @param frame the frame.
+     * @return true if the same.
+     */
+    boolean matches(final BowlingFrame frame) {
+        return firstBall == frame.getFirstBall() && secondBall == frame.getSecondBall() && split == frame.isSplit()
+                && score == frame.getScore() && Objects.equal(uid, frame.getUid());
+    }
+
+    /**
+     * Returns the {@link UUID} of the frame.
+     *
+     * @return the UID, or null.
+     */
+    public UUID getUid() {
+        return uid;
+    }
+
+    /**
+     * Returns the number of pins knocked down on the first ball.
+     *
+     * @return the first ball.
+     */
+    public int getFirstBall() {
+        return firstBall;
+    }
+
+    /**
+     * Returns the number of pins knocked down on the second ball.
+     *
+     * @return the second ball.
+     */
+    public int getSecondBall() {
+        return secondBall;
+    }
+
+    /**
+     * Returns true if the bowler threw a split.
+     *
+     * @return true if a split.
+     */
+    public boolean isSplit() {
+        return split;
+    }
+
+    /**
+     * Returns the running score of the game at this frame.
+     *
+     * @return the score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Returns true if this frame is a strike (first ball = 10).
+     *
+     * @return true if a strike.
+     */
+    public boolean isStrike() {
+        return firstBall == MARK_1;
+    }
+
+    /**
+     * Returns true if this frame is a spare (first ball != 10 and ball1 + ball2 = 10).
+     *
+     * @return true if a spare.
+     */
+    public boolean isSpare() {
+        return firstBall != MARK_1 && firstBall + secondBall == MARK_1;
+    }
+
+    /**
+     * Returns the shared {@link FrameShape} with the pin fall of this frame.
+     *
+     * @return the frame shape.
+     */
+    public FrameShape getShape() {
+        return FrameShape.of(firstBall, secondBall, split);
+    }
+
+    /**
+     * Returns a new, mutable {@link BowlingFrame} with the UID, pin fall and score of this frame.
+     *
+     * @return the frame.
+     */
+    public BowlingFrame toBowlingFrame() {
+        return new BowlingFrame(firstBall, secondBall, split).setScore(score).setUid(uid);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof FrameSnapshot)) {
+            return false;
+        }
+        final FrameSnapshot other = (FrameSnapshot) obj;
+        return firstBall == other.firstBall && secondBall == other.secondBall && split == other.split
+                && score == other.score && Objects.equal(uid, other.uid);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(uid, firstBall, secondBall, split, score);
+    }
+
+    @Override
+    public String toString() {
+        final MoreObjects.ToStringHelper str = MoreObjects.toStringHelper(this);
+        str.add("uid", uid);
+        str.add("firstBall", firstBall);
+        str.add("secondBall", secondBall);
+        str.add("split", split);
+        str.add("score", score);
+        return str.toString();
+    }
+}
@@ -0,0 +1,298 @@
+package com.dougestep.bowling.data;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Verify;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Represents a bowling game as it was at one point in time. Unlike {@link Game}, a snapshot and its frames are
+ * immutable, so a snapshot can be handed to any number of threads, such as printers, exporters and network
+ * publishers, and read without copying or locking.
+ * <p>
+ * Snapshots of the same game share structure: {@link #of(Game, GameSnapshot)} reuses every {@link FrameSnapshot} of
+ * the previous snapshot whose frame didn't change, and returns the previous snapshot itself when nothing changed.
+ * Taking a snapshot after a ball is rolled therefore only creates the frames the ball re-scored.
+ * </p>
+ * <p>
+ * The bowler's UID and names are copied when the snapshot is taken. The snapshot also keeps a reference to the game's
+ * {@link Bowler}, which {@link #toGame()} sets on the games it returns.
+ * </p>
+ *
+ * @author dougestep
+ */
+public final class GameSnapshot {
+    private static final String NON_NULL_MSG = "expected a non-null reference to %s";
+
+    private final UUID uid;
+    private final Bowler bowler;
+    private final UUID bowlerUid;
+    private final String firstName;
+    private final String lastName;
+    private final int score;
+    private final boolean complete;
+    private final FrameSnapshot[] frames;
+    private final List<FrameSnapshot> frameList;
+
+    /**
+     * Creates an instance of this class.
+     *
+     * @param game   the game.
+     * @param frames the snapshots of the game's frames. Owned by the new instance, which never exposes or changes
+     *               the array, so it isn't copied.
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    private GameSnapshot(final Game game, final FrameSnapshot[] frames) {
+        uid = game.getUid();
+        bowler = game.getBowler();
+        bowlerUid = bowler == null ? null : bowler.getUid();
+        firstName = bowler == null ? null : bowler.getFirstName();
+        lastName = bowler == null ? null : bowler.getLastName();
+        score = game.getScore();
+        complete = game.isComplete();
+        this.frames = frames;
+        frameList = Collections.unmodifiableList(Arrays.asList(frames));
+    }
+
+    /**
+     * Returns a snapshot of the supplied game.
+     *
+     * @param game the game.
+     * @return the snapshot.
+     */
+    public static GameSnapshot of(final Game game) {
+        return of(game, null);
+    }
+
+    /**
+     * Returns a snapshot of the supplied game which shares the unchanged frames of the supplied previous snapshot. If
+     * the game hasn't changed since the previous snapshot was taken, the previous snapshot is returned.
+     *
+     * @param game     the game.
+     * @param previous an earlier snapshot of the game, or null.
+     * @return the snapshot.
+     */
+    public static GameSnapshot of(final Game game, final GameSnapshot previous) {
+        Verify.verifyNotNull(game, NON_NULL_MSG, "GameBean");
+
+        final List<BowlingFrame> gameFrames = game.getFrames() == null
+                ? Collections.<BowlingFrame>emptyList() : game.getFrames();
+        final int topFrame = gameFrames.size();
+        final int firstChanged = firstChangedFrame(gameFrames, previous);
+        if (firstChanged == topFrame && previous != null && topFrame == previous.frames.length
+                && previous.hasHeaderOf(game)) {
+            return previous;
+        }
+        return new GameSnapshot(game, snapshotFrames(gameFrames, previous, firstChanged));
+    }
+
+    /**
+     * Returns the index of the first of the supplied frames which doesn't match the frame of the previous snapshot
+     * at the same position.
+     *
+     * @param gameFrames the frames of the game.
+     * @param previous   an earlier snapshot of the game, or null.
+     * @return the index, or the number of frames if every frame matches.
+     */
+    private static int firstChangedFrame(final List<BowlingFrame> gameFrames, final GameSnapshot previous) {
+        final int sharedFrames = previous == null ? 0 : Math.min(gameFrames.size(), previous.frames.length);
+        int index = 0;
+        while (index < sharedFrames && previous.frames[index].matches(gameFrames.get(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the snapshots of the supplied frames. The frames before the first changed frame are the previous
+     * snapshot's; after it, a frame which still matches the previous snapshot's frame at its position is shared too.
+     *
+     * @param gameFrames   the frames of the game.
+     * @param previous     an earlier snapshot of the game, or null.
+     * @param firstChanged the index of the first frame which doesn't match the previous snapshot.
+     * @return the snapshots.
+     */
+    private static FrameSnapshot[] snapshotFrames(final List<BowlingFrame> gameFrames, final GameSnapshot previous,
+            final int firstChanged) {
+        final int topFrame = gameFrames.size();
+        final FrameSnapshot[] frames = new FrameSnapshot[topFrame];
+        if (firstChanged > 0) {
+            System.arraycopy(previous.frames, 0, frames, 0, firstChanged);
+        }
+        final int sharedFrames = previous == null ? 0 : Math.min(topFrame, previous.frames.length);
+        for (int index = firstChanged; index < topFrame; index++) {
+            frames[index] = snapshotFrame(gameFrames.get(index), index < sharedFrames ? previous.frames[index] : null);
+        }
+        return frames;
+    }
+
+    /**
+     * Returns the supplied earlier snapshot of a frame if it still matches the frame, or a new snapshot of it.
+     *
+     * @param frame    the frame.
+     * @param previous the earlier snapshot of the frame, or null.
+     * @return the snapshot.
+     */
+    private static FrameSnapshot snapshotFrame(final BowlingFrame frame, final FrameSnapshot previous) {
+        return previous != null && previous.matches(frame) ? previous : new FrameSnapshot(frame);
+    }
+
+    /**
+     * Returns true if this snapshot shows the current UID, bowler, score and completion of the supplied game.
+     *
+     * @param game the game.
+     * @return true if the same.
+     */
+    private boolean hasHeaderOf(final Game game) {
+        return score == game.getScore() && complete == game.isComplete() && Objects.equal(uid, game.getUid())
+                && hasBowler(game.getBowler());
+    }
+
+    /**
+     * Returns true if this snapshot was taken with the supplied bowler and shows its current UID and names.
+     *
+     * @param gameBowler the game's bowler, or null.
+     * @return true if the same.
+     */
+    private boolean hasBowler(final Bowler gameBowler) {
+        if (gameBowler == null) {
+            return bowler == null;
+        }
+        return bowler == gameBowler && Objects.equal(bowlerUid, gameBowler.getUid())
+                && Objects.equal(firstName, gameBowler.getFirstName())
+                && Objects.equal(lastName, gameBowler.getLastName());
+    }
+
+    /**
+     * Returns the {@link UUID} of the game.
+     *
+     * @return the UID.
+     */
+    public UUID getUid() {
+        return uid;
+    }
+
+    /**
+     * Returns the {@link UUID} of the bowler.
+     *
+     * @return the UID, or null.
+     */
+    public UUID getBowlerUid() {
+        return bowlerUid;
+    }
+
+    /**
+     * Returns the first name of the bowler.
+     *
+     * @return the first name, or null.
+     */
+    public String getFirstName() {
+        return firstName;
+    }
+
+    /**
+     * Returns the last name of the bowler.
+     *
+     * @return the last name, or null.
+     */
+    public String getLastName() {
+        return lastName;
+    }
+
+    /**
+     * Returns the score of the game.
+     *
+     * @return the score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Returns true if the game was complete.
+     *
+     * @return true if complete.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Returns the number of frames bowled, including the bonus frames of the tenth frame.
+     *
+     * @return the number of frames.
+     */
+    public int getNumberOfFrames() {
+        return frames.length;
+    }
+
+    /**
+     * Returns the frame associated with the supplied frame number.
+     *
+     * @param frameNumber locates the frame to retrieve.
+     * @return the frame or null if not found.
+     */
+    public FrameSnapshot getFrame(final int frameNumber) {
+        return frameNumber >= 1 && frameNumber <= frames.length ? frames[frameNumber - 1] : null;
+    }
+
+    /**
+     * Returns the frames of the game. The list can't be modified.
+     *
+     * @return the frames.
+     */
+    public List<FrameSnapshot> getFrames() {
+        return frameList;
+    }
+
+    /**
+     * Returns a new, mutable {@link Game} with the contents of this snapshot, for APIs which take a game. The game's
+     * bowler is the {@link Bowler} the snapshot was taken with; changes to the game's frames don't affect this
+     * snapshot.
+     *
+     * @return the game.
+     */
+    public Game toGame() {
+        final Game game = new Game().setUid(uid).setBowler(bowler).setScore(score).setComplete(complete);
+        game.clearFrames();
+        for (final FrameSnapshot frame : frames) {
+            game.addFrame(frame.toBowlingFrame());
+        }
+        return game;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof GameSnapshot)) {
+            return false;
+        }
+        final GameSnapshot other = (GameSnapshot) obj;
+        return score == other.score && complete == other.complete && Objects.equal(uid, other.uid)
+                && Objects.equal(bowlerUid, other.bowlerUid) && Objects.equal(firstName, other.firstName)
+                && Objects.equal(lastName, other.lastName) && Arrays.equals(frames, other.frames);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(uid, score, complete, Arrays.hashCode(frames));
+    }
+
+    @Override
+    public String toString() {
+        final MoreObjects.ToStringHelper str = MoreObjects.toStringHelper(this);
+        str.add("uid", uid);
+        str.add("firstName", firstName);
+        str.add("lastName", lastName);
+        str.add("score", score);
+        str.add("complete", complete);
+        str.add("frames", frameList);
+        return str.toString();
+    }
+}
@@ -0,0 +1,156 @@
+package com.dougestep.bowling.data;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Represents a single ball reported by a lane: the lane, the bowler who threw the ball, the pins knocked down and
+ * whether the ball left a split.
+ *
+ * @author dougestep
+ */
+@SuppressFBWarnings
+@SuppressWarnings("PMD")
+public class LaneEvent implements Serializable {
+    private static final long serialVersionUID = 2364580712369480625L;
+    private int lane;
+    private UUID bowlerUid;
+    private int pins;
+    private boolean split;
+
+    /**
+     * Creates an instance of this class.
+     */
+    public LaneEvent() {
+    }
+
+    /**
+     * Creates an instance of this class.
+     *
+     * @param lane      the lane number.
+     * @param bowlerUid the UID of the bowler who threw the ball.
+     * @param pins      the number of pins knocked down by the ball.
+     * @param split     true if the ball left a split.
+     */
+    public LaneEvent(final int lane, final UUID bowlerUid, final int pins, final boolean split) {
+        this.lane = lane;
+        this.bowlerUid = bowlerUid;
+        this.pins = pins;
+        this.split = split;
+    }
+
+    /**
+     * Returns the lane number.
+     *
+     * @return the lane.
+     */
+    public int getLane() {
+        return lane;
+    }
+
+    /**
+     * Sets the lane number.
+     *
+     * @param lane the lane.
+     * @return this instance.
+     */
+    public LaneEvent setLane(final int lane) {
+        this.lane = lane;
+        return this;
+    }
+
+    /**
+     * Returns the UID of the bowler who threw the ball.
+     *
+     * @return the bowler UID.
+     */
+    public UUID getBowlerUid() {
+        return bowlerUid;
+    }
+
+    /**
+     * Sets the UID of the bowler who threw the ball.
+     *
+     * @param bowlerUid the bowler UID.
+     * @return this instance.
+     */
+    public LaneEvent setBowlerUid(final UUID bowlerUid) {
+        this.bowlerUid = bowlerUid;
+        return this;
+    }
+
+    /**
+     * Returns the number of pins knocked down by the ball.
+     *
+     * @return the pins.
+     */
+    public int getPins() {
+        return pins;
+    }
+
+    /**
+     * Sets the number of pins knocked down by the ball.
+     *
+     * @param pins the pins.
+     * @return this instance.
+     */
+    public LaneEvent setPins(final int pins) {
+        this.pins = pins;
+        return this;
+    }
+
+    /**
+     * Returns true if the ball left a split.
+     *
+     * @return true if a split.
+     */
+    public boolean isSplit() {
+        return split;
+    }
+
+    /**
+     * Sets whether the ball left a split.
+     *
+     * @param split true if a split.
+     * @return this instance.
+     */
+    public LaneEvent setSplit(final boolean split) {
+        this.split = split;
+        return this;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final LaneEvent other = (LaneEvent) obj;
+        return this.lane == other.lane
+                && Objects.equal(this.bowlerUid, other.bowlerUid)
+                && this.pins == other.pins
+                && this.split == other.split;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(lane, bowlerUid, pins, split);
+    }
+
+    @Override
+    public String toString() {
+        final MoreObjects.ToStringHelper str = MoreObjects.toStringHelper(this);
+        str.add("lane", lane);
+        str.add("bowlerUid", bowlerUid);
+        str.add("pins", pins);
+        str.add("split", split);
+        return str.toString();
+    }
+}
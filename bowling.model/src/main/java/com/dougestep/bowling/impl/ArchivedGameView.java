@@ -0,0 +1,154 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.GameView;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.FrameShape;
+import com.google.common.base.VerifyException;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * A flyweight view reading a game archived by a {@link GameArchiveImpl} straight from its record.
+ *
+ * @author dougestep
+ */
+final class ArchivedGameView implements GameView {
+    private static final int BALL_MASK = 0x0F;
+
+    /**
+     * 10 points.
+     */
+    private static final int MARK_1 = 10;
+
+    private final GameArchiveImpl archive;
+    private ByteBuffer chunk;
+    private int base;
+    private int index;
+
+    /**
+     * Creates an instance of this class.
+     *
+     * @param archive the archive.
+     */
+    ArchivedGameView(final GameArchiveImpl archive) {
+        this.archive = archive;
+    }
+
+    @Override
+    public GameView moveTo(final int gameIndex) {
+        if (gameIndex < 0 || gameIndex >= archive.size()) {
+            throw new VerifyException("Game " + gameIndex + " is not in the archive.");
+        }
+        chunk = archive.chunkAt(gameIndex);
+        base = GameArchiveImpl.recordBase(gameIndex);
+        index = gameIndex;
+        return this;
+    }
+
+    @Override
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public UUID getUid() {
+        final long mostSignificant = chunk.getLong(base + GameArchiveImpl.UID_OFFSET);
+        final long leastSignificant = chunk.getLong(base + GameArchiveImpl.UID_OFFSET + Long.BYTES);
+        return mostSignificant == 0 && leastSignificant == 0 ? null
+                : new UUID(mostSignificant, leastSignificant);
+    }
+
+    @Override
+    public Bowler getBowler() {
+        final int bowlerIndex = chunk.getInt(base + GameArchiveImpl.BOWLER_OFFSET);
+        return bowlerIndex == GameArchiveImpl.NO_BOWLER ? null : archive.bowlerAt(bowlerIndex);
+    }
+
+    @Override
+    public int getScore() {
+        return chunk.getShort(base + GameArchiveImpl.SCORE_OFFSET);
+    }
+
+    @Override
+    public boolean isComplete() {
+        return true;
+    }
+
+    @Override
+    public int getNumberOfFrames() {
+        return chunk.get(base + GameArchiveImpl.FRAME_COUNT_OFFSET);
+    }
+
+    @Override
+    public int getFirstBall(final int frameNumber) {
+        return (balls(frameNumber) >> GameArchiveImpl.BALL_BITS) & BALL_MASK;
+    }
+
+    @Override
+    public int getSecondBall(final int frameNumber) {
+        return balls(frameNumber) & BALL_MASK;
+    }
+
+    @Override
+    public boolean isSplit(final int frameNumber) {
+        final int frameIndex = frameIndex(frameNumber);
+        return (chunk.getShort(base + GameArchiveImpl.SPLITS_OFFSET) & 1 << frameIndex) != 0;
+    }
+
+    @Override
+    public int getFrameScore(final int frameNumber) {
+        return chunk.getShort(base + GameArchiveImpl.FRAME_SCORES_OFFSET + frameIndex(frameNumber) * Short.BYTES);
+    }
+
+    @Override
+    public boolean isStrike(final int frameNumber) {
+        return getFirstBall(frameNumber) == MARK_1;
+    }
+
+    @Override
+    public boolean isSpare(final int frameNumber) {
+        return !isStrike(frameNumber) && getFrameTotal(frameNumber) == MARK_1;
+    }
+
+    @Override
+    public boolean isOpenFrame(final int frameNumber) {
+        return getFrameTotal(frameNumber) != MARK_1;
+    }
+
+    @Override
+    public int getFrameTotal(final int frameNumber) {
+        final int balls = balls(frameNumber);
+        return ((balls >> GameArchiveImpl.BALL_BITS) & BALL_MASK) + (balls & BALL_MASK);
+    }
+
+    @Override
+    public FrameShape getFrameShape(final int frameNumber) {
+        final int balls = balls(frameNumber);
+        return FrameShape.fromIndex(FrameShape.indexOf((balls >> GameArchiveImpl.BALL_BITS) & BALL_MASK,
+                balls & BALL_MASK, isSplit(frameNumber)));
+    }
+
+    /**
+     * Returns the packed balls of a frame.
+     *
+     * @param frameNumber the frame number.
+     * @return the first ball in the high four bits and the second ball in the low four bits.
+     */
+    private int balls(final int frameNumber) {
+        return chunk.get(base + GameArchiveImpl.BALLS_OFFSET + frameIndex(frameNumber));
+    }
+
+    /**
+     * Returns the zero based index of a frame of the current game.
+     *
+     * @param frameNumber the frame number.
+     * @return the index.
+     */
+    private int frameIndex(final int frameNumber) {
+        if (frameNumber < 1 || frameNumber > getNumberOfFrames()) {
+            throw new VerifyException("Frame not found for frame number " + frameNumber);
+        }
+        return frameNumber - 1;
+    }
+}
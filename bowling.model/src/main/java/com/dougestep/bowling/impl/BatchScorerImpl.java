@@ -0,0 +1,225 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.BatchScorer;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.Game;
+import com.google.common.base.Verify;
+import com.google.common.base.VerifyException;
+
+import java.util.List;
+
+/**
+ * Scores many bowling games at once from packed ball arrays. Every game is scored in a single pass over its balls
+ * without creating any objects, looking up the points of each frame in the {@link ScoringTable} shared with
+ * {@link GameManagerImpl#calculateScore()}, so both produce the same frame scores.
+ *
+ * @author dougestep
+ */
+public final class BatchScorerImpl implements BatchScorer {
+    private static final String NON_NULL_MSG = "expected a non-null reference to %s";
+    /**
+     * 10 points.
+     */
+    private static final int MARK_1 = 10;
+
+    /**
+     * Tenth frame.
+     */
+    private static final int LAST_FRAME = 10;
+
+    /**
+     * Default constructor.
+     */
+    private BatchScorerImpl() {
+    }
+
+    /**
+     * Returns an instance of this class.
+     *
+     * @return the instance.
+     */
+    public static BatchScorer newInstance() {
+        return new BatchScorerImpl();
+    }
+
+    @Override
+    public void scoreGames(final byte[] balls, final int[] gameOffsets, final int[] scores) {
+        final int gameCount = assertValidBatch(balls, gameOffsets, scores);
+        for (int game = 0; game < gameCount; game++) {
+            scoreGame(balls, gameOffsets, game, scores);
+        }
+    }
+
+    /**
+     * Asserts the supplied batch arrays are valid.
+     *
+     * @param balls       the pins knocked down by each ball of every game.
+     * @param gameOffsets the position of the first ball of each game, followed by the end of the last game.
+     * @param scores      receives the scores.
+     * @return the number of games in the batch.
+     */
+    static int assertValidBatch(final byte[] balls, final int[] gameOffsets, final int[] scores) {
+        Verify.verifyNotNull(balls, NON_NULL_MSG, "balls");
+        Verify.verifyNotNull(gameOffsets, NON_NULL_MSG, "gameOffsets");
+        Verify.verifyNotNull(scores, NON_NULL_MSG, "scores");
+        Verify.verify(gameOffsets.length > 0, "The game offsets must include the end of the last game.");
+
+        final int gameCount = gameOffsets.length - 1;
+        Verify.verify(scores.length >= gameCount * SCORES_PER_GAME,
+                "The scores array must hold %s entries per game.", SCORES_PER_GAME);
+        return gameCount;
+    }
+
+    /**
+     * Scores the game at the supplied position within the packed ball array.
+     *
+     * @param balls       the pins knocked down by each ball of every game.
+     * @param gameOffsets the position of the first ball of each game, followed by the end of the last game.
+     * @param game        the position of the game to score.
+     * @param scores      receives the scores.
+     */
+    static void scoreGame(final byte[] balls, final int[] gameOffsets, final int game, final int[] scores) {
+        final int end = gameOffsets[game + 1];
+        final int base = game * SCORES_PER_GAME;
+        int ball = gameOffsets[game];
+        int frame = 0;
+        int lastFrame = LAST_FRAME;
+        boolean tenthStrike = false;
+        int runningScore = 0;
+        while (ball < end) {
+            if (frame == lastFrame) {
+                throw invalidGame(game, "has balls after its last frame");
+            }
+            final int firstBall = pins(balls, ball, end, game);
+            final int nextBall = pins(balls, ball + 1, end, game);
+            final boolean twoBallFrame = frame < LAST_FRAME || (frame == LAST_FRAME && tenthStrike);
+            assertLegalFrame(game, twoBallFrame, firstBall, nextBall);
+            // a single bonus ball is the last ball of the game, so the balls after it count as zero.
+            runningScore += ScoringTable.points(firstBall, nextBall, pins(balls, ball + 2, end, game));
+            ball += twoBallFrame ? ScoringTable.ballsPerFrame(firstBall) : 1;
+            scores[base + frame] = runningScore;
+            frame++;
+
+            tenthStrike |= frame == LAST_FRAME && firstBall == MARK_1;
+            lastFrame = lastFrameAfter(frame, tenthStrike, firstBall, nextBall);
+        }
+        setTotal(scores, base, frame);
+    }
+
+    /**
+     * Asserts the two balls of a frame don't knock down more than 10 pins.
+     *
+     * @param game         the position of the game, for error reporting.
+     * @param twoBallFrame true if the frame gets a second ball when the first ball isn't a strike.
+     * @param firstBall    the pins knocked down by the first ball of the frame.
+     * @param nextBall     the pins knocked down by the ball after it.
+     */
+    private static void assertLegalFrame(final int game, final boolean twoBallFrame, final int firstBall,
+                                         final int nextBall) {
+        if (twoBallFrame && firstBall != MARK_1 && firstBall + nextBall > MARK_1) {
+            throw invalidGame(game, "has a frame with more than 10 pins");
+        }
+    }
+
+    /**
+     * Returns the last frame of a game once the supplied frame has been scored. A mark in the tenth frame earns a
+     * bonus frame, and a strike in the first bonus frame after a strike in the tenth earns a second one.
+     *
+     * @param frame       the number of frames scored.
+     * @param tenthStrike true if the tenth frame is a strike.
+     * @param firstBall   the pins knocked down by the first ball of the frame just scored.
+     * @param nextBall    the pins knocked down by the ball after it.
+     * @return the frame number of the last frame.
+     */
+    private static int lastFrameAfter(final int frame, final boolean tenthStrike, final int firstBall,
+                                      final int nextBall) {
+        if (frame == LAST_FRAME) {
+            return tenthStrike || firstBall + nextBall == MARK_1 ? LAST_FRAME + 1 : LAST_FRAME;
+        }
+        if (frame == LAST_FRAME + 1) {
+            return tenthStrike && firstBall == MARK_1 ? LAST_FRAME + 2 : LAST_FRAME + 1;
+        }
+        return Math.max(frame, LAST_FRAME);
+    }
+
+    /**
+     * Zeroes the scores of the frames that weren't bowled and stores the total score of a game.
+     *
+     * @param scores receives the scores.
+     * @param base   the position of the first score of the game.
+     * @param frames the number of frames bowled.
+     */
+    private static void setTotal(final int[] scores, final int base, final int frames) {
+        for (int unused = frames; unused < FRAME_SLOTS; unused++) {
+            scores[base + unused] = 0;
+        }
+        scores[base + TOTAL_OFFSET] = frames == 0 ? 0 : scores[base + Math.min(frames, LAST_FRAME) - 1];
+    }
+
+    /**
+     * Returns the pins knocked down by the ball at the supplied position, or zero if the ball belongs to the next
+     * game or hasn't been thrown.
+     *
+     * @param balls the pins knocked down by each ball of every game.
+     * @param ball  the position of the ball.
+     * @param end   the position after the last ball of the game.
+     * @param game  the position of the game, for error reporting.
+     * @return the pins knocked down.
+     */
+    private static int pins(final byte[] balls, final int ball, final int end, final int game) {
+        if (ball >= end) {
+            return 0;
+        }
+        final int pins = balls[ball];
+        if (pins < 0 || pins > MARK_1) {
+            throw invalidGame(game, "has an invalid ball");
+        }
+        return pins;
+    }
+
+    /**
+     * Returns the exception raised for a game that can't be scored.
+     *
+     * @param game   the position of the game.
+     * @param reason describes the problem.
+     * @return the exception.
+     */
+    private static VerifyException invalidGame(final int game, final String reason) {
+        return new VerifyException(String.format("Game %s %s.", game, reason));
+    }
+
+    @Override
+    public int packGame(final Game game, final byte[] balls, final int offset) {
+        return pack(game, balls, offset);
+    }
+
+    /**
+     * Writes the balls of the frames recorded for the supplied game into the supplied packed ball array.
+     *
+     * @param game   the game.
+     * @param balls  receives the balls.
+     * @param offset the position of the first ball to write.
+     * @return the position after the last ball written.
+     */
+    static int pack(final Game game, final byte[] balls, final int offset) {
+        Verify.verifyNotNull(game, NON_NULL_MSG, "GameBean");
+        Verify.verifyNotNull(balls, NON_NULL_MSG, "balls");
+
+        final List<BowlingFrame> frames = game.getFrames();
+        final int topFrame = game.getNumberOfFrames();
+        boolean tenthStrike = false;
+        int ball = offset;
+        for (int frameNumber = 1; frameNumber <= topFrame; frameNumber++) {
+            final BowlingFrame frame = frames.get(frameNumber - 1);
+            balls[ball++] = (byte) frame.getFirstBall();
+            if (frameNumber == LAST_FRAME) {
+                tenthStrike = frame.isStrike();
+            }
+            final boolean twoBallFrame = frameNumber <= LAST_FRAME || (frameNumber == LAST_FRAME + 1 && tenthStrike);
+            if (!frame.isStrike() && twoBallFrame) {
+                balls[ball++] = (byte) frame.getSecondBall();
+            }
+        }
+        return ball;
+    }
+}
@@ -0,0 +1,241 @@
+package com.dougestep.bowling.impl;
+
+import com.google.common.base.VerifyException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Reads and writes the primitive values of the binary game formats: unsigned varints, UTF-8 strings and UIDs.
+ * Writing never creates objects.
+ *
+ * @author dougestep
+ */
+final class BinaryIO {
+    /**
+     * The number of bytes a UID is written as.
+     */
+    static final int UID_BYTES = 16;
+
+    private static final int VARINT_DATA_BITS = 7;
+    private static final int VARINT_DATA_MASK = 0x7F;
+    private static final int VARINT_CONTINUE = 0x80;
+    private static final int MAX_VARINT_SHIFT = 28;
+
+    private static final int UTF8_SIX_BITS = 6;
+    private static final int UTF8_TWELVE_BITS = 12;
+    private static final int UTF8_EIGHTEEN_BITS = 18;
+    private static final int UTF8_ONE_BYTE_LIMIT = 0x80;
+    private static final int UTF8_TWO_BYTE_LIMIT = 0x800;
+    private static final int UTF8_CONTINUATION = 0x80;
+    private static final int UTF8_CONTINUATION_MASK = 0x3F;
+    private static final int UTF8_TWO_BYTE_LEAD = 0xC0;
+    private static final int UTF8_THREE_BYTE_LEAD = 0xE0;
+    private static final int UTF8_FOUR_BYTE_LEAD = 0xF0;
+    private static final int UTF8_THREE_BYTES = 3;
+    private static final int UTF8_FOUR_BYTES = 4;
+
+    /**
+     * Default constructor.
+     */
+    private BinaryIO() {
+    }
+
+    /**
+     * Returns the number of bytes the supplied non-negative value is written as by {@link #putVarint}.
+     *
+     * @param value the value.
+     * @return the number of bytes.
+     */
+    static int varintSize(final int value) {
+        int size = 1;
+        int remaining = value >>> VARINT_DATA_BITS;
+        while (remaining != 0) {
+            size++;
+            remaining >>>= VARINT_DATA_BITS;
+        }
+        return size;
+    }
+
+    /**
+     * Writes the supplied non-negative value, seven bits per byte, low bits first.
+     *
+     * @param buffer the buffer.
+     * @param value  the value.
+     */
+    static void putVarint(final ByteBuffer buffer, final int value) {
+        int remaining = value;
+        while ((remaining & ~VARINT_DATA_MASK) != 0) {
+            buffer.put((byte) ((remaining & VARINT_DATA_MASK) | VARINT_CONTINUE));
+            remaining >>>= VARINT_DATA_BITS;
+        }
+        buffer.put((byte) remaining);
+    }
+
+    /**
+     * Reads a value written by {@link #putVarint}.
+     *
+     * @param buffer the buffer.
+     * @return the value.
+     */
+    static int getVarint(final ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift <= MAX_VARINT_SHIFT; shift += VARINT_DATA_BITS) {
+            final int next = buffer.get();
+            value |= (next & VARINT_DATA_MASK) << shift;
+            if ((next & VARINT_CONTINUE) == 0) {
+                return value;
+            }
+        }
+        throw new VerifyException("Malformed varint.");
+    }
+
+    /**
+     * Returns the number of bytes the supplied string is written as by {@link #putString}.
+     *
+     * @param value the string, or null.
+     * @return the number of bytes.
+     */
+    static int stringSize(final String value) {
+        if (value == null) {
+            return 1;
+        }
+        final int length = utf8Length(value);
+        return varintSize(length + 1) + length;
+    }
+
+    /**
+     * Writes the supplied string as its UTF-8 length plus one, followed by its UTF-8 bytes. Null is written as a
+     * length of zero.
+     *
+     * @param buffer the buffer.
+     * @param value  the string, or null.
+     */
+    static void putString(final ByteBuffer buffer, final String value) {
+        if (value == null) {
+            putVarint(buffer, 0);
+            return;
+        }
+        putVarint(buffer, utf8Length(value) + 1);
+
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c < UTF8_ONE_BYTE_LIMIT) {
+                buffer.put((byte) c);
+            } else if (c < UTF8_TWO_BYTE_LIMIT) {
+                buffer.put((byte) (UTF8_TWO_BYTE_LEAD | c >> UTF8_SIX_BITS));
+                buffer.put(continuation(c, 0));
+            } else if (isSurrogatePair(value, i)) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (UTF8_FOUR_BYTE_LEAD | codePoint >> UTF8_EIGHTEEN_BITS));
+                buffer.put(continuation(codePoint, UTF8_TWELVE_BITS));
+                buffer.put(continuation(codePoint, UTF8_SIX_BITS));
+                buffer.put(continuation(codePoint, 0));
+            } else {
+                buffer.put((byte) (UTF8_THREE_BYTE_LEAD | c >> UTF8_TWELVE_BITS));
+                buffer.put(continuation(c, UTF8_SIX_BITS));
+                buffer.put(continuation(c, 0));
+            }
+        }
+    }
+
+    /**
+     * Reads a string written by {@link #putString}.
+     *
+     * @param buffer the buffer.
+     * @return the string, or null.
+     */
+    static String getString(final ByteBuffer buffer) {
+        final int length = getVarint(buffer) - 1;
+        if (length < 0) {
+            return null;
+        }
+        final String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            final byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    /**
+     * Writes the supplied UID as its most significant and least significant longs. Null is written as the nil UID.
+     *
+     * @param buffer the buffer.
+     * @param uid    the UID, or null.
+     */
+    static void putUid(final ByteBuffer buffer, final UUID uid) {
+        buffer.putLong(uid == null ? 0 : uid.getMostSignificantBits());
+        buffer.putLong(uid == null ? 0 : uid.getLeastSignificantBits());
+    }
+
+    /**
+     * Reads a UID written by {@link #putUid}.
+     *
+     * @param buffer the buffer.
+     * @return the UID, or null for the nil UID.
+     */
+    static UUID getUid(final ByteBuffer buffer) {
+        final long mostSignificant = buffer.getLong();
+        final long leastSignificant = buffer.getLong();
+        if (mostSignificant == 0 && leastSignificant == 0) {
+            return null;
+        }
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    /**
+     * Returns the number of UTF-8 bytes of the supplied string.
+     *
+     * @param value the string.
+     * @return the number of bytes.
+     */
+    private static int utf8Length(final String value) {
+        final int length = value.length();
+        int utf8Length = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c < UTF8_ONE_BYTE_LIMIT) {
+                utf8Length++;
+            } else if (c < UTF8_TWO_BYTE_LIMIT) {
+                utf8Length += 2;
+            } else if (isSurrogatePair(value, i)) {
+                utf8Length += UTF8_FOUR_BYTES;
+                i++;
+            } else {
+                utf8Length += UTF8_THREE_BYTES;
+            }
+        }
+        return utf8Length;
+    }
+
+    /**
+     * Returns true if the character at the supplied index starts a surrogate pair.
+     *
+     * @param value the string.
+     * @param index the index.
+     * @return true if a surrogate pair.
+     */
+    private static boolean isSurrogatePair(final String value, final int index) {
+        return Character.isHighSurrogate(value.charAt(index)) && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1));
+    }
+
+    /**
+     * Returns a UTF-8 continuation byte holding six bits of the supplied code point.
+     *
+     * @param codePoint the code point.
+     * @param shift     the position of the six bits.
+     * @return the continuation byte.
+     */
+    private static byte continuation(final int codePoint, final int shift) {
+        return (byte) (UTF8_CONTINUATION | (codePoint >> shift) & UTF8_CONTINUATION_MASK);
+    }
+}
@@ -0,0 +1,74 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.data.Bowler;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The bowlers of a game store or archive, each kept once and known by its position in the table. Bowlers with a UID
+ * are matched by UID; a bowler without a UID is only matched by itself.
+ * <p>
+ * Bowlers must be added by one thread at a time. Whether they can be read while another thread adds them depends on
+ * the list the table is created with.
+ * </p>
+ *
+ * @author dougestep
+ */
+final class BowlerTable {
+    private final List<Bowler> bowlers;
+    private final Map<UUID, Integer> indexesByUid = new HashMap<>();
+    private final Map<Bowler, Integer> indexesWithoutUid = new IdentityHashMap<>();
+
+    /**
+     * Creates an instance of this class.
+     *
+     * @param bowlers the empty list the bowlers are kept in.
+     */
+    BowlerTable(final List<Bowler> bowlers) {
+        this.bowlers = bowlers;
+    }
+
+    /**
+     * Returns the position of the supplied bowler in the table, adding the bowler if needed.
+     *
+     * @param bowler the bowler.
+     * @return the position.
+     */
+    int indexOf(final Bowler bowler) {
+        final UUID uid = bowler.getUid();
+        Integer bowlerIndex = uid == null ? indexesWithoutUid.get(bowler) : indexesByUid.get(uid);
+        if (bowlerIndex == null) {
+            bowlerIndex = bowlers.size();
+            bowlers.add(bowler);
+            if (uid == null) {
+                indexesWithoutUid.put(bowler, bowlerIndex);
+            } else {
+                indexesByUid.put(uid, bowlerIndex);
+            }
+        }
+        return bowlerIndex;
+    }
+
+    /**
+     * Returns the bowler at the supplied position.
+     *
+     * @param bowlerIndex the position.
+     * @return the bowler.
+     */
+    Bowler get(final int bowlerIndex) {
+        return bowlers.get(bowlerIndex);
+    }
+
+    /**
+     * Returns the number of bowlers in the table.
+     *
+     * @return the number of bowlers.
+     */
+    int size() {
+        return bowlers.size();
+    }
+}
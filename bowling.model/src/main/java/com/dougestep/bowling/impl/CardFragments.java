@@ -0,0 +1,187 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.FrameShape;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Holds the pre-rendered cells of a score card. The mark cell of a frame depends only on its {@link FrameShape} and
+ * its position, and the score cell only on the score and whether it is the tenth frame, so every legal cell is
+ * rendered once by {@link PrintManagerImpl} and rendering a card becomes a sequence of array copies. A frame whose
+ * cell isn't held, such as a frame of an unchecked game with more than ten pins, is rendered on every call.
+ *
+ * @author dougestep
+ */
+final class CardFragments {
+    /**
+     * 10 points.
+     */
+    private static final int MARK_1 = 10;
+
+    /**
+     * The highest score a frame can show.
+     */
+    private static final int PERFECT_GAME = 300;
+
+    /**
+     * The number of positions of the tenth frame: the tenth frame and its two bonus frames.
+     */
+    private static final int TENTH_POSITIONS = 3;
+
+    /**
+     * The mark cells of the first nine frames, indexed by {@link FrameShape#getIndex()}.
+     */
+    private static final char[][] MARK_CELLS = new char[FrameShape.COUNT][];
+
+    /**
+     * The mark cells of the tenth frame and its bonus frames, indexed by position and then by
+     * {@link FrameShape#getIndex()}.
+     */
+    private static final char[][][] TENTH_MARK_CELLS = new char[TENTH_POSITIONS][FrameShape.COUNT][];
+
+    /**
+     * The score cells of the first nine frames and of the tenth frame, indexed by score.
+     */
+    private static final char[][] SCORE_CELLS = new char[PERFECT_GAME + 1][];
+    private static final char[][] TENTH_SCORE_CELLS = new char[PERFECT_GAME + 1][];
+
+    private static final char[] EMPTY_MARK_CELL;
+    private static final char[] EMPTY_TENTH_MARK_CELLS;
+    private static final char[] EMPTY_SCORE_CELL;
+    private static final char[] EMPTY_TENTH_SCORE_CELL;
+
+    static {
+        final StringBuilder out = new StringBuilder(PrintManagerImpl.LINE_LENGTH);
+        for (int index = 0; index < FrameShape.COUNT; index++) {
+            final FrameShape shape = FrameShape.fromIndex(index);
+            final BowlingFrame frame = BowlingFrame.fromShape(shape);
+            PrintManagerImpl.renderMarkLinePreTenthFrame(out, shape.getFirstBall(), shape.getSecondBall(),
+                    shape.isSplit());
+            MARK_CELLS[index] = drain(out);
+            for (int position = 0; position < TENTH_POSITIONS; position++) {
+                PrintManagerImpl.renderMarkLineTenthFrame(out, frame, MARK_1 + position);
+                TENTH_MARK_CELLS[position][index] = drain(out);
+            }
+        }
+
+        final BowlingFrame frame = new BowlingFrame();
+        for (int score = 0; score <= PERFECT_GAME; score++) {
+            frame.setScore(score);
+            PrintManagerImpl.renderScoreCell(out, 1, frame);
+            SCORE_CELLS[score] = drain(out);
+            PrintManagerImpl.renderScoreCell(out, MARK_1, frame);
+            TENTH_SCORE_CELLS[score] = drain(out);
+        }
+
+        PrintManagerImpl.renderMarkLinePreTenthFrame(out, PrintManagerImpl.NO_BALL, PrintManagerImpl.NO_BALL, false);
+        EMPTY_MARK_CELL = drain(out);
+        PrintManagerImpl.renderMarkLineTenthFrames(out, Collections.<BowlingFrame>emptyList());
+        EMPTY_TENTH_MARK_CELLS = drain(out);
+        PrintManagerImpl.renderScoreCell(out, 1, null);
+        EMPTY_SCORE_CELL = drain(out);
+        PrintManagerImpl.renderScoreCell(out, MARK_1, null);
+        EMPTY_TENTH_SCORE_CELL = drain(out);
+    }
+
+    /**
+     * Default constructor.
+     */
+    private CardFragments() {
+    }
+
+    /**
+     * Returns the characters of the supplied buffer and empties it.
+     *
+     * @param out the buffer.
+     * @return the characters.
+     */
+    private static char[] drain(final StringBuilder out) {
+        final char[] chars = new char[out.length()];
+        out.getChars(0, chars.length, chars, 0);
+        out.setLength(0);
+        return chars;
+    }
+
+    /**
+     * Returns the position of the shape of the supplied frame within all shapes, or -1 if the frame doesn't have a
+     * legal shape.
+     *
+     * @param frame the frame.
+     * @return the position.
+     */
+    private static int shapeIndex(final BowlingFrame frame) {
+        final int firstBall = frame.getFirstBall();
+        final int secondBall = frame.getSecondBall();
+        if (!FrameShape.isLegal(firstBall, secondBall)) {
+            return -1;
+        }
+        return FrameShape.indexOf(firstBall, secondBall, frame.isSplit());
+    }
+
+    /**
+     * Appends the mark line cell of a frame before the tenth frame.
+     *
+     * @param out   the buffer.
+     * @param frame the {@link BowlingFrame}, or null if the frame hasn't been bowled.
+     */
+    static void appendMarkCell(final StringBuilder out, final BowlingFrame frame) {
+        if (frame == null) {
+            out.append(EMPTY_MARK_CELL);
+            return;
+        }
+        final int index = shapeIndex(frame);
+        if (index < 0) {
+            PrintManagerImpl.renderMarkLinePreTenthFrame(out, frame.getFirstBall(), frame.getSecondBall(),
+                    frame.isSplit());
+        } else {
+            out.append(MARK_CELLS[index]);
+        }
+    }
+
+    /**
+     * Appends the part of the mark line that displays the balls of the tenth frame and its bonus frames.
+     *
+     * @param out    the buffer.
+     * @param frames the list of {@link BowlingFrame} elements.
+     */
+    static void appendTenthMarkCells(final StringBuilder out, final List<BowlingFrame> frames) {
+        final int topFrame = frames.size();
+        if (topFrame < MARK_1) {
+            out.append(EMPTY_TENTH_MARK_CELLS);
+            return;
+        }
+        for (int frameNumber = MARK_1; frameNumber <= topFrame; frameNumber++) {
+            final BowlingFrame frame = frames.get(frameNumber - 1);
+            final int index = shapeIndex(frame);
+            final int position = frameNumber - MARK_1;
+            if (index < 0 || position >= TENTH_POSITIONS) {
+                PrintManagerImpl.renderMarkLineTenthFrame(out, frame, frameNumber);
+            } else {
+                out.append(TENTH_MARK_CELLS[position][index]);
+            }
+        }
+    }
+
+    /**
+     * Appends the cell of the score line that displays the score of the supplied frame.
+     *
+     * @param out         the buffer.
+     * @param frameNumber the frame number, from 1 to 10.
+     * @param frame       the {@link BowlingFrame}, or null if the frame hasn't been bowled.
+     */
+    static void appendScoreCell(final StringBuilder out, final int frameNumber, final BowlingFrame frame) {
+        final boolean tenth = frameNumber == MARK_1;
+        if (frame == null) {
+            out.append(tenth ? EMPTY_TENTH_SCORE_CELL : EMPTY_SCORE_CELL);
+            return;
+        }
+        final int score = frame.getScore();
+        if (score < 0 || score > PERFECT_GAME) {
+            PrintManagerImpl.renderScoreCell(out, frameNumber, frame);
+        } else {
+            out.append(tenth ? TENTH_SCORE_CELLS[score] : SCORE_CELLS[score]);
+        }
+    }
+}
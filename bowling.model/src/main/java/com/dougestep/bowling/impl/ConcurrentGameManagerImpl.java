@@ -0,0 +1,210 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.GameManager;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.FrameShape;
+import com.dougestep.bowling.data.FrameSnapshot;
+import com.dougestep.bowling.data.Game;
+import com.dougestep.bowling.data.GameSnapshot;
+
+import java.util.Collections;
+
+/**
+ * Manages a bowling game that is updated by one thread and read by others, such as a lane thread recording balls
+ * while a scoreboard renders the game. Mutations are serialized and applied to a private {@link GameManagerImpl};
+ * once a mutation has been scored, a {@link GameSnapshot} of the game is published through a volatile field. Readers
+ * only ever see a published snapshot, so they never block and never see a game part way through being re-scored.
+ * Each snapshot shares the frames the mutation didn't change with the snapshot before it, so publishing one only
+ * copies the re-scored frames.
+ * <p>
+ * The {@link Game} returned by {@link #getGame()} is a copy of the published snapshot, built the first time it is
+ * asked for: the frame list can't be modified and the game and its frames must be treated as read-only. Readers
+ * which don't need a {@link Game} should use {@link #getSnapshot()}, which never copies.
+ * </p>
+ *
+ * @author dougestep
+ */
+public final class ConcurrentGameManagerImpl implements GameManager {
+    private final GameManager writer;
+    private volatile Published published;
+
+    /**
+     * Creates an instance of this class.
+     *
+     * @param player the bowler.
+     */
+    private ConcurrentGameManagerImpl(final Bowler player) {
+        writer = GameManagerImpl.newGame(player);
+        published = new Published(writer.getSnapshot());
+    }
+
+    /**
+     * Creates an instance of this class.
+     *
+     * @param player the bowler.
+     * @return the instance.
+     */
+    public static GameManager newGame(final Bowler player) {
+        return new ConcurrentGameManagerImpl(player);
+    }
+
+    @Override
+    public synchronized GameManager addFrame(final BowlingFrame frame) {
+        try {
+            writer.addFrame(frame);
+        } finally {
+            publish();
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized GameManager addFrames(final BowlingFrame[] frames) {
+        try {
+            writer.addFrames(frames);
+        } finally {
+            publish();
+        }
+        return this;
+    }
+
+    @Override
+    public GameManager roll(final int pins) {
+        return roll(pins, false);
+    }
+
+    @Override
+    public synchronized GameManager roll(final int pins, final boolean split) {
+        try {
+            writer.roll(pins, split);
+        } finally {
+            publish();
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized GameManager calculateScore() {
+        try {
+            writer.calculateScore();
+        } finally {
+            publish();
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized GameManager replaceFrame(final int frameNumber, final BowlingFrame frame) {
+        try {
+            writer.replaceFrame(frameNumber, frame);
+        } finally {
+            publish();
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized GameManager deleteFrame(final int frameNumber) {
+        try {
+            writer.deleteFrame(frameNumber);
+        } finally {
+            publish();
+        }
+        return this;
+    }
+
+    /**
+     * Publishes a snapshot of the writer's game to readers. Must be called while holding this instance's lock.
+     */
+    private void publish() {
+        final GameSnapshot snapshot = writer.getSnapshot();
+        if (snapshot != published.snapshot) {
+            published = new Published(snapshot);
+        }
+    }
+
+    /**
+     * Returns the copy of the frame associated with the supplied frame number from the latest published game.
+     *
+     * @param frameNumber locates the frame to retrieve.
+     * @return the frame or null if not found.
+     */
+    @Override
+    public BowlingFrame retrieveFrame(final int frameNumber) {
+        final Game game = getGame();
+        if (frameNumber < 1 || frameNumber > game.getNumberOfFrames()) {
+            return null;
+        }
+        return game.getFrames().get(frameNumber - 1);
+    }
+
+    @Override
+    public FrameShape retrieveFrameShape(final int frameNumber) {
+        final FrameSnapshot frame = published.snapshot.getFrame(frameNumber);
+        return frame == null ? null : frame.getShape();
+    }
+
+    @Override
+    public int retrieveFrameScore(final int frameNumber) {
+        final FrameSnapshot frame = published.snapshot.getFrame(frameNumber);
+        return frame == null ? 0 : frame.getScore();
+    }
+
+    /**
+     * Returns a read-only copy of the latest published snapshot. The copy doesn't change after it has been built.
+     *
+     * @return the game.
+     */
+    @Override
+    public Game getGame() {
+        return published.getGame();
+    }
+
+    /**
+     * Returns the latest published snapshot. Never blocks.
+     *
+     * @return the snapshot.
+     */
+    @Override
+    public GameSnapshot getSnapshot() {
+        return published.snapshot;
+    }
+
+    /**
+     * A published snapshot and the read-only copy of it returned by {@link #getGame()}.
+     */
+    private static final class Published {
+        private final GameSnapshot snapshot;
+
+        /**
+         * The copy, built the first time it is asked for. Readers racing to build it may each build one; the copies
+         * are equal.
+         */
+        private volatile Game game;
+
+        /**
+         * Creates an instance of this class.
+         *
+         * @param snapshot the snapshot.
+         */
+        Published(final GameSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        /**
+         * Returns the read-only copy of the snapshot.
+         *
+         * @return the game.
+         */
+        Game getGame() {
+            Game copy = game;
+            if (copy == null) {
+                copy = snapshot.toGame();
+                copy.setFrames(Collections.unmodifiableList(copy.getFrames()));
+                game = copy;
+            }
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.Game;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes games as RFC 4180 CSV with a header row and one row per frame, including the bonus frames of the tenth
+ * frame. The game and bowler columns are repeated on every row of a game. A missing UID or name is written as an
+ * empty field, and a field holding a comma, quote or line break is quoted.
+ *
+ * @author dougestep
+ */
+final class CsvExportFormat implements ExportFormat {
+    private static final String HEADER =
+            "gameUid,bowlerUid,firstName,lastName,frame,firstBall,secondBall,split,frameScore,gameScore,complete";
+    private static final String LINE_END = "\r\n";
+    private static final char DELIM = ',';
+    private static final char QUOTE = '"';
+
+    @Override
+    public String getContentType() {
+        return "text/csv";
+    }
+
+    @Override
+    public void startDocument(final Appendable out) throws IOException {
+        out.append(HEADER).append(LINE_END);
+    }
+
+    @Override
+    public void writeGame(final Appendable out, final Game game, final boolean first) throws IOException {
+        final List<BowlingFrame> frames = GameExporterImpl.framesOf(game);
+        if (frames.isEmpty()) {
+            appendGameColumns(out, game);
+            out.append(",,,,");
+            appendTotals(out, game);
+            return;
+        }
+        for (int index = 0; index < frames.size(); index++) {
+            final BowlingFrame frame = frames.get(index);
+            appendGameColumns(out, game);
+            GameExporterImpl.appendInt(out, index + 1);
+            out.append(DELIM);
+            GameExporterImpl.appendInt(out, frame.getFirstBall());
+            out.append(DELIM);
+            GameExporterImpl.appendInt(out, frame.getSecondBall());
+            out.append(DELIM).append(frame.isSplit() ? "true" : "false").append(DELIM);
+            GameExporterImpl.appendInt(out, frame.getScore());
+            appendTotals(out, game);
+        }
+    }
+
+    @Override
+    public void endDocument(final Appendable out) {
+        // the last row ends with a line end.
+    }
+
+    /**
+     * Appends the game and bowler columns, each followed by a delimiter.
+     *
+     * @param out  the output.
+     * @param game the game.
+     * @throws IOException if the output can't be written.
+     */
+    private static void appendGameColumns(final Appendable out, final Game game) throws IOException {
+        appendUid(out, game.getUid());
+        final Bowler bowler = game.getBowler();
+        if (bowler == null) {
+            out.append(",,,");
+            return;
+        }
+        appendUid(out, bowler.getUid());
+        appendField(out, bowler.getFirstName());
+        appendField(out, bowler.getLastName());
+    }
+
+    /**
+     * Appends the score and completion columns of the game, ending the row.
+     *
+     * @param out  the output.
+     * @param game the game.
+     * @throws IOException if the output can't be written.
+     */
+    private static void appendTotals(final Appendable out, final Game game) throws IOException {
+        out.append(DELIM);
+        GameExporterImpl.appendInt(out, game.getScore());
+        out.append(DELIM).append(game.isComplete() ? "true" : "false").append(LINE_END);
+    }
+
+    /**
+     * Appends the supplied UID, followed by a delimiter.
+     *
+     * @param out the output.
+     * @param uid the UID, or null.
+     * @throws IOException if the output can't be written.
+     */
+    private static void appendUid(final Appendable out, final UUID uid) throws IOException {
+        if (uid != null) {
+            out.append(uid.toString());
+        }
+        out.append(DELIM);
+    }
+
+    /**
+     * Appends the supplied text, quoted if needed, followed by a delimiter.
+     *
+     * @param out  the output.
+     * @param text the text, or null.
+     * @throws IOException if the output can't be written.
+     */
+    private static void appendField(final Appendable out, final String text) throws IOException {
+        if (text != null) {
+            if (needsQuotes(text)) {
+                out.append(QUOTE);
+                for (int index = 0; index < text.length(); index++) {
+                    final char ch = text.charAt(index);
+                    if (ch == QUOTE) {
+                        out.append(QUOTE);
+                    }
+                    out.append(ch);
+                }
+                out.append(QUOTE);
+            } else {
+                out.append(text);
+            }
+        }
+        out.append(DELIM);
+    }
+
+    /**
+     * Returns true if the supplied text must be quoted.
+     *
+     * @param text the text.
+     * @return true if it holds a delimiter, quote or line break.
+     */
+    private static boolean needsQuotes(final String text) {
+        for (int index = 0; index < text.length(); index++) {
+            final char ch = text.charAt(index);
+            if (ch == DELIM || ch == QUOTE || ch == '\r' || ch == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
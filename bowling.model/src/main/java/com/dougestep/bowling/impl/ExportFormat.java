@@ -0,0 +1,48 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.data.Game;
+
+import java.io.IOException;
+
+/**
+ * Writes the parts of an exported document in one text format. {@link GameExporterImpl} writes the start of the
+ * document, then each game as it is read, then the end of the document. A format keeps no state between the parts,
+ * so one instance is shared by every export.
+ *
+ * @author dougestep
+ */
+interface ExportFormat {
+
+    /**
+     * Returns the media type of the documents written in this format.
+     *
+     * @return the media type.
+     */
+    String getContentType();
+
+    /**
+     * Writes the start of a document.
+     *
+     * @param out the output.
+     * @throws IOException if the output can't be written.
+     */
+    void startDocument(Appendable out) throws IOException;
+
+    /**
+     * Writes one game of a document.
+     *
+     * @param out   the output.
+     * @param game  the game.
+     * @param first true if the game is the first game of the document.
+     * @throws IOException if the output can't be written.
+     */
+    void writeGame(Appendable out, Game game, boolean first) throws IOException;
+
+    /**
+     * Writes the end of a document.
+     *
+     * @param out the output.
+     * @throws IOException if the output can't be written.
+     */
+    void endDocument(Appendable out) throws IOException;
+}
@@ -0,0 +1,60 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.GameManager;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.FrameShape;
+import com.dougestep.bowling.data.Game;
+import com.dougestep.bowling.data.GameSnapshot;
+
+/**
+ * A game manager which wraps another manager. The calls which read the game are forwarded to the wrapped manager;
+ * subclasses implement the calls which change it, adding their own work around the wrapped manager's.
+ *
+ * @author dougestep
+ */
+abstract class ForwardingGameManager implements GameManager {
+    private final GameManager delegate;
+
+    /**
+     * Creates an instance of this class.
+     *
+     * @param delegate the wrapped manager.
+     */
+    ForwardingGameManager(final GameManager delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Returns the wrapped manager.
+     *
+     * @return the manager.
+     */
+    GameManager delegate() {
+        return delegate;
+    }
+
+    @Override
+    public BowlingFrame retrieveFrame(final int frameNumber) {
+        return delegate.retrieveFrame(frameNumber);
+    }
+
+    @Override
+    public FrameShape retrieveFrameShape(final int frameNumber) {
+        return delegate.retrieveFrameShape(frameNumber);
+    }
+
+    @Override
+    public int retrieveFrameScore(final int frameNumber) {
+        return delegate.retrieveFrameScore(frameNumber);
+    }
+
+    @Override
+    public Game getGame() {
+        return delegate.getGame();
+    }
+
+    @Override
+    public GameSnapshot getSnapshot() {
+        return delegate.getSnapshot();
+    }
+}
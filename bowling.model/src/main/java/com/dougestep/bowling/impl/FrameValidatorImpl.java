@@ -0,0 +1,224 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.FrameValidator;
+import com.dougestep.bowling.InvalidFrameException;
+import com.dougestep.bowling.ValidationError;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.FrameShape;
+import com.dougestep.bowling.data.Game;
+import com.google.common.base.Verify;
+
+import java.util.List;
+
+/**
+ * Validates bowling frames. The checks only compare primitives and return shared {@link ValidationError} constants,
+ * so a frame that passes costs no allocation; the message of a rejected frame is only formatted when it is raised
+ * with {@link #invalidFrame(ValidationError, BowlingFrame, int)}. {@link GameManagerImpl} applies the same checks.
+ *
+ * @author dougestep
+ */
+public final class FrameValidatorImpl implements FrameValidator {
+    /**
+     * 10 points.
+     */
+    private static final int MARK_1 = 10;
+
+    /**
+     * Tenth frame.
+     */
+    private static final int LAST_FRAME = 10;
+
+    /**
+     * Perfect game.
+     */
+    private static final int PERFECT_GAME = 300;
+
+    /**
+     * Default constructor.
+     */
+    private FrameValidatorImpl() {
+    }
+
+    /**
+     * Returns an instance of this class.
+     *
+     * @return the instance.
+     */
+    public static FrameValidator newInstance() {
+        return new FrameValidatorImpl();
+    }
+
+    @Override
+    public ValidationError validateFrame(final BowlingFrame frame) {
+        return checkFrame(frame);
+    }
+
+    @Override
+    public ValidationError validateGame(final Game game) {
+        Verify.verifyNotNull(game, "expected a non-null reference to %s", "GameBean");
+
+        final List<BowlingFrame> frames = game.getFrames();
+        final int topFrame = game.getNumberOfFrames();
+        FrameShape tenth = null;
+        FrameShape eleventh = null;
+        for (int frameNumber = 1; frameNumber <= topFrame; frameNumber++) {
+            final BowlingFrame frame = frames.get(frameNumber - 1);
+            ValidationError error = checkFrame(frame);
+            if (error.isValid()) {
+                error = checkBonusFrame(frameNumber, tenth, eleventh, frame.getSecondBall());
+            }
+            if (!error.isValid()) {
+                return error;
+            }
+
+            if (frameNumber == LAST_FRAME) {
+                tenth = frame.getShape();
+            } else if (frameNumber == LAST_FRAME + 1) {
+                eleventh = frame.getShape();
+            }
+        }
+        return ValidationError.NONE;
+    }
+
+    /**
+     * Validates the balls and score of the supplied frame.
+     *
+     * @param frame the frame.
+     * @return {@link ValidationError#NONE} or the first rule the frame breaks.
+     */
+    static ValidationError checkFrame(final BowlingFrame frame) {
+        final ValidationError error = checkBalls(frame);
+        if (error.isValid() && (frame.getScore() < 0 || frame.getScore() > PERFECT_GAME)) {
+            return ValidationError.INVALID_SCORE;
+        }
+        return error;
+    }
+
+    /**
+     * Validates the balls of the supplied frame: each ball knocks down 0 to 10 pins, and no more than 10 between
+     * them. A frame that passes can be scored, so these checks are kept even for trusted frames.
+     *
+     * @param frame the frame.
+     * @return {@link ValidationError#NONE} or the first rule the frame breaks.
+     */
+    static ValidationError checkBalls(final BowlingFrame frame) {
+        if (frame == null) {
+            return ValidationError.NULL_FRAME;
+        }
+        final int firstBall = frame.getFirstBall();
+        if (firstBall < 0 || firstBall > MARK_1) {
+            return ValidationError.INVALID_FIRST_BALL;
+        }
+        final int secondBall = frame.getSecondBall();
+        if (secondBall < 0 || secondBall > MARK_1) {
+            return ValidationError.INVALID_SECOND_BALL;
+        }
+        if (firstBall + secondBall > MARK_1) {
+            return ValidationError.TOO_MANY_PINS;
+        }
+        return ValidationError.NONE;
+    }
+
+    /**
+     * Validates the frame recorded at the supplied frame number against the bonus frame rules of the tenth frame.
+     * The first bonus frame is earned by a mark in the tenth frame and gets a second ball only after a strike; the
+     * last bonus frame is earned by strikes in the tenth and first bonus frames and is a single ball.
+     *
+     * @param frameNumber the frame number.
+     * @param tenth       the tenth frame, or null if the frame is before the bonus frames.
+     * @param eleventh    the first bonus frame, or null if the frame isn't the last bonus frame.
+     * @param secondBall  the second ball of the frame.
+     * @return {@link ValidationError#NONE} or the first rule the frame breaks.
+     */
+    static ValidationError checkBonusFrame(final int frameNumber, final FrameShape tenth, final FrameShape eleventh,
+            final int secondBall) {
+        if (frameNumber <= LAST_FRAME) {
+            return ValidationError.NONE;
+        }
+        if (frameNumber > GameState.MAX_FRAMES) {
+            return ValidationError.TOO_MANY_FRAMES;
+        }
+        if (frameNumber == LAST_FRAME + 1) {
+            return checkFirstBonusFrame(tenth, secondBall);
+        }
+        return checkLastBonusFrame(tenth, eleventh, secondBall);
+    }
+
+    /**
+     * Validates the first bonus frame, which a mark in the tenth frame earns. It gets a second ball only after a
+     * strike.
+     *
+     * @param tenth      the tenth frame.
+     * @param secondBall the second ball of the bonus frame.
+     * @return {@link ValidationError#NONE} or the first rule the frame breaks.
+     */
+    private static ValidationError checkFirstBonusFrame(final FrameShape tenth, final int secondBall) {
+        if (tenth.isOpenFrame()) {
+            return ValidationError.BONUS_FRAME_NOT_EARNED;
+        }
+        return tenth.isStrike() || secondBall == 0 ? ValidationError.NONE : ValidationError.EXTRA_BONUS_BALL;
+    }
+
+    /**
+     * Validates the last bonus frame, which strikes in the tenth and first bonus frames earn. It is a single ball.
+     *
+     * @param tenth      the tenth frame.
+     * @param eleventh   the first bonus frame.
+     * @param secondBall the second ball of the bonus frame.
+     * @return {@link ValidationError#NONE} or the first rule the frame breaks.
+     */
+    private static ValidationError checkLastBonusFrame(final FrameShape tenth, final FrameShape eleventh,
+            final int secondBall) {
+        if (!tenth.isStrike() || !eleventh.isStrike()) {
+            return ValidationError.BONUS_FRAME_NOT_EARNED;
+        }
+        return secondBall == 0 ? ValidationError.NONE : ValidationError.EXTRA_BONUS_BALL;
+    }
+
+    /**
+     * Returns the exception raised for a rejected ball. The message names the frame the ball would have been
+     * recorded in and the ball.
+     *
+     * @param frameNumber the frame number the ball would have been recorded in.
+     * @param pins        the rejected number of pins.
+     * @return the exception.
+     */
+    static InvalidFrameException invalidBall(final int frameNumber, final int pins) {
+        return new InvalidFrameException(ValidationError.INVALID_BALL, frameNumber, pins);
+    }
+
+    /**
+     * Returns the exception raised for a rejected frame. The message names the value that broke the rule. A rejected
+     * ball is raised with {@link #invalidBall(int, int)}.
+     *
+     * @param error       the rule the frame breaks.
+     * @param frame       the frame, or null if the error isn't about a frame's balls or score.
+     * @param frameNumber the frame number of the frame.
+     * @return the exception.
+     */
+    static InvalidFrameException invalidFrame(final ValidationError error, final BowlingFrame frame,
+            final int frameNumber) {
+        final Object detail;
+        switch (error) {
+            case NULL_FRAME:
+                detail = "FrameBean";
+                break;
+            case INVALID_FIRST_BALL:
+                detail = frame.getFirstBall();
+                break;
+            case INVALID_SECOND_BALL:
+                detail = frame.getSecondBall();
+                break;
+            case INVALID_SCORE:
+                detail = frame.getScore();
+                break;
+            case TOO_MANY_FRAMES:
+                detail = GameState.MAX_FRAMES;
+                break;
+            default:
+                detail = frameNumber;
+                break;
+        }
+        return new InvalidFrameException(error, detail);
+    }
+}
@@ -0,0 +1,271 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.GameArchive;
+import com.dougestep.bowling.GameView;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.FrameShape;
+import com.dougestep.bowling.data.Game;
+import com.google.common.base.Verify;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps finished bowling games in fixed-width {@value #RECORD_SIZE} byte records outside of the Java heap, either in
+ * direct buffers or in buffers mapped from a scratch file. Records are allocated in chunks of 1 MiB, so archiving a
+ * season of games adds a handful of buffer objects to the heap rather than a {@link Game} and a dozen
+ * {@link BowlingFrame} objects per game. Bowlers are kept once each in a small table on the heap.
+ * <p>
+ * A record holds the game UID, the bowler's position in the bowler table, the game score, the frame count, the split
+ * flags, each frame's balls packed four bits per ball and each frame's running score. Frame UIDs aren't kept.
+ * </p>
+ * <p>
+ * Games are archived under this instance's lock. Views may read any game below {@link #size()} from any thread
+ * without locking; each thread should use its own views.
+ * </p>
+ *
+ * @author dougestep
+ */
+public final class GameArchiveImpl implements GameArchive {
+    private static final String NON_NULL_MSG = "expected a non-null reference to %s";
+
+    /**
+     * The size of an archived game in bytes.
+     */
+    public static final int RECORD_SIZE = 64;
+
+    private static final int RECORDS_PER_CHUNK = 16384;
+    private static final int CHUNK_SIZE = RECORD_SIZE * RECORDS_PER_CHUNK;
+
+    static final int UID_OFFSET = 0;
+    static final int BOWLER_OFFSET = 16;
+    static final int SCORE_OFFSET = 20;
+    static final int FRAME_COUNT_OFFSET = 22;
+    static final int SPLITS_OFFSET = 24;
+    static final int BALLS_OFFSET = 26;
+    static final int FRAME_SCORES_OFFSET = 38;
+
+    static final int NO_BOWLER = -1;
+    static final int BALL_BITS = 4;
+    private static final int MAX_FRAMES = 12;
+
+    private final Path file;
+    private final BowlerTable bowlers = new BowlerTable(new CopyOnWriteArrayList<Bowler>());
+    private volatile ByteBuffer[] chunks = new ByteBuffer[0];
+    private volatile int size;
+
+    /**
+     * Creates an instance of this class.
+     *
+     * @param file the scratch file to map chunks from, or null to allocate direct buffers.
+     */
+    private GameArchiveImpl(final Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Returns an instance of this class which keeps games in direct buffers.
+     *
+     * @return the instance.
+     */
+    public static GameArchive newInstance() {
+        return new GameArchiveImpl(null);
+    }
+
+    /**
+     * Returns an instance of this class which keeps games in buffers mapped from the supplied scratch file, letting
+     * the operating system page games that aren't being read out of memory. Any existing content of the file is
+     * discarded; the file isn't a durable copy of the archive.
+     *
+     * @param file the scratch file.
+     * @return the instance.
+     * @throws IOException if the file can't be created.
+     */
+    public static GameArchive newInstance(final Path file) throws IOException {
+        Verify.verifyNotNull(file, NON_NULL_MSG, "file");
+        Files.write(file, new byte[0]);
+        return new GameArchiveImpl(file);
+    }
+
+    @Override
+    public synchronized int archive(final Game game) {
+        assertArchivable(game);
+        final int gameIndex = size;
+        final ByteBuffer chunk = chunkFor(gameIndex);
+        final int base = recordBase(gameIndex);
+        writeHeader(chunk, base, game);
+        writeFrames(chunk, base, game);
+        size = gameIndex + 1;
+        return gameIndex;
+    }
+
+    /**
+     * Asserts the supplied game is complete and its frames fit in a record.
+     *
+     * @param game the game.
+     */
+    private static void assertArchivable(final Game game) {
+        Verify.verifyNotNull(game, NON_NULL_MSG, "GameBean");
+        Verify.verify(game.isComplete(), "Only a complete game can be archived.");
+        final int topFrame = game.getNumberOfFrames();
+        Verify.verify(topFrame <= MAX_FRAMES, "A game can not have more than %s frames.", MAX_FRAMES);
+        for (int index = 0; index < topFrame; index++) {
+            final BowlingFrame frame = game.getFrames().get(index);
+            Verify.verify(FrameShape.isLegal(frame.getFirstBall(), frame.getSecondBall()), "Invalid frame %s: %s, %s",
+                    index + 1, frame.getFirstBall(), frame.getSecondBall());
+        }
+    }
+
+    /**
+     * Writes the game UID, bowler, score and frame count of the supplied game to its record. Must be called while
+     * holding this instance's lock.
+     *
+     * @param chunk the chunk holding the record.
+     * @param base  the position of the record within the chunk.
+     * @param game  the game.
+     */
+    private void writeHeader(final ByteBuffer chunk, final int base, final Game game) {
+        final UUID uid = game.getUid();
+        chunk.putLong(base + UID_OFFSET, uid == null ? 0 : uid.getMostSignificantBits());
+        chunk.putLong(base + UID_OFFSET + Long.BYTES, uid == null ? 0 : uid.getLeastSignificantBits());
+        chunk.putInt(base + BOWLER_OFFSET, game.getBowler() == null ? NO_BOWLER : bowlers.indexOf(game.getBowler()));
+        chunk.putShort(base + SCORE_OFFSET, (short) game.getScore());
+        chunk.put(base + FRAME_COUNT_OFFSET, (byte) game.getNumberOfFrames());
+    }
+
+    /**
+     * Writes the balls, running scores and split flags of the supplied game's frames to its record. The frames after
+     * the game's last frame are written as zero.
+     *
+     * @param chunk the chunk holding the record.
+     * @param base  the position of the record within the chunk.
+     * @param game  the game.
+     */
+    private static void writeFrames(final ByteBuffer chunk, final int base, final Game game) {
+        final int topFrame = game.getNumberOfFrames();
+        int splits = 0;
+        for (int index = 0; index < topFrame; index++) {
+            final BowlingFrame frame = game.getFrames().get(index);
+            chunk.put(base + BALLS_OFFSET + index, (byte) (frame.getFirstBall() << BALL_BITS | frame.getSecondBall()));
+            chunk.putShort(base + FRAME_SCORES_OFFSET + index * Short.BYTES, (short) frame.getScore());
+            if (frame.isSplit()) {
+                splits |= 1 << index;
+            }
+        }
+        for (int index = topFrame; index < MAX_FRAMES; index++) {
+            chunk.put(base + BALLS_OFFSET + index, (byte) 0);
+            chunk.putShort(base + FRAME_SCORES_OFFSET + index * Short.BYTES, (short) 0);
+        }
+        chunk.putShort(base + SPLITS_OFFSET, (short) splits);
+    }
+
+    /**
+     * Returns the position of the record of the supplied game within its chunk.
+     *
+     * @param gameIndex the position of the game.
+     * @return the position of the record.
+     */
+    static int recordBase(final int gameIndex) {
+        return (gameIndex % RECORDS_PER_CHUNK) * RECORD_SIZE;
+    }
+
+    /**
+     * Returns the chunk holding the record of an archived game. May be called from any thread.
+     *
+     * @param gameIndex the position of the game.
+     * @return the chunk.
+     */
+    ByteBuffer chunkAt(final int gameIndex) {
+        return chunks[gameIndex / RECORDS_PER_CHUNK];
+    }
+
+    /**
+     * Returns the bowler at the supplied position in the bowler table. May be called from any thread.
+     *
+     * @param bowlerIndex the position.
+     * @return the bowler.
+     */
+    Bowler bowlerAt(final int bowlerIndex) {
+        return bowlers.get(bowlerIndex);
+    }
+
+    /**
+     * Returns the chunk holding the record at the supplied position, adding a chunk when needed. Must be called
+     * while holding this instance's lock.
+     *
+     * @param gameIndex the position of the game.
+     * @return the chunk.
+     */
+    private ByteBuffer chunkFor(final int gameIndex) {
+        final int chunkIndex = gameIndex / RECORDS_PER_CHUNK;
+        if (chunkIndex == chunks.length) {
+            final ByteBuffer[] grown = Arrays.copyOf(chunks, chunkIndex + 1);
+            grown[chunkIndex] = newChunk(chunkIndex);
+            chunks = grown;
+        }
+        return chunks[chunkIndex];
+    }
+
+    /**
+     * Allocates the chunk at the supplied position.
+     *
+     * @param chunkIndex the position of the chunk.
+     * @return the chunk.
+     */
+    private ByteBuffer newChunk(final int chunkIndex) {
+        if (file == null) {
+            return ByteBuffer.allocateDirect(CHUNK_SIZE);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, (long) chunkIndex * CHUNK_SIZE, CHUNK_SIZE);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public GameView view(final int index) {
+        return new ArchivedGameView(this).moveTo(index);
+    }
+
+    @Override
+    public Game toGame(final int index) {
+        final GameView view = view(index);
+        final Game game = new Game()
+                .setUid(view.getUid())
+                .setBowler(view.getBowler())
+                .setScore(view.getScore())
+                .setComplete(true);
+        game.clearFrames();
+        for (int frameNumber = 1; frameNumber <= view.getNumberOfFrames(); frameNumber++) {
+            game.addFrame(toFrame(view, frameNumber));
+        }
+        return game;
+    }
+
+    /**
+     * Returns a new frame holding the supplied frame of an archived game.
+     *
+     * @param view        the view of the game.
+     * @param frameNumber the frame number.
+     * @return the frame.
+     */
+    private static BowlingFrame toFrame(final GameView view, final int frameNumber) {
+        return new BowlingFrame(view.getFirstBall(frameNumber), view.getSecondBall(frameNumber),
+                view.isSplit(frameNumber)).setScore(view.getFrameScore(frameNumber));
+    }
+}
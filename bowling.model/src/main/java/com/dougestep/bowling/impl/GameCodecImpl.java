@@ -0,0 +1,305 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.GameCodec;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.Game;
+import com.google.common.base.Verify;
+import com.google.common.base.VerifyException;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Converts a bowling game to and from a compact binary form. An encoded game is laid out as:
+ * <ol>
+ * <li>the format version (1 byte).</li>
+ * <li>flags recording whether the game is complete and which UIDs and names are present (1 byte).</li>
+ * <li>the number of frames (1 byte).</li>
+ * <li>the game UID and the bowler's UID, when present (16 bytes each).</li>
+ * <li>the bowler's first and last names, when a bowler is present (UTF-8 length plus one as a varint, then the
+ * UTF-8 bytes; a length of zero is a null name).</li>
+ * <li>the balls of each frame, first ball in the high four bits and second ball in the low four bits (1 byte per
+ * frame).</li>
+ * <li>the split flag of each frame, frame one in the lowest bit (2 bytes).</li>
+ * <li>the game score as a varint, followed by each frame score as a zig-zag varint of its difference from the
+ * previous frame score.</li>
+ * <li>the UID of each frame, when any frame has one (16 bytes per frame; a frame without a UID is written as the nil
+ * UID).</li>
+ * </ol>
+ * A finished game with short bowler names and no UIDs encodes into about 40 bytes. Encoding creates no objects: the
+ * checks on the encode path use plain comparisons and only format a message when they fail, rather than
+ * {@link Verify}, whose message arguments are boxed into an array on every call.
+ *
+ * @author dougestep
+ */
+public final class GameCodecImpl implements GameCodec {
+    private static final String NON_NULL_MSG = "expected a non-null reference to %s";
+
+    /**
+     * The version of the format written by this codec.
+     */
+    static final int FORMAT_VERSION = 1;
+
+    private static final int COMPLETE = 1;
+    private static final int HAS_GAME_UID = 1 << 1;
+    private static final int HAS_BOWLER = 1 << 2;
+    private static final int HAS_BOWLER_UID = HAS_BOWLER << 1;
+    private static final int HAS_FRAME_UIDS = HAS_BOWLER_UID << 1;
+
+    /**
+     * The size of the version, flags and frame count.
+     */
+    private static final int HEADER_BYTES = 3;
+    private static final int SPLIT_BYTES = 2;
+    private static final int BALL_BITS = 4;
+    private static final int BALL_MASK = 0x0F;
+    private static final int BYTE_MASK = 0xFF;
+
+    /**
+     * 10 points.
+     */
+    private static final int MARK_1 = 10;
+
+    /**
+     * The maximum number of frames in a game, including the tenth frame bonus frames.
+     */
+    private static final int MAX_FRAMES = 12;
+
+    /**
+     * Default constructor.
+     */
+    private GameCodecImpl() {
+    }
+
+    /**
+     * Returns an instance of this class.
+     *
+     * @return the instance.
+     */
+    public static GameCodec newInstance() {
+        return new GameCodecImpl();
+    }
+
+    @Override
+    public int encodedSize(final Game game) {
+        assertNotNull(game, "GameBean");
+
+        final int flags = flagsOf(game);
+        final int topFrame = game.getNumberOfFrames();
+        int size = HEADER_BYTES + topFrame + SPLIT_BYTES + BinaryIO.varintSize(game.getScore());
+        if ((flags & HAS_GAME_UID) != 0) {
+            size += BinaryIO.UID_BYTES;
+        }
+        if ((flags & HAS_BOWLER_UID) != 0) {
+            size += BinaryIO.UID_BYTES;
+        }
+        if ((flags & HAS_BOWLER) != 0) {
+            size += BinaryIO.stringSize(game.getBowler().getFirstName());
+            size += BinaryIO.stringSize(game.getBowler().getLastName());
+        }
+
+        int previousScore = 0;
+        for (int index = 0; index < topFrame; index++) {
+            final int score = game.getFrames().get(index).getScore();
+            size += BinaryIO.varintSize(zigZag(score - previousScore));
+            previousScore = score;
+        }
+        if ((flags & HAS_FRAME_UIDS) != 0) {
+            size += topFrame * BinaryIO.UID_BYTES;
+        }
+        return size;
+    }
+
+    @Override
+    public int encode(final Game game, final ByteBuffer buffer) {
+        assertNotNull(buffer, "buffer");
+        final int size = encodedSize(game);
+        if (buffer.remaining() < size) {
+            throw new VerifyException(String.format("The buffer needs %s bytes but has %s remaining.", size,
+                    buffer.remaining()));
+        }
+        final int topFrame = game.getNumberOfFrames();
+        if (topFrame > MAX_FRAMES) {
+            throw new VerifyException(String.format("A game can not have more than %s frames.", MAX_FRAMES));
+        }
+        checkFrames(game.getFrames(), topFrame);
+
+        final int flags = flagsOf(game);
+        buffer.put((byte) FORMAT_VERSION);
+        buffer.put((byte) flags);
+        buffer.put((byte) topFrame);
+        if ((flags & HAS_GAME_UID) != 0) {
+            BinaryIO.putUid(buffer, game.getUid());
+        }
+        if ((flags & HAS_BOWLER_UID) != 0) {
+            BinaryIO.putUid(buffer, game.getBowler().getUid());
+        }
+        if ((flags & HAS_BOWLER) != 0) {
+            BinaryIO.putString(buffer, game.getBowler().getFirstName());
+            BinaryIO.putString(buffer, game.getBowler().getLastName());
+        }
+
+        encodeFrames(game.getFrames(), topFrame, buffer);
+        BinaryIO.putVarint(buffer, game.getScore());
+        int previousScore = 0;
+        for (int index = 0; index < topFrame; index++) {
+            final int score = game.getFrames().get(index).getScore();
+            BinaryIO.putVarint(buffer, zigZag(score - previousScore));
+            previousScore = score;
+        }
+        if ((flags & HAS_FRAME_UIDS) != 0) {
+            for (int index = 0; index < topFrame; index++) {
+                BinaryIO.putUid(buffer, game.getFrames().get(index).getUid());
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Verifies that every ball of the supplied frames fits the encoding, so that a rejected game leaves the buffer
+     * untouched.
+     *
+     * @param frames   the frames.
+     * @param topFrame the number of frames.
+     */
+    private static void checkFrames(final List<BowlingFrame> frames, final int topFrame) {
+        for (int index = 0; index < topFrame; index++) {
+            final BowlingFrame frame = frames.get(index);
+            final int firstBall = frame.getFirstBall();
+            final int secondBall = frame.getSecondBall();
+            if (firstBall < 0 || firstBall > MARK_1 || secondBall < 0 || secondBall > MARK_1) {
+                throw new VerifyException(String.format("Invalid frame %s: %s, %s", index + 1, firstBall,
+                        secondBall));
+            }
+        }
+    }
+
+    /**
+     * Writes the balls and split flags of the supplied frames. The frames have been verified by
+     * {@link #checkFrames(List, int)}.
+     *
+     * @param frames   the frames.
+     * @param topFrame the number of frames.
+     * @param buffer   the buffer.
+     */
+    private static void encodeFrames(final List<BowlingFrame> frames, final int topFrame, final ByteBuffer buffer) {
+        int splits = 0;
+        for (int index = 0; index < topFrame; index++) {
+            final BowlingFrame frame = frames.get(index);
+            buffer.put((byte) (frame.getFirstBall() << BALL_BITS | frame.getSecondBall()));
+            if (frame.isSplit()) {
+                splits |= 1 << index;
+            }
+        }
+        buffer.putShort((short) splits);
+    }
+
+    @Override
+    public Game decode(final ByteBuffer buffer) {
+        Verify.verifyNotNull(buffer, NON_NULL_MSG, "buffer");
+        final int version = buffer.get() & BYTE_MASK;
+        Verify.verify(version == FORMAT_VERSION, "Unsupported game format version %s.", version);
+        final int flags = buffer.get() & BYTE_MASK;
+        final int topFrame = buffer.get() & BYTE_MASK;
+        Verify.verify(topFrame <= MAX_FRAMES, "A game can not have more than %s frames.", MAX_FRAMES);
+
+        final Game game = new Game().setComplete((flags & COMPLETE) != 0);
+        if ((flags & HAS_GAME_UID) != 0) {
+            game.setUid(BinaryIO.getUid(buffer));
+        }
+        if ((flags & HAS_BOWLER) != 0) {
+            final Bowler bowler = new Bowler();
+            if ((flags & HAS_BOWLER_UID) != 0) {
+                bowler.setUid(BinaryIO.getUid(buffer));
+            }
+            bowler.setFirstName(BinaryIO.getString(buffer)).setLastName(BinaryIO.getString(buffer));
+            game.setBowler(bowler);
+        }
+
+        game.clearFrames();
+        for (int index = 0; index < topFrame; index++) {
+            game.addFrame(decodeFrame(buffer.get()));
+        }
+        final int splits = buffer.getShort();
+        game.setScore(BinaryIO.getVarint(buffer));
+        int score = 0;
+        for (int index = 0; index < topFrame; index++) {
+            score += unZigZag(BinaryIO.getVarint(buffer));
+            game.getFrames().get(index).setScore(score).setSplit((splits & 1 << index) != 0);
+        }
+        if ((flags & HAS_FRAME_UIDS) != 0) {
+            for (int index = 0; index < topFrame; index++) {
+                game.getFrames().get(index).setUid(BinaryIO.getUid(buffer));
+            }
+        }
+        return game;
+    }
+
+    /**
+     * Returns a new frame with the balls packed into the supplied byte.
+     *
+     * @param balls the first ball in the high four bits and the second ball in the low four bits.
+     * @return the frame.
+     */
+    private static BowlingFrame decodeFrame(final int balls) {
+        return new BowlingFrame(balls >> BALL_BITS & BALL_MASK, balls & BALL_MASK);
+    }
+
+    /**
+     * Asserts the supplied reference isn't null, without allocating unless it is.
+     *
+     * @param reference the reference.
+     * @param name      names the reference in the message.
+     */
+    private static void assertNotNull(final Object reference, final String name) {
+        if (reference == null) {
+            throw new VerifyException(String.format(NON_NULL_MSG, name));
+        }
+    }
+
+    /**
+     * Returns the flags describing what the supplied game's encoding holds.
+     *
+     * @param game the game.
+     * @return the flags.
+     */
+    private static int flagsOf(final Game game) {
+        int flags = game.isComplete() ? COMPLETE : 0;
+        if (game.getUid() != null) {
+            flags |= HAS_GAME_UID;
+        }
+        final Bowler bowler = game.getBowler();
+        if (bowler != null) {
+            flags |= bowler.getUid() == null ? HAS_BOWLER : HAS_BOWLER | HAS_BOWLER_UID;
+        }
+        final int topFrame = game.getNumberOfFrames();
+        for (int index = 0; index < topFrame; index++) {
+            if (game.getFrames().get(index).getUid() != null) {
+                flags |= HAS_FRAME_UIDS;
+                break;
+            }
+        }
+        return flags;
+    }
+
+    /**
+     * Maps a signed value onto an unsigned one, so small negative values stay small.
+     *
+     * @param value the signed value.
+     * @return the unsigned value.
+     */
+    private static int zigZag(final int value) {
+        return value << 1 ^ value >> (Integer.SIZE - 1);
+    }
+
+    /**
+     * Reverses {@link #zigZag(int)}.
+     *
+     * @param value the unsigned value.
+     * @return the signed value.
+     */
+    private static int unZigZag(final int value) {
+        return value >>> 1 ^ -(value & 1);
+    }
+}
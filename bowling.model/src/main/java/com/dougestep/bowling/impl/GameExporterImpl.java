@@ -0,0 +1,214 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.GameExporter;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.Game;
+import com.google.common.base.Verify;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Exports bowling games as JSON, CSV or HTML. The documents are written by hand, straight from the {@link Game},
+ * {@link BowlingFrame} and {@link com.dougestep.bowling.data.Bowler} getters to the
+ * output, one game at a time; no object tree or intermediate string of a game is built. An instance holds no state
+ * and can be shared by threads.
+ *
+ * @author dougestep
+ */
+public final class GameExporterImpl implements GameExporter {
+    private static final String NON_NULL_MSG = "expected a non-null reference to %s";
+
+    /**
+     * The base of the written numbers.
+     */
+    private static final int RADIX = 10;
+
+    /**
+     * The size of the buffer between the exporter and a supplied output stream.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    private final ExportFormat format;
+
+    /**
+     * Creates an instance of this class.
+     *
+     * @param format writes the documents.
+     */
+    private GameExporterImpl(final ExportFormat format) {
+        this.format = format;
+    }
+
+    /**
+     * Returns an instance of this class which exports the games as a JSON array with one object per game.
+     *
+     * @return the instance.
+     */
+    public static GameExporter newJsonInstance() {
+        return new GameExporterImpl(new JsonExportFormat());
+    }
+
+    /**
+     * Returns an instance of this class which exports the games as CSV with a header row and one row per frame. A
+     * game without frames has one row with empty frame columns.
+     *
+     * @return the instance.
+     */
+    public static GameExporter newCsvInstance() {
+        return new GameExporterImpl(new CsvExportFormat());
+    }
+
+    /**
+     * Returns an instance of this class which exports the games as an HTML fragment with one score card table per
+     * game. The fragment carries no styles; the tables and cells have class names for a style sheet to use.
+     *
+     * @return the instance.
+     */
+    public static GameExporter newHtmlInstance() {
+        return new GameExporterImpl(new HtmlExportFormat());
+    }
+
+    @Override
+    public void exportGames(final Iterable<Game> games, final Appendable out) throws IOException {
+        Verify.verifyNotNull(games, NON_NULL_MSG, "List of GameBeans");
+        Verify.verifyNotNull(out, NON_NULL_MSG, "Appendable");
+
+        format.startDocument(out);
+        boolean first = true;
+        for (final Game game : games) {
+            Verify.verifyNotNull(game, NON_NULL_MSG, "GameBean");
+            format.writeGame(out, game, first);
+            first = false;
+        }
+        format.endDocument(out);
+    }
+
+    @Override
+    public void exportGames(final Iterable<Game> games, final OutputStream out) throws IOException {
+        Verify.verifyNotNull(out, NON_NULL_MSG, "OutputStream");
+
+        final ChunkWriter writer = new ChunkWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        exportGames(games, writer);
+        writer.flush();
+    }
+
+    @Override
+    public String getContentType() {
+        return format.getContentType();
+    }
+
+    /**
+     * Returns the frames of the supplied game, or an empty list if the game has none.
+     *
+     * @param game the game.
+     * @return the frames.
+     */
+    static List<BowlingFrame> framesOf(final Game game) {
+        final List<BowlingFrame> frames = game.getFrames();
+        return frames == null ? Collections.<BowlingFrame>emptyList() : frames;
+    }
+
+    /**
+     * Appends the decimal digits of the supplied number without creating a string.
+     *
+     * @param out   the output.
+     * @param value the number.
+     * @throws IOException if the output can't be written.
+     */
+    static void appendInt(final Appendable out, final int value) throws IOException {
+        if (value < 0) {
+            if (value == Integer.MIN_VALUE) {
+                out.append(Integer.toString(value));
+                return;
+            }
+            out.append('-');
+            appendInt(out, -value);
+            return;
+        }
+        if (value >= RADIX) {
+            appendInt(out, value / RADIX);
+        }
+        out.append((char) ('0' + value % RADIX));
+    }
+
+    /**
+     * Collects the characters of a document in a fixed buffer and writes them to the supplied writer a buffer at a
+     * time. Unlike a {@link java.io.BufferedWriter}, appending a character takes no lock.
+     */
+    private static final class ChunkWriter implements Appendable {
+        private final Writer writer;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private int length;
+
+        /**
+         * Creates an instance of this class.
+         *
+         * @param writer the writer.
+         */
+        ChunkWriter(final Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public Appendable append(final char ch) throws IOException {
+            if (length == BUFFER_SIZE) {
+                drain();
+            }
+            buffer[length++] = ch;
+            return this;
+        }
+
+        @Override
+        public Appendable append(final CharSequence text) throws IOException {
+            final CharSequence chars = text == null ? "null" : text;
+            return append(chars, 0, chars.length());
+        }
+
+        @Override
+        public Appendable append(final CharSequence text, final int start, final int end) throws IOException {
+            int index = start;
+            while (index < end) {
+                if (length == BUFFER_SIZE) {
+                    drain();
+                }
+                final int count = Math.min(end - index, BUFFER_SIZE - length);
+                if (text instanceof String) {
+                    ((String) text).getChars(index, index + count, buffer, length);
+                } else {
+                    for (int offset = 0; offset < count; offset++) {
+                        buffer[length + offset] = text.charAt(index + offset);
+                    }
+                }
+                length += count;
+                index += count;
+            }
+            return this;
+        }
+
+        /**
+         * Writes the buffered characters to the writer.
+         *
+         * @throws IOException if the writer can't be written.
+         */
+        private void drain() throws IOException {
+            writer.write(buffer, 0, length);
+            length = 0;
+        }
+
+        /**
+         * Writes the buffered characters to the writer and flushes it.
+         *
+         * @throws IOException if the writer can't be written.
+         */
+        void flush() throws IOException {
+            drain();
+            writer.flush();
+        }
+    }
+}
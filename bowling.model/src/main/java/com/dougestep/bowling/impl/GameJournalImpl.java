@@ -0,0 +1,548 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.GameJournal;
+import com.dougestep.bowling.GameManager;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.Game;
+import com.google.common.base.Verify;
+import com.google.common.base.VerifyException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Records the changes made to live bowling games in an append-only journal of memory-mapped segment files. Every
+ * change is written as one fixed-size record, so recording a ball is a copy into mapped memory rather than a
+ * database round trip, and the change survives a crash of the process as soon as the call returns. Call
+ * {@link #sync()} to also survive the loss of power.
+ * <p>
+ * Each record is {@value #RECORD_SIZE} bytes and starts with a CRC32 checksum of the rest of the record. Segments
+ * are named by their sequence number and a new segment is started when the current one is full. Opening a journal
+ * replays every segment in order to rebuild the games which haven't been ended. A record torn by a crash at the end
+ * of the last segment is ignored and overwritten by the next change.
+ * </p>
+ * <p>
+ * Changes made directly to a {@link Game}'s frames are only recorded when {@link GameManager#calculateScore()} is
+ * called, and the frames rebuilt from that record don't keep their UIDs.
+ * </p>
+ *
+ * @author dougestep
+ */
+public final class GameJournalImpl implements GameJournal {
+    private static final String NON_NULL_MSG = "expected a non-null reference to %s";
+
+    /**
+     * The size of a journal record in bytes.
+     */
+    public static final int RECORD_SIZE = 128;
+
+    /**
+     * The number of records in a segment file of the default size.
+     */
+    private static final int DEFAULT_SEGMENT_RECORDS = 32768;
+
+    /**
+     * The default size of a segment file in bytes: 4 MiB.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = RECORD_SIZE * DEFAULT_SEGMENT_RECORDS;
+
+    private static final String SEGMENT_FORMAT = "%08d.journal";
+    private static final Pattern SEGMENT_NAME = Pattern.compile("(\\d{8})\\.journal");
+    private static final int FORMAT_VERSION = 1;
+
+    private static final byte EMPTY = 0;
+    private static final byte START = 1;
+    /**
+     * The type of a record of a frame added to a game.
+     */
+    static final byte ADD = 2;
+    private static final byte ROLL = 3;
+
+    /**
+     * The type of a record of a frame replaced in a game.
+     */
+    static final byte REPLACE = 4;
+    private static final byte DELETE = 5;
+    private static final byte CALCULATE = 6;
+    private static final byte END = 7;
+
+    private static final int CHECKSUM_OFFSET = 0;
+    private static final int TYPE_OFFSET = 4;
+    private static final int VERSION_OFFSET = 5;
+    private static final int FRAME_NUMBER_OFFSET = 6;
+    private static final int FIRST_BALL_OFFSET = 7;
+    private static final int SECOND_BALL_OFFSET = 8;
+    private static final int FLAGS_OFFSET = 9;
+    private static final int GAME_UID_OFFSET = 16;
+    private static final int UID_OFFSET = 32;
+    private static final int PAYLOAD_OFFSET = 48;
+    private static final int PAYLOAD_BYTES = RECORD_SIZE - PAYLOAD_OFFSET;
+
+    /**
+     * The size of each frame written to the payload of a calculate record: first ball, second ball and flags.
+     */
+    private static final int PAYLOAD_FRAME_BYTES = 3;
+
+    private static final int SPLIT = 1;
+    private static final int HAS_BOWLER = 1 << 1;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final CRC32 checksum = new CRC32();
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    private MappedByteBuffer segment;
+    private int segmentNumber;
+    private boolean closed;
+    private List<GameManager> recoveredGames;
+
+    /**
+     * Creates an instance of this class.
+     *
+     * @param directory   the directory holding the segment files.
+     * @param segmentSize the size of a new segment file in bytes.
+     */
+    private GameJournalImpl(final Path directory, final int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Opens the journal stored in the supplied directory, creating it if needed, and rebuilds its live games.
+     *
+     * @param directory the directory holding the segment files.
+     * @return the journal.
+     * @throws IOException if the journal can't be read.
+     */
+    public static GameJournal open(final Path directory) throws IOException {
+        return open(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Opens the journal stored in the supplied directory, creating it if needed, and rebuilds its live games.
+     *
+     * @param directory   the directory holding the segment files.
+     * @param segmentSize the size of a new segment file in bytes. Must be a multiple of {@value #RECORD_SIZE}.
+     * @return the journal.
+     * @throws IOException if the journal can't be read.
+     */
+    public static GameJournal open(final Path directory, final int segmentSize) throws IOException {
+        Verify.verifyNotNull(directory, NON_NULL_MSG, "directory");
+        Verify.verify(segmentSize > 0 && segmentSize % RECORD_SIZE == 0,
+                "The segment size must be a multiple of %s bytes.", RECORD_SIZE);
+
+        Files.createDirectories(directory);
+        final GameJournalImpl journal = new GameJournalImpl(directory, segmentSize);
+        journal.replay();
+        return journal;
+    }
+
+    @Override
+    public GameManager newGame(final Bowler player) {
+        final GameManager manager = GameManagerImpl.newGame(player);
+        appendStart(manager.getGame().getUid(), player);
+        return journaled(manager);
+    }
+
+    /**
+     * Returns a manager which records the changes made to the supplied game in this journal.
+     *
+     * @param manager the game.
+     * @return the journaled game.
+     */
+    private GameManager journaled(final GameManager manager) {
+        return new JournaledGameManager(this, manager);
+    }
+
+    @Override
+    public synchronized void endGame(final UUID gameUid) {
+        Verify.verifyNotNull(gameUid, NON_NULL_MSG, "gameUid");
+        startRecord(END, gameUid);
+        write();
+    }
+
+    @Override
+    public List<GameManager> getRecoveredGames() {
+        return recoveredGames;
+    }
+
+    @Override
+    public synchronized void sync() {
+        Verify.verify(!closed, "The journal is closed.");
+        segment.force();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            segment.force();
+            closed = true;
+        }
+    }
+
+    /**
+     * Records the start of a game.
+     *
+     * @param gameUid the game UID.
+     * @param player  the bowler, or null.
+     */
+    private synchronized void appendStart(final UUID gameUid, final Bowler player) {
+        startRecord(START, gameUid);
+        if (player != null) {
+            final int nameBytes = BinaryIO.stringSize(player.getFirstName())
+                    + BinaryIO.stringSize(player.getLastName());
+            Verify.verify(nameBytes <= PAYLOAD_BYTES, "The bowler's name can not be longer than %s bytes.",
+                    PAYLOAD_BYTES - 2);
+            record.put(FLAGS_OFFSET, (byte) HAS_BOWLER);
+            putUid(UID_OFFSET, player.getUid());
+            record.position(PAYLOAD_OFFSET);
+            BinaryIO.putString(record, player.getFirstName());
+            BinaryIO.putString(record, player.getLastName());
+        }
+        write();
+    }
+
+    /**
+     * Records a frame added to, or replaced in, a game.
+     *
+     * @param type        {@link #ADD} or {@link #REPLACE}.
+     * @param gameUid     the game UID.
+     * @param frameNumber the frame number of a replaced frame.
+     * @param frame       the frame.
+     */
+    synchronized void appendFrame(final byte type, final UUID gameUid, final int frameNumber,
+            final BowlingFrame frame) {
+        startRecord(type, gameUid);
+        record.put(FRAME_NUMBER_OFFSET, (byte) frameNumber);
+        record.put(FIRST_BALL_OFFSET, (byte) frame.getFirstBall());
+        record.put(SECOND_BALL_OFFSET, (byte) frame.getSecondBall());
+        record.put(FLAGS_OFFSET, (byte) (frame.isSplit() ? SPLIT : 0));
+        putUid(UID_OFFSET, frame.getUid());
+        write();
+    }
+
+    /**
+     * Records a ball rolled in a game.
+     *
+     * @param gameUid the game UID.
+     * @param pins    the number of pins knocked down.
+     * @param split   true if the bowler threw a split.
+     */
+    synchronized void appendRoll(final UUID gameUid, final int pins, final boolean split) {
+        startRecord(ROLL, gameUid);
+        record.put(FIRST_BALL_OFFSET, (byte) pins);
+        record.put(FLAGS_OFFSET, (byte) (split ? SPLIT : 0));
+        write();
+    }
+
+    /**
+     * Records a frame deleted from a game.
+     *
+     * @param gameUid     the game UID.
+     * @param frameNumber the frame number.
+     */
+    synchronized void appendDelete(final UUID gameUid, final int frameNumber) {
+        startRecord(DELETE, gameUid);
+        record.put(FRAME_NUMBER_OFFSET, (byte) frameNumber);
+        write();
+    }
+
+    /**
+     * Records the pin fall of every frame of a game that was re-scored from its frames.
+     *
+     * @param gameUid the game UID.
+     * @param game    the game.
+     */
+    synchronized void appendCalculate(final UUID gameUid, final Game game) {
+        final int topFrame = game.getNumberOfFrames();
+        Verify.verify(topFrame <= GameState.MAX_FRAMES, "A game can not have more than %s frames.",
+                GameState.MAX_FRAMES);
+
+        startRecord(CALCULATE, gameUid);
+        record.put(FRAME_NUMBER_OFFSET, (byte) topFrame);
+        record.position(PAYLOAD_OFFSET);
+        for (int index = 0; index < topFrame; index++) {
+            final BowlingFrame frame = game.getFrames().get(index);
+            record.put((byte) frame.getFirstBall());
+            record.put((byte) frame.getSecondBall());
+            record.put((byte) (frame.isSplit() ? SPLIT : 0));
+        }
+        write();
+    }
+
+    /**
+     * Verifies that the journal can take one more record, forcing the full segment to the storage device and mapping
+     * the next one when needed. A journaled game holds this instance's lock from here until its change is recorded.
+     */
+    synchronized void reserveRecord() {
+        Verify.verify(!closed, "The journal is closed.");
+        if (segment.remaining() < RECORD_SIZE) {
+            segment.force();
+            try {
+                segment = map(segmentPath(segmentNumber + 1), segmentSize);
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+            segmentNumber++;
+        }
+    }
+
+    /**
+     * Reserves room for a record, then clears the record buffer and writes the common fields of a record to it. Must
+     * be called while holding this instance's lock.
+     *
+     * @param type    the record type.
+     * @param gameUid the game UID.
+     */
+    private void startRecord(final byte type, final UUID gameUid) {
+        reserveRecord();
+        Arrays.fill(record.array(), (byte) 0);
+        record.put(TYPE_OFFSET, type);
+        record.put(VERSION_OFFSET, (byte) FORMAT_VERSION);
+        putUid(GAME_UID_OFFSET, gameUid);
+    }
+
+    /**
+     * Writes a UID to the record buffer.
+     *
+     * @param offset the position within the record.
+     * @param uid    the UID, or null.
+     */
+    private void putUid(final int offset, final UUID uid) {
+        record.position(offset);
+        BinaryIO.putUid(record, uid);
+    }
+
+    /**
+     * Checksums the record buffer and appends it to the current segment. Must be called after {@link #startRecord}.
+     */
+    private void write() {
+        checksum.reset();
+        checksum.update(record.array(), TYPE_OFFSET, RECORD_SIZE - TYPE_OFFSET);
+        record.putInt(CHECKSUM_OFFSET, (int) checksum.getValue());
+        record.clear();
+        segment.put(record);
+    }
+
+    /**
+     * Maps the supplied segment file for appending, creating it if needed.
+     *
+     * @param path the segment file.
+     * @param size the size of the segment when it is empty or new.
+     * @return the mapped segment.
+     * @throws IOException if the segment can't be mapped.
+     */
+    private static MappedByteBuffer map(final Path path, final int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            final long fileSize = channel.size();
+            Verify.verify(fileSize % RECORD_SIZE == 0, "Journal segment %s has a partial record.", path);
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize == 0 ? size : fileSize);
+        }
+    }
+
+    /**
+     * Returns the path of the segment file with the supplied sequence number.
+     *
+     * @param number the sequence number.
+     * @return the path.
+     */
+    private Path segmentPath(final int number) {
+        return directory.resolve(String.format(SEGMENT_FORMAT, number));
+    }
+
+    /**
+     * Returns the sequence numbers of the segment files in the journal directory, in ascending order.
+     *
+     * @return the sequence numbers.
+     * @throws IOException if the directory can't be read.
+     */
+    private List<Integer> segmentNumbers() throws IOException {
+        final List<Integer> numbers = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (final Path file : files) {
+                final Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    numbers.add(Integer.valueOf(matcher.group(1)));
+                }
+            }
+        }
+        Collections.sort(numbers);
+        return numbers;
+    }
+
+    /**
+     * Replays every segment in order to rebuild the live games, and positions the last segment for appending.
+     *
+     * @throws IOException if a segment can't be read.
+     */
+    private void replay() throws IOException {
+        final Map<UUID, GameManager> games = new LinkedHashMap<>();
+        final List<Integer> numbers = segmentNumbers();
+        for (int index = 0; index < numbers.size(); index++) {
+            segmentNumber = numbers.get(index);
+            segment = map(segmentPath(segmentNumber), segmentSize);
+            replaySegment(games, index == numbers.size() - 1);
+        }
+        if (segment == null) {
+            segment = map(segmentPath(segmentNumber), segmentSize);
+        }
+
+        final List<GameManager> recovered = new ArrayList<>(games.size());
+        for (final GameManager manager : games.values()) {
+            recovered.add(journaled(manager));
+        }
+        recoveredGames = Collections.unmodifiableList(recovered);
+    }
+
+    /**
+     * Applies the records of the current segment to the supplied games. The segment is left positioned after its
+     * last valid record.
+     *
+     * @param games       the live games, by game UID.
+     * @param lastSegment true if the current segment is the last one. Only the last segment can end before it
+     *                    is full.
+     */
+    private void replaySegment(final Map<UUID, GameManager> games, final boolean lastSegment) {
+        while (segment.remaining() >= RECORD_SIZE) {
+            final int start = segment.position();
+            segment.get(record.array());
+            checksum.reset();
+            checksum.update(record.array(), TYPE_OFFSET, RECORD_SIZE - TYPE_OFFSET);
+            if (record.get(TYPE_OFFSET) == EMPTY || record.getInt(CHECKSUM_OFFSET) != (int) checksum.getValue()) {
+                Verify.verify(lastSegment, "Journal segment %s is corrupt at byte %s.", segmentNumber, start);
+                segment.position(start);
+                return;
+            }
+            apply(games);
+        }
+    }
+
+    /**
+     * Applies the record in the record buffer to the supplied games.
+     *
+     * @param games the live games, by game UID.
+     */
+    private void apply(final Map<UUID, GameManager> games) {
+        final byte type = record.get(TYPE_OFFSET);
+        final UUID gameUid = getUid(GAME_UID_OFFSET);
+        if (type == START) {
+            games.put(gameUid, startGame(gameUid));
+            return;
+        }
+        if (type == END) {
+            games.remove(gameUid);
+            return;
+        }
+
+        final GameManager manager = games.get(gameUid);
+        Verify.verify(manager != null, "The journal changes game %s before it was started.", gameUid);
+        final int frameNumber = record.get(FRAME_NUMBER_OFFSET);
+        final boolean split = (record.get(FLAGS_OFFSET) & SPLIT) != 0;
+        switch (type) {
+            case ADD:
+                manager.addFrame(getFrame());
+                break;
+            case ROLL:
+                manager.roll(record.get(FIRST_BALL_OFFSET), split);
+                break;
+            case REPLACE:
+                manager.replaceFrame(frameNumber, getFrame());
+                break;
+            case DELETE:
+                manager.deleteFrame(frameNumber);
+                break;
+            case CALCULATE:
+                loadFrames(manager.getGame(), frameNumber);
+                manager.calculateScore();
+                break;
+            default:
+                throw new VerifyException("Unknown journal record type " + type);
+        }
+    }
+
+    /**
+     * Returns a game rebuilt from the start record in the record buffer. The game is scored lazily so replaying its
+     * records doesn't re-score it after every ball.
+     *
+     * @param gameUid the game UID.
+     * @return the game.
+     */
+    private GameManager startGame(final UUID gameUid) {
+        Bowler player = null;
+        if ((record.get(FLAGS_OFFSET) & HAS_BOWLER) != 0) {
+            player = new Bowler();
+            player.setUid(getUid(UID_OFFSET));
+            record.position(PAYLOAD_OFFSET);
+            player.setFirstName(BinaryIO.getString(record)).setLastName(BinaryIO.getString(record));
+        }
+        final GameManager manager = GameManagerImpl.newLazyGame(player);
+        manager.getGame().setUid(gameUid);
+        return manager;
+    }
+
+    /**
+     * Returns the frame recorded in the record buffer.
+     *
+     * @return the frame.
+     */
+    private BowlingFrame getFrame() {
+        final boolean split = (record.get(FLAGS_OFFSET) & SPLIT) != 0;
+        return new BowlingFrame(record.get(FIRST_BALL_OFFSET), record.get(SECOND_BALL_OFFSET), split)
+                .setUid(getUid(UID_OFFSET));
+    }
+
+    /**
+     * Replaces the frames of the supplied game with the frames recorded in the payload of the record buffer.
+     *
+     * @param game     the game.
+     * @param topFrame the number of frames recorded.
+     */
+    private void loadFrames(final Game game, final int topFrame) {
+        game.clearFrames();
+        int offset = PAYLOAD_OFFSET;
+        for (int index = 0; index < topFrame; index++) {
+            game.addFrame(getPayloadFrame(offset));
+            offset += PAYLOAD_FRAME_BYTES;
+        }
+    }
+
+    /**
+     * Returns the frame written to the payload of the record buffer at the supplied position.
+     *
+     * @param offset the position within the record.
+     * @return the frame.
+     */
+    private BowlingFrame getPayloadFrame(final int offset) {
+        final boolean split = (record.get(offset + 2) & SPLIT) != 0;
+        return new BowlingFrame(record.get(offset), record.get(offset + 1), split);
+    }
+
+    /**
+     * Reads a UID from the record buffer.
+     *
+     * @param offset the position within the record.
+     * @return the UID, or null.
+     */
+    private UUID getUid(final int offset) {
+        record.position(offset);
+        return BinaryIO.getUid(record);
+    }
+}
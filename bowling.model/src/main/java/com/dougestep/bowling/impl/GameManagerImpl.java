@@ -1,35 +1,37 @@
 package com.dougestep.bowling.impl;
 
 import com.dougestep.bowling.GameManager;
+import com.dougestep.bowling.ValidationError;
+import com.dougestep.bowling.ValidationMode;
 import com.dougestep.bowling.data.Bowler;
 import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.FrameShape;
+import com.dougestep.bowling.data.FrameSnapshot;
 import com.dougestep.bowling.data.Game;
+import com.dougestep.bowling.data.GameSnapshot;
 import com.google.common.base.Verify;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.UUID;
 
 /**
- * Manages a bowling game.
+ * Manages a bowling game. Frames are checked according to the {@link ValidationMode} the manager was created with;
+ * a rejected frame or ball raises an {@link com.dougestep.bowling.InvalidFrameException} naming the
+ * {@link ValidationError}. The checks don't allocate unless they fail.
  *
  * @author dougestep
  */
 public final class GameManagerImpl implements GameManager {
     private final Game game;
-    private final Map<Integer, BowlingFrame> frames;
+    private final GameState state;
+    private final boolean lazy;
+    private final boolean trusted;
+    private int dirtyFrame = CLEAN;
+    private GameSnapshot snapshot;
     /**
      * 10 points.
      */
     private static final int MARK_1 = 10;
-    /**
-     * 20 points.
-     */
-    private static final int MARK_2 = 20;
-    /**
-     * 30 points.
-     */
-    private static final int MARK_3 = 30;
 
     /**
      * Tenth frame.
@@ -37,18 +39,29 @@ public final class GameManagerImpl implements GameManager {
     private static final int LAST_FRAME = 10;
 
     /**
-     * The score for a perfect game.
+     * The number of earlier frames that can still be waiting on bonus balls from a later frame.
      */
-    private static final int PERFECT_GAME = 300;
+    private static final int BONUS_LOOK_BACK = 2;
+
+    /**
+     * The dirty frame of a game whose scores are up to date.
+     */
+    private static final int CLEAN = Integer.MAX_VALUE;
 
     /**
      * Creates an instance of this class.
      *
      * @param player the bowler.
+     * @param lazy   true to score the game lazily.
+     * @param mode   how the frames supplied to the manager are checked.
      */
-    private GameManagerImpl(final Bowler player) {
-        frames = new HashMap<>();
+    private GameManagerImpl(final Bowler player, final boolean lazy, final ValidationMode mode) {
+        Verify.verifyNotNull(mode, "expected a non-null reference to %s", "ValidationMode");
+        state = new GameState();
+        this.lazy = lazy;
+        trusted = mode == ValidationMode.TRUSTED;
         game = new Game().setUid(UUID.randomUUID());
+        game.clearFrames();
         game.setBowler(player);
     }
 
@@ -59,7 +72,45 @@ public final class GameManagerImpl implements GameManager {
      * @return the instance.
      */
     public static GameManager newGame(final Bowler player) {
-        return new GameManagerImpl(player);
+        return new GameManagerImpl(player, false, ValidationMode.STRICT);
+    }
+
+    /**
+     * Creates an instance of this class which checks frames according to the supplied mode.
+     *
+     * @param player the bowler.
+     * @param mode   how the frames supplied to the manager are checked.
+     * @return the instance.
+     */
+    public static GameManager newGame(final Bowler player, final ValidationMode mode) {
+        return new GameManagerImpl(player, false, mode);
+    }
+
+    /**
+     * Creates an instance of this class which scores the game lazily. A change only records the earliest frame that
+     * needs re-scoring; the scores are brought up to date the first time they are read through this manager,
+     * including by {@link #getGame()}. Bulk loads and replays therefore score each frame once. Frames supplied to the
+     * manager, and a {@link Game} kept from an earlier call to {@link #getGame()}, don't receive their scores until
+     * the manager is asked for them.
+     *
+     * @param player the bowler.
+     * @return the instance.
+     */
+    public static GameManager newLazyGame(final Bowler player) {
+        return new GameManagerImpl(player, true, ValidationMode.STRICT);
+    }
+
+    /**
+     * Creates an instance of this class which scores the game lazily and checks frames according to the supplied
+     * mode.
+     *
+     * @param player the bowler.
+     * @param mode   how the frames supplied to the manager are checked.
+     * @return the instance.
+     * @see #newLazyGame(Bowler)
+     */
+    public static GameManager newLazyGame(final Bowler player, final ValidationMode mode) {
+        return new GameManagerImpl(player, true, mode);
     }
 
     @Override
@@ -77,247 +128,363 @@ public final class GameManagerImpl implements GameManager {
 
     @Override
     public GameManager addFrame(final BowlingFrame frame) {
-        assertValidFrame(frame);
+        final int nextFrame = state.getFrameCount() + 1;
+        assertValidFrame(nextFrame, frame);
+        if (state.isFull()) {
+            throw FrameValidatorImpl.invalidFrame(ValidationError.TOO_MANY_FRAMES, frame, nextFrame);
+        }
+        if (state.isAwaitingSecondBall()) {
+            throw FrameValidatorImpl.invalidFrame(ValidationError.AWAITING_SECOND_BALL, frame, nextFrame - 1);
+        }
+        assertEarnedBonusFrames(nextFrame, frame);
 
-        final int frameNumber = frames.size() + 1;
-        frames.put(frameNumber, frame);
+        final int frameNumber = state.append(frame.getFirstBall(), frame.getSecondBall(), frame.isSplit());
+        game.addFrame(frame);
 
-        return calculateScore();
+        return rescoreFrom(frameNumber);
     }
 
     /**
-     * Asserts the properties of the supplied {@link BowlingFrame} are valid.
+     * Asserts the properties of the supplied {@link BowlingFrame} are valid. A trusted manager only asserts the frame
+     * was supplied and its balls can be scored, before anything is changed.
      *
-     * @param frame the frame.
+     * @param frameNumber the frame number the frame is recorded at.
+     * @param frame       the frame.
      */
-    private void assertValidFrame(final BowlingFrame frame) {
-        Verify.verifyNotNull(frame, "expected a non-null reference to %s", "FrameBean");
-        Verify.verify(frame.getFirstBall() >= 0 && frame.getFirstBall() <= MARK_1,
-                "Invalid value for the first ball: %s", frame.getFirstBall());
-        Verify.verify(frame.getSecondBall() >= 0 && frame.getSecondBall() <= MARK_1,
-                "Invalid value for the second ball: %s", frame.getSecondBall());
-        Verify.verify(frame.getScore() >= 0 && frame.getScore() <= PERFECT_GAME,
-                "The score must be a value between 0 and 300. Received: %s", frame.getScore());
-        Verify.verify(frame.getFrameTotal() <= MARK_1,
-                "The sum of the first and second ball can not be greater than 10.");
+    private void assertValidFrame(final int frameNumber, final BowlingFrame frame) {
+        final ValidationError error;
+        if (trusted) {
+            error = FrameValidatorImpl.checkBalls(frame);
+        } else {
+            error = FrameValidatorImpl.checkFrame(frame);
+        }
+        if (!error.isValid()) {
+            throw FrameValidatorImpl.invalidFrame(error, frame, frameNumber);
+        }
     }
 
-    @Override
-    public GameManager calculateScore() {
-        final int topFrame = frames.size();
-        for (int frameNumber = 1; frameNumber <= topFrame; frameNumber++) {
-            final BowlingFrame currentFrame = frames.get(frameNumber);
-            if (currentFrame.isOpenFrame()) {
-                scoreOpenFrame(frameNumber, currentFrame);
-            } else if (currentFrame.isSpare()) {
-                scoreSpareFrame(frameNumber, currentFrame);
-            } else if (currentFrame.isStrike()) {
-                scoreStrikeFrame(frameNumber, currentFrame);
-            }
+    /**
+     * Asserts the bonus frames are still earned once the supplied frame is recorded at the supplied frame number.
+     * Recording the tenth frame or a bonus frame can affect the bonus frames after it. Trusted managers skip the
+     * check.
+     *
+     * @param frameNumber the frame number the frame is recorded at.
+     * @param frame       the frame.
+     */
+    private void assertEarnedBonusFrames(final int frameNumber, final BowlingFrame frame) {
+        final int topFrame = Math.max(frameNumber, state.getFrameCount());
+        if (trusted || frameNumber < LAST_FRAME || topFrame <= LAST_FRAME) {
+            return;
         }
 
-        setFramesToGame();
-        setFinishedGameProperties();
-
-        return this;
+        final FrameShape tenth = shapeOnceRecorded(LAST_FRAME, frameNumber, frame);
+        FrameShape eleventh = frameNumber > LAST_FRAME + 1 ? state.getShape(LAST_FRAME + 1) : null;
+        for (int bonusFrame = Math.max(frameNumber, LAST_FRAME + 1); bonusFrame <= topFrame; bonusFrame++) {
+            final FrameShape shape = shapeOnceRecorded(bonusFrame, frameNumber, frame);
+            final ValidationError error = FrameValidatorImpl.checkBonusFrame(bonusFrame, tenth, eleventh,
+                    shape.getSecondBall());
+            if (!error.isValid()) {
+                throw FrameValidatorImpl.invalidFrame(error, frame, bonusFrame);
+            }
+            eleventh = shape;
+        }
     }
 
     /**
-     * Sets the score on a frame where the bowler didn't get a strike or a spare.
+     * Returns the shape of a frame of the game once the supplied frame is recorded at the supplied frame number.
      *
-     * @param frameNumber the frame number for the open frame.
-     * @param frame       the bowling frame for the open frame.
+     * @param frameNumber        the frame number of the frame whose shape is returned.
+     * @param changedFrameNumber the frame number the supplied frame is recorded at.
+     * @param frame              the frame being recorded.
+     * @return the shape.
      */
-    private void scoreOpenFrame(final int frameNumber, final BowlingFrame frame) {
-        final int priorFrameScore = getFrameScore(frameNumber, -1);
-        frame.setScore(priorFrameScore + frame.getFrameTotal());
+    private FrameShape shapeOnceRecorded(final int frameNumber, final int changedFrameNumber,
+            final BowlingFrame frame) {
+        return frameNumber == changedFrameNumber ? frame.getShape() : state.getShape(frameNumber);
+    }
+
+    @Override
+    public GameManager roll(final int pins) {
+        return roll(pins, false);
+    }
+
+    @Override
+    public GameManager roll(final int pins, final boolean split) {
+        if (pins < 0 || pins > MARK_1) {
+            final int frameCount = state.getFrameCount();
+            throw FrameValidatorImpl.invalidBall(state.isAwaitingSecondBall() ? frameCount : frameCount + 1, pins);
+        }
+        if (state.isAwaitingSecondBall()) {
+            return rollSecondBall(pins, split);
+        }
+        if (isGameComplete() || state.isFull()) {
+            throw FrameValidatorImpl.invalidFrame(ValidationError.GAME_COMPLETE, null, state.getFrameCount());
+        }
+
+        final int frameNumber = state.append(pins, 0, split);
+        state.setAwaitingSecondBall(pins != MARK_1 && isTwoBallFrame(frameNumber));
+        game.addFrame(BowlingFrame.oneBall(pins).setSplit(split));
+
+        return rescoreFrom(frameNumber);
     }
 
     /**
-     * Sets the score on a frame where the bowler bowled a spare.
+     * Records the second ball of the frame in progress.
      *
-     * @param frameNumber the frame number for the spare frame.
-     * @param frame       the bowling frame for the spare frame.
+     * @param pins  the number of pins knocked down by the ball.
+     * @param split supply true to indicate the bowler threw a split.
+     * @return this instance.
      */
-    private void scoreSpareFrame(final int frameNumber, final BowlingFrame frame) {
-        final int priorFrameScore = getFrameScore(frameNumber, -1);
-        final BowlingFrame nextFrame = getFrame(frameNumber, 1);
-
-        // the original spare(10)
-        int score = priorFrameScore + MARK_1;
-        if (nextFrame != null) {
-            // the original spare(10) + the first ball.
-            score += nextFrame.getFirstBall();
+    private GameManager rollSecondBall(final int pins, final boolean split) {
+        final int frameNumber = state.getFrameCount();
+        if (!FrameShape.isLegal(state.getFirstBall(frameNumber), pins)) {
+            throw FrameValidatorImpl.invalidFrame(ValidationError.TOO_MANY_PINS, null, frameNumber);
         }
 
-        frame.setScore(score);
+        state.setSecondBall(frameNumber, pins, split);
+        game.getFrames().get(frameNumber - 1).setSecondBall(pins).setSplit(state.isSplit(frameNumber));
+
+        return rescoreFrom(frameNumber);
     }
 
     /**
-     * Sets the score on a frame where the bowler bowled a strike.
+     * Returns true if the frame at the supplied frame number gets a second ball when the first ball isn't a
+     * strike. The first bonus frame only gets a second ball after a strike in the tenth frame, and the last
+     * bonus frame is always a single ball.
      *
-     * @param frameNumber the frame number for the strike frame.
-     * @param frame       the bowling frame for the strike frame.
+     * @param frameNumber the frame number.
+     * @return true if the frame gets a second ball.
      */
-    private void scoreStrikeFrame(final int frameNumber, final BowlingFrame frame) {
-        final int priorFrameScore = getFrameScore(frameNumber, -1);
-        final BowlingFrame nextFrame = getFrame(frameNumber, 1);
-        if (nextFrame == null) {
-            // no next ball.
-            frame.setScore(priorFrameScore + MARK_1);
-        } else {
-            if (nextFrame.isOpenFrame()) {
-                // the original strike(10) + the next two balls.
-                frame.setScore(priorFrameScore + MARK_1 + nextFrame.getFrameTotal());
-            } else if (nextFrame.isSpare()) {
-                // the original strike(10) + the spare(10)
-                frame.setScore(priorFrameScore + MARK_2);
-            } else if (nextFrame.isStrike()) {
-                // get the next ball after nextFrame (two balls from the original ball)
-                final BowlingFrame twoFramesAhead = getFrame(frameNumber, 2);
-                if (twoFramesAhead == null) {
-                    // no next ball after nextFrame... the original strike(10) + strike(10)
-                    frame.setScore(priorFrameScore + MARK_2);
-                } else {
-                    if (twoFramesAhead.isStrike()) {
-                        // original strike(10) + the second strike(10) + the third strike(10)
-                        frame.setScore(priorFrameScore + MARK_3);
-                    } else {
-                        // original strike(10) + the second strike(10) + the first ball.
-                        frame.setScore(priorFrameScore + MARK_2 + twoFramesAhead.getFirstBall());
-                    }
-                }
-            }
-        }
+    private boolean isTwoBallFrame(final int frameNumber) {
+        return frameNumber <= LAST_FRAME || (frameNumber == LAST_FRAME + 1 && state.isStrike(LAST_FRAME));
+    }
+
+    @Override
+    public GameManager calculateScore() {
+        final int frameInProgress = state.isAwaitingSecondBall() ? state.getFrameCount() : 0;
+        loadFramesFromGame();
+        // the frame in progress still waits on its second ball unless the game's frames no longer leave it open.
+        state.setAwaitingSecondBall(frameInProgress > 0 && frameInProgress == state.getFrameCount()
+                && !state.isStrike(frameInProgress) && state.getSecondBall(frameInProgress) == 0);
+        return rescoreFrom(1);
     }
 
     /**
-     * Replaces all frames in the supplied game with the latest set.
+     * Reloads the pin fall of every frame recorded on the {@link Game} into the game state.
      */
-    private void setFramesToGame() {
-        game.clearFrames();
+    private void loadFramesFromGame() {
+        state.clear();
+        final List<BowlingFrame> gameFrames = game.getFrames();
+        final int topFrame = game.getNumberOfFrames();
+        for (int index = 0; index < topFrame; index++) {
+            final BowlingFrame frame = gameFrames.get(index);
+            state.append(frame.getFirstBall(), frame.getSecondBall(), frame.isSplit());
+        }
+    }
 
-        final int topFrame = frames.size();
-        for (int frameNumber = 1; frameNumber <= topFrame; frameNumber++) {
-            final BowlingFrame frame = frames.get(frameNumber);
-            game.addFrame(frame);
+    /**
+     * Re-scores the game after the frame at the supplied frame number was added, replaced or deleted or, when the
+     * game is scored lazily, records that the game needs re-scoring from that frame.
+     *
+     * @param frameNumber the frame number of the changed frame.
+     * @return this instance.
+     */
+    private GameManager rescoreFrom(final int frameNumber) {
+        if (lazy) {
+            dirtyFrame = Math.min(dirtyFrame, frameNumber);
+            return this;
         }
+        return scoreFrom(frameNumber);
     }
 
     /**
-     * Sets the properties of a finished game.
+     * Scores the frames of a lazily scored game that changed since its scores were last brought up to date.
      */
-    private void setFinishedGameProperties() {
-        final int topFrame = frames.size();
-        final BowlingFrame lastFrame;
-        if (topFrame < LAST_FRAME) {
-            lastFrame = frames.get(topFrame);
-        } else {
-            lastFrame = frames.get(LAST_FRAME);
+    private void scorePendingFrames() {
+        if (dirtyFrame != CLEAN) {
+            final int frameNumber = dirtyFrame;
+            dirtyFrame = CLEAN;
+            scoreFrom(frameNumber);
         }
-        game.setScore(lastFrame.getScore());
+    }
+
+    /**
+     * Re-scores the game after the frame at the supplied frame number was added, replaced or deleted. Frames
+     * before the changed frame only need to be re-scored when they are still waiting on bonus balls, which
+     * can be at most two frames back. The frames recorded on the {@link Game} are expected to already reflect
+     * the change.
+     *
+     * @param frameNumber the frame number of the changed frame.
+     * @return this instance.
+     */
+    private GameManager scoreFrom(final int frameNumber) {
+        final int startFrame = Math.max(1, frameNumber - BONUS_LOOK_BACK);
+        state.score(startFrame);
+        setScoresToFrames(startFrame);
+        setFinishedGameProperties();
 
-        setGameCompleteFlag(lastFrame);
+        return this;
     }
 
     /**
-     * Sets the complete flag for the game.
+     * Copies the computed scores from the game state to the frames recorded on the {@link Game}.
      *
-     * @param lastFrame the last frame that the bowler has bowled in that could contain a score.
+     * @param startFrame the frame number to start copying at.
      */
-    private void setGameCompleteFlag(final BowlingFrame lastFrame) {
-        game.setComplete(false); // assume not complete
-
-        final int topFrame = frames.size();
-        if (topFrame >= LAST_FRAME) {
-            // in the tenth frame
-            if (lastFrame.isOpenFrame()) {
-                // complete if the first frame in the tenth is an open
-                game.setComplete(true);
-            } else if (lastFrame.isSpare()) {
-                final BowlingFrame nextFrame = getFrame(LAST_FRAME, 1);
-                // complete if the first frame in the 10th is a spare and the next ball has been thrown.
-                game.setComplete(nextFrame != null && nextFrame.getFirstBall() >= 0);
-            } else if (lastFrame.isStrike()) {
-                final BowlingFrame nextFrame = getFrame(LAST_FRAME, 1);
-                if (nextFrame != null && !nextFrame.isStrike()) {
-                    // complete if the first frame in the 10th is a strike and the next frame is a spare or an
-                    // open.
-                    game.setComplete(nextFrame.getFirstBall() >= 0 && nextFrame.getSecondBall() >= 0);
-                } else {
-                    // complete if the first two frames in the tenth are strikes and the first ball of the
-                    // last frame has been thrown.
-                    final BowlingFrame next2Frame = getFrame(LAST_FRAME, 2);
-                    game.setComplete(next2Frame != null && next2Frame.getFirstBall() >= 0);
-                }
-            }
+    private void setScoresToFrames(final int startFrame) {
+        final List<BowlingFrame> gameFrames = game.getFrames();
+        final int topFrame = state.getFrameCount();
+        for (int frameNumber = startFrame; frameNumber <= topFrame; frameNumber++) {
+            gameFrames.get(frameNumber - 1).setScore(state.getScore(frameNumber));
+        }
+    }
+
+    /**
+     * Sets the properties of a finished game.
+     */
+    private void setFinishedGameProperties() {
+        final int topFrame = state.getFrameCount();
+        if (topFrame == 0) {
+            game.setScore(0);
+            game.setComplete(false);
+            return;
         }
+
+        game.setScore(state.getScore(Math.min(topFrame, LAST_FRAME)));
+        game.setComplete(isGameComplete());
     }
 
     /**
-     * Returns the score for the {@link BowlingFrame} at the supplied frameNumber + the supplied framesAhead
-     * position.
+     * Returns true if the bowler has thrown every ball of the game, including the bonus balls earned in the tenth
+     * frame.
      *
-     * @param frameNumber the frame number to start at. The returned frame will be the frame associated with
-     *                    this frame number + the framesAhead value.
-     * @param framesAhead the number of frames to added to the supplied frame number when retrieving the
-     *                    frame.
-     * @return the score or zero if the frame doesn't exist.
+     * @return true if complete.
      */
-    private int getFrameScore(final int frameNumber, final int framesAhead) {
-        final BowlingFrame frameBean = getFrame(frameNumber, framesAhead);
-        return frameBean == null ? 0 : frameBean.getScore();
+    private boolean isGameComplete() {
+        final int topFrame = state.getFrameCount();
+        if (topFrame < LAST_FRAME || state.isAwaitingSecondBall()) {
+            return false;
+        }
+        if (state.isStrike(LAST_FRAME)) {
+            // complete if the next frame is a spare or an open, or if the first two frames in the tenth are
+            // strikes and the first ball of the last frame has been thrown.
+            return (topFrame > LAST_FRAME && !state.isStrike(LAST_FRAME + 1)) || topFrame == GameState.MAX_FRAMES;
+        }
+        if (state.isSpare(LAST_FRAME)) {
+            // complete if the next ball has been thrown.
+            return topFrame > LAST_FRAME;
+        }
+        // complete if the first frame in the tenth is an open
+        return true;
     }
 
     @Override
     public GameManager replaceFrame(final int frameNumber, final BowlingFrame frame) {
-        final BowlingFrame retrFrame = retrieveFrame(frameNumber);
-        Verify.verify(retrFrame != null, "Frame not found for frame number %s", frameNumber);
-
-        assertValidFrame(frame);
+        if (!hasFrame(frameNumber)) {
+            throw FrameValidatorImpl.invalidFrame(ValidationError.FRAME_NOT_FOUND, frame, frameNumber);
+        }
+        assertValidFrame(frameNumber, frame);
+        assertEarnedBonusFrames(frameNumber, frame);
 
-        frames.put(frameNumber, frame);
+        state.set(frameNumber, frame.getFirstBall(), frame.getSecondBall(), frame.isSplit());
+        game.getFrames().set(frameNumber - 1, frame);
 
-        return calculateScore();
+        return rescoreFrom(frameNumber);
     }
 
     @Override
     public GameManager deleteFrame(final int frameNumber) {
-        final BowlingFrame frame = retrieveFrame(frameNumber);
-        if (frame == null) {
+        if (!hasFrame(frameNumber)) {
             return this;
         }
 
-        frames.remove(frameNumber);
+        state.remove(frameNumber);
+        game.getFrames().remove(frameNumber - 1);
 
-        return calculateScore();
+        return rescoreFrom(frameNumber);
     }
 
     @Override
     public BowlingFrame retrieveFrame(final int frameNumber) {
-        return getFrame(frameNumber, 0);
+        if (!hasFrame(frameNumber)) {
+            return null;
+        }
+        scorePendingFrames();
+        return game.getFrames().get(frameNumber - 1);
     }
 
-    /**
-     * Returns the {@link BowlingFrame} at the supplied frameNumber + the supplied framesAhead position.
-     *
-     * @param frameNumber the frame number to start at. The returned frame will be the frame associated with
-     *                    this frame number + the framesAhead value.
-     * @param framesAhead the number of frames to add to the supplied frame number when retrieving the frame.
-     * @return the {@link BowlingFrame} or null if the frame doesn't exist.
-     */
-    private BowlingFrame getFrame(final int frameNumber, final int framesAhead) {
-        final int topFrame = frames.size();
-        BowlingFrame frameBean = null;
-        final int frame = frameNumber + framesAhead;
-        if (frame >= 1 && frame <= topFrame) {
-            frameBean = frames.get(frame);
+    @Override
+    public FrameShape retrieveFrameShape(final int frameNumber) {
+        if (!hasFrame(frameNumber)) {
+            return null;
+        }
+        return state.getShape(frameNumber);
+    }
+
+    @Override
+    public int retrieveFrameScore(final int frameNumber) {
+        if (!hasFrame(frameNumber)) {
+            return 0;
         }
-        return frameBean;
+        scorePendingFrames();
+        return state.getScore(frameNumber);
     }
 
     @Override
     public Game getGame() {
+        scorePendingFrames();
         return game;
     }
+
+    /**
+     * Returns an immutable snapshot of the game as it is now. The snapshot is built from the last snapshot taken, so
+     * only the frames changed since then are copied, and the last snapshot itself is returned if nothing changed.
+     *
+     * @return the snapshot.
+     */
+    @Override
+    public GameSnapshot getSnapshot() {
+        snapshot = GameSnapshot.of(getGame(), snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Returns true if the frame in progress is waiting on its second ball.
+     *
+     * @return true if waiting on the second ball.
+     */
+    boolean isAwaitingSecondBall() {
+        return state.isAwaitingSecondBall();
+    }
+
+    /**
+     * Returns the game to the supplied snapshot of it, taken by this manager. The frames recorded on the
+     * {@link Game} are replaced with new frames, and the snapshot becomes the last snapshot taken.
+     *
+     * @param version            the snapshot.
+     * @param awaitingSecondBall true if the frame in progress was waiting on its second ball when the snapshot was
+     *                           taken.
+     */
+    void restore(final GameSnapshot version, final boolean awaitingSecondBall) {
+        final List<BowlingFrame> gameFrames = game.getFrames();
+        gameFrames.clear();
+        for (final FrameSnapshot frame : version.getFrames()) {
+            gameFrames.add(frame.toBowlingFrame());
+        }
+        loadFramesFromGame();
+        state.setAwaitingSecondBall(awaitingSecondBall);
+        dirtyFrame = CLEAN;
+        scoreFrom(1);
+        snapshot = version;
+    }
+
+    /**
+     * Returns true if a frame has been recorded at the supplied frame number.
+     *
+     * @param frameNumber the frame number.
+     * @return true if recorded.
+     */
+    private boolean hasFrame(final int frameNumber) {
+        return frameNumber >= 1 && frameNumber <= state.getFrameCount();
+    }
 }
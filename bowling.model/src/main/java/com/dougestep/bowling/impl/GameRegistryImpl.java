@@ -0,0 +1,206 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.GameManager;
+import com.dougestep.bowling.GameRegistry;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.Game;
+import com.google.common.base.Verify;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps track of the live bowling games in a bowling center. The games and the lane and bowler indexes are held in
+ * {@link ConcurrentHashMap}s, so lookups never lock and updates only lock the hash bins of the keys being changed.
+ * Registering or unregistering a game updates the indexes while holding the lock of the game's entry, so changes to
+ * the same game are applied one at a time. There is no lock across the whole registry.
+ * <p>
+ * The registry only tracks the games; register a {@link ConcurrentGameManagerImpl} when a game is updated by one
+ * thread and read by others.
+ * </p>
+ *
+ * @author dougestep
+ */
+public final class GameRegistryImpl implements GameRegistry {
+    private static final String NON_NULL_MSG = "expected a non-null reference to %s";
+
+    private final ConcurrentMap<UUID, Registration> games;
+    private final ConcurrentMap<Integer, Set<UUID>> gamesByLane;
+    private final ConcurrentMap<UUID, Set<UUID>> gamesByBowler;
+
+    /**
+     * Default constructor.
+     */
+    private GameRegistryImpl() {
+        games = new ConcurrentHashMap<>();
+        gamesByLane = new ConcurrentHashMap<>();
+        gamesByBowler = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns an instance of this class.
+     *
+     * @return the instance.
+     */
+    public static GameRegistry newInstance() {
+        return new GameRegistryImpl();
+    }
+
+    @Override
+    public GameRegistry register(final int lane, final GameManager manager) {
+        Verify.verifyNotNull(manager, NON_NULL_MSG, "GameManager");
+        final Game game = manager.getGame();
+        final UUID gameUid = game.getUid();
+        Verify.verifyNotNull(gameUid, NON_NULL_MSG, "Game UID");
+
+        final Bowler bowler = game.getBowler();
+        final Registration registration = new Registration(lane, bowler == null ? null : bowler.getUid(), manager);
+        // the indexes are updated while the game's entry is locked, so registrations of the same game don't
+        // interleave and leave it indexed under a lane or bowler it is no longer registered with.
+        games.compute(gameUid, (uid, previous) -> {
+            if (previous != null) {
+                removeFromIndexes(uid, previous);
+            }
+            addToIndex(gamesByLane, lane, uid);
+            if (registration.bowlerUid != null) {
+                addToIndex(gamesByBowler, registration.bowlerUid, uid);
+            }
+            return registration;
+        });
+        return this;
+    }
+
+    @Override
+    public GameManager unregister(final UUID gameUid) {
+        if (gameUid == null) {
+            return null;
+        }
+        final GameManager[] removed = new GameManager[1];
+        games.computeIfPresent(gameUid, (uid, registration) -> {
+            removeFromIndexes(uid, registration);
+            removed[0] = registration.manager;
+            return null;
+        });
+        return removed[0];
+    }
+
+    /**
+     * Removes the supplied game from the lane and bowler indexes.
+     *
+     * @param gameUid      the game UID.
+     * @param registration the registration of the game.
+     */
+    private void removeFromIndexes(final UUID gameUid, final Registration registration) {
+        removeFromIndex(gamesByLane, registration.lane, gameUid);
+        if (registration.bowlerUid != null) {
+            removeFromIndex(gamesByBowler, registration.bowlerUid, gameUid);
+        }
+    }
+
+    /**
+     * Adds the supplied game to the set of games indexed by the supplied key. The set is created and updated
+     * atomically with respect to other updates of the same key.
+     *
+     * @param index   the index.
+     * @param key     the key.
+     * @param gameUid the game UID.
+     * @param <K>     the key type.
+     */
+    private static <K> void addToIndex(final ConcurrentMap<K, Set<UUID>> index, final K key, final UUID gameUid) {
+        index.compute(key, (k, gameUids) -> {
+            final Set<UUID> updated = gameUids == null ? ConcurrentHashMap.newKeySet() : gameUids;
+            updated.add(gameUid);
+            return updated;
+        });
+    }
+
+    /**
+     * Removes the supplied game from the set of games indexed by the supplied key, dropping the set once empty.
+     *
+     * @param index   the index.
+     * @param key     the key.
+     * @param gameUid the game UID.
+     * @param <K>     the key type.
+     */
+    private static <K> void removeFromIndex(final ConcurrentMap<K, Set<UUID>> index, final K key,
+                                            final UUID gameUid) {
+        index.computeIfPresent(key, (k, gameUids) -> {
+            gameUids.remove(gameUid);
+            return gameUids.isEmpty() ? null : gameUids;
+        });
+    }
+
+    @Override
+    public GameManager findGame(final UUID gameUid) {
+        if (gameUid == null) {
+            return null;
+        }
+        final Registration registration = games.get(gameUid);
+        return registration == null ? null : registration.manager;
+    }
+
+    @Override
+    public List<GameManager> findGamesByLane(final int lane) {
+        return findGames(gamesByLane.get(lane));
+    }
+
+    @Override
+    public List<GameManager> findGamesByBowler(final UUID bowlerUid) {
+        if (bowlerUid == null) {
+            return Collections.emptyList();
+        }
+        return findGames(gamesByBowler.get(bowlerUid));
+    }
+
+    /**
+     * Returns the games with the supplied UIDs that are still registered.
+     *
+     * @param gameUids the game UIDs.
+     * @return the games.
+     */
+    private List<GameManager> findGames(final Set<UUID> gameUids) {
+        if (gameUids == null) {
+            return Collections.emptyList();
+        }
+        final List<GameManager> managers = new ArrayList<>(gameUids.size());
+        for (final UUID gameUid : gameUids) {
+            final GameManager manager = findGame(gameUid);
+            if (manager != null) {
+                managers.add(manager);
+            }
+        }
+        return managers;
+    }
+
+    @Override
+    public int size() {
+        return games.size();
+    }
+
+    /**
+     * Records the lane and bowler a registered game was indexed under.
+     */
+    private static final class Registration {
+        private final int lane;
+        private final UUID bowlerUid;
+        private final GameManager manager;
+
+        /**
+         * Creates an instance of this class.
+         *
+         * @param lane      the lane number.
+         * @param bowlerUid the bowler UID or null if the bowler has none.
+         * @param manager   the game.
+         */
+        Registration(final int lane, final UUID bowlerUid, final GameManager manager) {
+            this.lane = lane;
+            this.bowlerUid = bowlerUid;
+            this.manager = manager;
+        }
+    }
+}
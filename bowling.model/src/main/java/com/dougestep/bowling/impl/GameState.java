@@ -0,0 +1,250 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.data.FrameShape;
+
+/**
+ * Holds the pin fall and running score for every frame of a bowling game in fixed-size primitive arrays. A game
+ * has at most {@link #MAX_FRAMES} frame slots: the ten frames plus the two bonus frames that can follow a mark in
+ * the tenth frame. Frame numbers are one based.
+ *
+ * @author dougestep
+ */
+final class GameState {
+    /**
+     * The maximum number of frames in a game, including the bonus frames after the tenth frame.
+     */
+    static final int MAX_FRAMES = 12;
+
+    /**
+     * 10 points.
+     */
+    private static final int MARK_1 = 10;
+
+    /**
+     * The most balls scored at once: two per frame, plus the two unthrown balls after the last frame.
+     */
+    private static final int MAX_BALLS = MAX_FRAMES * 2 + 2;
+
+    private final byte[] firstBalls = new byte[MAX_FRAMES];
+    private final byte[] secondBalls = new byte[MAX_FRAMES];
+    private final boolean[] splits = new boolean[MAX_FRAMES];
+    private final short[] scores = new short[MAX_FRAMES];
+    private final byte[] balls = new byte[MAX_BALLS];
+    private int frameCount;
+    private boolean awaitingSecondBall;
+
+    /**
+     * Creates an instance of this class.
+     */
+    GameState() {
+    }
+
+    /**
+     * Returns the number of frames recorded.
+     *
+     * @return the number of frames.
+     */
+    int getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Returns true if no more frames can be recorded.
+     *
+     * @return true if full.
+     */
+    boolean isFull() {
+        return frameCount == MAX_FRAMES;
+    }
+
+    /**
+     * Returns true if the last frame has only had its first ball thrown and is waiting on the second ball.
+     *
+     * @return true if waiting on the second ball.
+     */
+    boolean isAwaitingSecondBall() {
+        return awaitingSecondBall;
+    }
+
+    /**
+     * Set to true to indicate the last frame is waiting on its second ball.
+     *
+     * @param awaitingSecondBall true if waiting on the second ball.
+     */
+    void setAwaitingSecondBall(final boolean awaitingSecondBall) {
+        this.awaitingSecondBall = awaitingSecondBall;
+    }
+
+    /**
+     * Records a new frame after the last recorded frame.
+     *
+     * @param firstBall  the number of pins knocked down on the first ball.
+     * @param secondBall the number of pins knocked down on the second ball.
+     * @param split      true if the bowler threw a split.
+     * @return the frame number of the new frame.
+     */
+    int append(final int firstBall, final int secondBall, final boolean split) {
+        frameCount++;
+        set(frameCount, firstBall, secondBall, split);
+        return frameCount;
+    }
+
+    /**
+     * Overwrites the pin fall of the frame at the supplied frame number.
+     *
+     * @param frameNumber the frame number.
+     * @param firstBall   the number of pins knocked down on the first ball.
+     * @param secondBall  the number of pins knocked down on the second ball.
+     * @param split       true if the bowler threw a split.
+     */
+    void set(final int frameNumber, final int firstBall, final int secondBall, final boolean split) {
+        final int index = frameNumber - 1;
+        firstBalls[index] = (byte) firstBall;
+        secondBalls[index] = (byte) secondBall;
+        splits[index] = split;
+        if (frameNumber == frameCount) {
+            awaitingSecondBall = false;
+        }
+    }
+
+    /**
+     * Records the second ball of the frame at the supplied frame number.
+     *
+     * @param frameNumber the frame number.
+     * @param secondBall  the number of pins knocked down on the second ball.
+     * @param split       true if the bowler threw a split. A split already recorded for the frame is kept.
+     */
+    void setSecondBall(final int frameNumber, final int secondBall, final boolean split) {
+        final int index = frameNumber - 1;
+        secondBalls[index] = (byte) secondBall;
+        splits[index] |= split;
+        if (frameNumber == frameCount) {
+            awaitingSecondBall = false;
+        }
+    }
+
+    /**
+     * Removes the frame at the supplied frame number. The frames after it move down one position.
+     *
+     * @param frameNumber the frame number.
+     */
+    void remove(final int frameNumber) {
+        final int index = frameNumber - 1;
+        final int moved = frameCount - frameNumber;
+        System.arraycopy(firstBalls, frameNumber, firstBalls, index, moved);
+        System.arraycopy(secondBalls, frameNumber, secondBalls, index, moved);
+        System.arraycopy(splits, frameNumber, splits, index, moved);
+        System.arraycopy(scores, frameNumber, scores, index, moved);
+        if (frameNumber == frameCount) {
+            awaitingSecondBall = false;
+        }
+        frameCount--;
+    }
+
+    /**
+     * Removes all frames.
+     */
+    void clear() {
+        frameCount = 0;
+        awaitingSecondBall = false;
+    }
+
+    /**
+     * Returns the number of pins knocked down on the first ball of the supplied frame.
+     *
+     * @param frameNumber the frame number.
+     * @return the first ball.
+     */
+    int getFirstBall(final int frameNumber) {
+        return firstBalls[frameNumber - 1];
+    }
+
+    /**
+     * Returns the number of pins knocked down on the second ball of the supplied frame.
+     *
+     * @param frameNumber the frame number.
+     * @return the second ball.
+     */
+    int getSecondBall(final int frameNumber) {
+        return secondBalls[frameNumber - 1];
+    }
+
+    /**
+     * Returns true if the bowler threw a split in the supplied frame.
+     *
+     * @param frameNumber the frame number.
+     * @return true if a split.
+     */
+    boolean isSplit(final int frameNumber) {
+        return splits[frameNumber - 1];
+    }
+
+    /**
+     * Returns the shared shape of the supplied frame.
+     *
+     * @param frameNumber the frame number.
+     * @return the frame shape.
+     */
+    FrameShape getShape(final int frameNumber) {
+        final int index = frameNumber - 1;
+        return FrameShape.fromIndex(FrameShape.indexOf(firstBalls[index], secondBalls[index], splits[index]));
+    }
+
+    /**
+     * Returns the running score of the supplied frame.
+     *
+     * @param frameNumber the frame number.
+     * @return the score.
+     */
+    int getScore(final int frameNumber) {
+        return scores[frameNumber - 1];
+    }
+
+    /**
+     * Returns true if the supplied frame is a strike.
+     *
+     * @param frameNumber the frame number.
+     * @return true if a strike.
+     */
+    boolean isStrike(final int frameNumber) {
+        return firstBalls[frameNumber - 1] == MARK_1;
+    }
+
+    /**
+     * Returns true if the supplied frame is a spare.
+     *
+     * @param frameNumber the frame number.
+     * @return true if a spare.
+     */
+    boolean isSpare(final int frameNumber) {
+        final int index = frameNumber - 1;
+        return firstBalls[index] != MARK_1 && firstBalls[index] + secondBalls[index] == MARK_1;
+    }
+
+    /**
+     * Computes the running score of every frame starting at the supplied frame number through the last frame.
+     * The frame prior to the starting frame is expected to already hold its correct score.
+     *
+     * @param startFrame the frame number to start scoring at.
+     */
+    void score(final int startFrame) {
+        // lay the balls out in the order they were thrown; the second ball of a strike is overwritten by the
+        // next frame.
+        int ballCount = 0;
+        for (int index = startFrame - 1; index < frameCount; index++) {
+            balls[ballCount++] = firstBalls[index];
+            balls[ballCount] = secondBalls[index];
+            ballCount += ScoringTable.ballsPerFrame(firstBalls[index]) - 1;
+        }
+        balls[ballCount] = 0;
+        balls[ballCount + 1] = 0;
+
+        int runningScore = startFrame > 1 ? scores[startFrame - 2] : 0;
+        int ball = 0;
+        for (int index = startFrame - 1; index < frameCount; index++) {
+            runningScore += ScoringTable.points(balls[ball], balls[ball + 1], balls[ball + 2]);
+            scores[index] = (short) runningScore;
+            ball += ScoringTable.ballsPerFrame(balls[ball]);
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.BatchScorer;
+import com.dougestep.bowling.GameStore;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.Game;
+import com.google.common.base.Verify;
+import com.google.common.base.VerifyException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Holds many finished bowling games in parallel primitive arrays. Every game takes 74 bytes spread over ten
+ * arrays, instead of a {@link Game}, a frame list and a dozen {@link BowlingFrame} objects, and a scan over one
+ * column, such as the game scores, reads a single contiguous array.
+ * <p>
+ * This class isn't safe for use by multiple threads while games are being added.
+ * </p>
+ *
+ * @author dougestep
+ */
+public final class GameStoreImpl implements GameStore {
+    private static final String NON_NULL_MSG = "expected a non-null reference to %s";
+
+    /**
+     * The number of games room is made for when no capacity is supplied.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The number of frame slots stored per game: the ten frames plus the two bonus frames.
+     */
+    private static final int FRAME_SLOTS = BatchScorer.FRAME_SLOTS;
+
+    /**
+     * 10 points.
+     */
+    private static final int MARK_1 = 10;
+
+    /**
+     * Tenth frame.
+     */
+    private static final int LAST_FRAME = 10;
+
+    private final BowlerTable bowlers = new BowlerTable(new ArrayList<Bowler>());
+
+    private int size;
+    private long[] uidMostSignificant;
+    private long[] uidLeastSignificant;
+    private int[] bowlerIndexes;
+    private byte[] frameCounts;
+    private boolean[] completes;
+    private short[] scores;
+    private short[] splits;
+    private byte[] firstBalls;
+    private byte[] secondBalls;
+    private short[] frameScores;
+
+    /**
+     * Creates an instance of this class.
+     *
+     * @param capacity the number of games to make room for.
+     */
+    private GameStoreImpl(final int capacity) {
+        uidMostSignificant = new long[capacity];
+        uidLeastSignificant = new long[capacity];
+        bowlerIndexes = new int[capacity];
+        frameCounts = new byte[capacity];
+        completes = new boolean[capacity];
+        scores = new short[capacity];
+        splits = new short[capacity];
+        firstBalls = new byte[capacity * FRAME_SLOTS];
+        secondBalls = new byte[capacity * FRAME_SLOTS];
+        frameScores = new short[capacity * FRAME_SLOTS];
+    }
+
+    /**
+     * Returns an instance of this class.
+     *
+     * @return the instance.
+     */
+    public static GameStore newInstance() {
+        return new GameStoreImpl(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns an instance of this class with room for the supplied number of games. The store grows as needed.
+     *
+     * @param capacity the number of games to make room for.
+     * @return the instance.
+     */
+    public static GameStore newInstance(final int capacity) {
+        Verify.verify(capacity > 0, "The capacity must be greater than zero.");
+        return new GameStoreImpl(capacity);
+    }
+
+    @Override
+    public int addBowler(final Bowler bowler) {
+        Verify.verifyNotNull(bowler, NON_NULL_MSG, "Bowler");
+        return bowlers.indexOf(bowler);
+    }
+
+    @Override
+    public int getBowlerCount() {
+        return bowlers.size();
+    }
+
+    @Override
+    public Bowler getBowler(final int bowlerIndex) {
+        return bowlers.get(bowlerIndex);
+    }
+
+    @Override
+    public int addGame(final Game game) {
+        Verify.verifyNotNull(game, NON_NULL_MSG, "GameBean");
+        final int topFrame = game.getNumberOfFrames();
+        Verify.verify(topFrame <= FRAME_SLOTS, "A game can not have more than %s frames.", FRAME_SLOTS);
+
+        ensureCapacity(size + 1);
+        final int base = size * FRAME_SLOTS;
+        int splitBits = 0;
+        for (int index = 0; index < topFrame; index++) {
+            final BowlingFrame frame = game.getFrames().get(index);
+            if (!isBall(frame.getFirstBall()) || !isBall(frame.getSecondBall())) {
+                throw new VerifyException("Invalid frame " + (index + 1) + ": " + frame.getFirstBall() + ", "
+                        + frame.getSecondBall());
+            }
+            firstBalls[base + index] = (byte) frame.getFirstBall();
+            secondBalls[base + index] = (byte) frame.getSecondBall();
+            frameScores[base + index] = (short) frame.getScore();
+            if (frame.isSplit()) {
+                splitBits |= 1 << index;
+            }
+        }
+        clearFrames(base + topFrame, base + FRAME_SLOTS);
+
+        final int bowlerIndex = game.getBowler() == null ? NO_BOWLER : addBowler(game.getBowler());
+        setGame(game.getUid(), bowlerIndex, topFrame);
+        splits[size] = (short) splitBits;
+        scores[size] = (short) game.getScore();
+        completes[size] = game.isComplete();
+        return size++;
+    }
+
+    @Override
+    public int addGames(final byte[] balls, final int[] gameOffsets, final int[] bowlerIndexes) {
+        Verify.verifyNotNull(gameOffsets, NON_NULL_MSG, "gameOffsets");
+        final int[] batchScores = new int[Math.max(0, gameOffsets.length - 1) * BatchScorer.SCORES_PER_GAME];
+        final int gameCount = BatchScorerImpl.assertValidBatch(balls, gameOffsets, batchScores);
+        Verify.verifyNotNull(bowlerIndexes, NON_NULL_MSG, "bowlerIndexes");
+        Verify.verify(bowlerIndexes.length >= gameCount, "A bowler index is needed for every game.");
+        for (int game = 0; game < gameCount; game++) {
+            if (bowlerIndexes[game] < NO_BOWLER || bowlerIndexes[game] >= bowlers.size()) {
+                throw new VerifyException("Unknown bowler index " + bowlerIndexes[game] + ".");
+            }
+        }
+        for (int game = 0; game < gameCount; game++) {
+            BatchScorerImpl.scoreGame(balls, gameOffsets, game, batchScores);
+        }
+
+        ensureCapacity(size + gameCount);
+        final int firstGame = size;
+        for (int game = 0; game < gameCount; game++) {
+            unpackGame(balls, gameOffsets[game], gameOffsets[game + 1], bowlerIndexes[game]);
+            final int scoreBase = game * BatchScorer.SCORES_PER_GAME;
+            for (int frame = 0; frame < FRAME_SLOTS; frame++) {
+                frameScores[size * FRAME_SLOTS + frame] = (short) batchScores[scoreBase + frame];
+            }
+            scores[size] = (short) batchScores[scoreBase + BatchScorer.TOTAL_OFFSET];
+            size++;
+        }
+        return firstGame;
+    }
+
+    /**
+     * Splits the balls of an already scored game into frames and stores them, along with whether the game is
+     * complete, in the next game slot. Like {@link GameManagerImpl}, a game whose last two ball frame is missing its
+     * second ball isn't complete.
+     *
+     * @param balls       the pins knocked down by each ball of every game.
+     * @param start       the position of the first ball of the game.
+     * @param end         the position after the last ball of the game.
+     * @param bowlerIndex the bowler index.
+     */
+    private void unpackGame(final byte[] balls, final int start, final int end, final int bowlerIndex) {
+        final int base = size * FRAME_SLOTS;
+        int ball = start;
+        int frame = 0;
+        int lastFrame = LAST_FRAME;
+        boolean frameInProgress = false;
+        while (ball < end) {
+            final int firstBall = balls[ball];
+            final boolean twoBallFrame = frame < LAST_FRAME
+                    || (frame == LAST_FRAME && firstBalls[base + LAST_FRAME - 1] == MARK_1);
+            // a two ball frame whose second ball is missing is still in progress.
+            frameInProgress = twoBallFrame && firstBall != MARK_1 && ball + 1 >= end;
+            final boolean secondBall = twoBallFrame && firstBall != MARK_1 && !frameInProgress;
+            firstBalls[base + frame] = (byte) firstBall;
+            secondBalls[base + frame] = secondBall ? balls[ball + 1] : 0;
+            ball += secondBall ? 2 : 1;
+            frame++;
+
+            if (frame == LAST_FRAME && (firstBall == MARK_1 || firstBall + secondBalls[base + frame - 1] == MARK_1)) {
+                // a mark in the tenth frame earns a bonus frame.
+                lastFrame = LAST_FRAME + 1;
+            } else if (frame == LAST_FRAME + 1 && firstBalls[base + LAST_FRAME - 1] == MARK_1
+                    && firstBall == MARK_1) {
+                lastFrame = LAST_FRAME + 2;
+            }
+        }
+        clearFrames(base + frame, base + FRAME_SLOTS);
+
+        setGame(null, bowlerIndex, frame);
+        splits[size] = 0;
+        completes[size] = frame == lastFrame && !frameInProgress;
+    }
+
+    /**
+     * Stores the supplied properties of the game in the next game slot.
+     *
+     * @param uid         the game UID, or null.
+     * @param bowlerIndex the bowler index.
+     * @param frameCount  the number of frames.
+     */
+    private void setGame(final UUID uid, final int bowlerIndex, final int frameCount) {
+        uidMostSignificant[size] = uid == null ? 0 : uid.getMostSignificantBits();
+        uidLeastSignificant[size] = uid == null ? 0 : uid.getLeastSignificantBits();
+        bowlerIndexes[size] = bowlerIndex;
+        frameCounts[size] = (byte) frameCount;
+    }
+
+    /**
+     * Zeroes the frame columns between the supplied positions.
+     *
+     * @param from the first position to clear.
+     * @param to   the position after the last position to clear.
+     */
+    private void clearFrames(final int from, final int to) {
+        Arrays.fill(firstBalls, from, to, (byte) 0);
+        Arrays.fill(secondBalls, from, to, (byte) 0);
+        Arrays.fill(frameScores, from, to, (short) 0);
+    }
+
+    /**
+     * Returns true if the supplied value is a legal number of pins for a ball.
+     *
+     * @param pins the number of pins.
+     * @return true if legal.
+     */
+    private static boolean isBall(final int pins) {
+        return pins >= 0 && pins <= MARK_1;
+    }
+
+    /**
+     * Grows every column so the store holds at least the supplied number of games.
+     *
+     * @param capacity the number of games.
+     */
+    private void ensureCapacity(final int capacity) {
+        if (capacity <= scores.length) {
+            return;
+        }
+        final int newCapacity = Math.max(capacity, scores.length * 2);
+        uidMostSignificant = Arrays.copyOf(uidMostSignificant, newCapacity);
+        uidLeastSignificant = Arrays.copyOf(uidLeastSignificant, newCapacity);
+        bowlerIndexes = Arrays.copyOf(bowlerIndexes, newCapacity);
+        frameCounts = Arrays.copyOf(frameCounts, newCapacity);
+        completes = Arrays.copyOf(completes, newCapacity);
+        scores = Arrays.copyOf(scores, newCapacity);
+        splits = Arrays.copyOf(splits, newCapacity);
+        firstBalls = Arrays.copyOf(firstBalls, newCapacity * FRAME_SLOTS);
+        secondBalls = Arrays.copyOf(secondBalls, newCapacity * FRAME_SLOTS);
+        frameScores = Arrays.copyOf(frameScores, newCapacity * FRAME_SLOTS);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public UUID getUid(final int game) {
+        assertValidGame(game);
+        final long mostSignificant = uidMostSignificant[game];
+        final long leastSignificant = uidLeastSignificant[game];
+        return mostSignificant == 0 && leastSignificant == 0 ? null : new UUID(mostSignificant, leastSignificant);
+    }
+
+    @Override
+    public int getBowlerIndex(final int game) {
+        assertValidGame(game);
+        return bowlerIndexes[game];
+    }
+
+    @Override
+    public int getFrameCount(final int game) {
+        assertValidGame(game);
+        return frameCounts[game];
+    }
+
+    @Override
+    public int getFirstBall(final int game, final int frameNumber) {
+        return firstBalls[frameIndex(game, frameNumber)];
+    }
+
+    @Override
+    public int getSecondBall(final int game, final int frameNumber) {
+        return secondBalls[frameIndex(game, frameNumber)];
+    }
+
+    @Override
+    public boolean isSplit(final int game, final int frameNumber) {
+        frameIndex(game, frameNumber);
+        return (splits[game] & 1 << (frameNumber - 1)) != 0;
+    }
+
+    @Override
+    public int getFrameScore(final int game, final int frameNumber) {
+        return frameScores[frameIndex(game, frameNumber)];
+    }
+
+    @Override
+    public int getScore(final int game) {
+        assertValidGame(game);
+        return scores[game];
+    }
+
+    @Override
+    public boolean isComplete(final int game) {
+        assertValidGame(game);
+        return completes[game];
+    }
+
+    @Override
+    public Game toGame(final int game) {
+        final int bowlerIndex = getBowlerIndex(game);
+        final Game copy = new Game()
+                .setUid(getUid(game))
+                .setBowler(bowlerIndex == NO_BOWLER ? null : bowlers.get(bowlerIndex))
+                .setScore(scores[game])
+                .setComplete(completes[game]);
+        copy.clearFrames();
+        final int topFrame = frameCounts[game];
+        for (int frameNumber = 1; frameNumber <= topFrame; frameNumber++) {
+            copy.addFrame(toFrame(game, frameNumber));
+        }
+        return copy;
+    }
+
+    /**
+     * Returns a new {@link BowlingFrame} holding the supplied frame of the supplied game.
+     *
+     * @param game        the game index.
+     * @param frameNumber the frame number.
+     * @return the frame.
+     */
+    private BowlingFrame toFrame(final int game, final int frameNumber) {
+        final int index = frameIndex(game, frameNumber);
+        return new BowlingFrame(firstBalls[index], secondBalls[index], isSplit(game, frameNumber))
+                .setScore(frameScores[index]);
+    }
+
+    /**
+     * Returns the position of a frame within the frame columns.
+     *
+     * @param game        the game index.
+     * @param frameNumber the frame number.
+     * @return the position.
+     */
+    private int frameIndex(final int game, final int frameNumber) {
+        assertValidGame(game);
+        if (frameNumber < 1 || frameNumber > FRAME_SLOTS) {
+            throw new VerifyException("Invalid frame number " + frameNumber);
+        }
+        return game * FRAME_SLOTS + frameNumber - 1;
+    }
+
+    /**
+     * Asserts the supplied game index identifies a game in this store.
+     *
+     * @param game the game index.
+     */
+    private void assertValidGame(final int game) {
+        if (game < 0 || game >= size) {
+            throw new VerifyException("Game " + game + " is not in the store.");
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.Game;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes games as an HTML fragment: a div holding one score card table per game. A card has the frame number row,
+ * the mark row with a cell per ball and the score row, like the card of {@link PrintManagerImpl}. The tenth frame has
+ * three ball cells which show the balls of the tenth frame and its bonus frames. Text is escaped; the fragment
+ * carries no styles.
+ *
+ * @author dougestep
+ */
+final class HtmlExportFormat implements ExportFormat {
+    /**
+     * 10 points.
+     */
+    private static final int MARK_1 = 10;
+
+    /**
+     * The number of ball cells of the tenth frame.
+     */
+    private static final int TENTH_FRAME_BALLS = 3;
+
+    private static final String HEADER_ROW = buildHeaderRow();
+    private static final String EMPTY_CELL = "<td></td>";
+
+    @Override
+    public String getContentType() {
+        return "text/html";
+    }
+
+    @Override
+    public void startDocument(final Appendable out) throws IOException {
+        out.append("<div class=\"bowling-games\">\n");
+    }
+
+    @Override
+    public void writeGame(final Appendable out, final Game game, final boolean first) throws IOException {
+        out.append("<table class=\"bowling-game\"");
+        if (game.getUid() != null) {
+            out.append(" data-uid=\"").append(game.getUid().toString()).append('"');
+        }
+        out.append(game.isComplete() ? " data-complete=\"true\">\n" : " data-complete=\"false\">\n");
+        out.append(HEADER_ROW);
+
+        out.append("<tr class=\"marks\"><td class=\"bowler\" rowspan=\"2\">");
+        appendBowlerName(out, game.getBowler());
+        out.append("</td>");
+        final List<BowlingFrame> frames = GameExporterImpl.framesOf(game);
+        appendMarkCells(out, frames);
+        out.append("</tr>\n");
+
+        out.append("<tr class=\"scores\">");
+        appendScoreCells(out, frames);
+        out.append("</tr>\n</table>\n");
+    }
+
+    /**
+     * Appends the escaped name of the supplied bowler.
+     *
+     * @param out    the output.
+     * @param bowler the bowler, or null.
+     * @throws IOException if the output can't be written.
+     */
+    private static void appendBowlerName(final Appendable out, final Bowler bowler) throws IOException {
+        if (bowler == null) {
+            return;
+        }
+        appendEscaped(out, bowler.getFirstName());
+        if (bowler.getFirstName() != null && bowler.getLastName() != null) {
+            out.append(' ');
+        }
+        appendEscaped(out, bowler.getLastName());
+    }
+
+    /**
+     * Appends the ball cells of every frame.
+     *
+     * @param out    the output.
+     * @param frames the frames of the game.
+     * @throws IOException if the output can't be written.
+     */
+    private static void appendMarkCells(final Appendable out, final List<BowlingFrame> frames) throws IOException {
+        for (int frameNumber = 1; frameNumber < MARK_1; frameNumber++) {
+            final BowlingFrame frame = frameAt(frames, frameNumber);
+            if (frame == null) {
+                out.append(EMPTY_CELL).append(EMPTY_CELL);
+            } else if (frame.isStrike()) {
+                out.append(EMPTY_CELL).append("<td>X</td>");
+            } else {
+                appendFirstBall(out, frame);
+                appendSecondBall(out, frame);
+            }
+        }
+        appendTenthFrameBalls(out, frames);
+    }
+
+    /**
+     * Appends the score cell of every frame; the cells of frames which haven't been bowled are empty.
+     *
+     * @param out    the output.
+     * @param frames the frames of the game.
+     * @throws IOException if the output can't be written.
+     */
+    private static void appendScoreCells(final Appendable out, final List<BowlingFrame> frames) throws IOException {
+        for (int frameNumber = 1; frameNumber <= MARK_1; frameNumber++) {
+            out.append(frameNumber == MARK_1 ? "<td colspan=\"3\">" : "<td colspan=\"2\">");
+            final BowlingFrame frame = frameAt(frames, frameNumber);
+            if (frame != null) {
+                GameExporterImpl.appendInt(out, frame.getScore());
+            }
+            out.append("</td>");
+        }
+    }
+
+    @Override
+    public void endDocument(final Appendable out) throws IOException {
+        out.append("</div>\n");
+    }
+
+    /**
+     * Renders the frame number row, which doesn't depend on the game.
+     *
+     * @return the row.
+     */
+    private static String buildHeaderRow() {
+        final StringBuilder out = new StringBuilder("<tr class=\"frames\"><th class=\"bowler\"></th>");
+        for (int frameNumber = 1; frameNumber <= MARK_1; frameNumber++) {
+            out.append(frameNumber == MARK_1 ? "<th colspan=\"3\">" : "<th colspan=\"2\">");
+            out.append(frameNumber).append("</th>");
+        }
+        return out.append("</tr>\n").toString();
+    }
+
+    /**
+     * Appends the three ball cells of the tenth frame. The cells show the balls of the tenth frame, then the balls of
+     * its bonus frames; cells without a ball are empty.
+     *
+     * @param out    the output.
+     * @param frames the frames of the game.
+     * @throws IOException if the output can't be written.
+     */
+    private static void appendTenthFrameBalls(final Appendable out, final List<BowlingFrame> frames)
+            throws IOException {
+        int balls = 0;
+        final BowlingFrame tenth = frameAt(frames, MARK_1);
+        final BowlingFrame bonus = frameAt(frames, MARK_1 + 1);
+        if (tenth != null && tenth.isStrike()) {
+            out.append("<td>X</td>");
+            balls++;
+            if (bonus != null) {
+                appendFirstBall(out, bonus);
+                balls++;
+                final BowlingFrame lastBonus = frameAt(frames, MARK_1 + 2);
+                if (!bonus.isStrike()) {
+                    appendSecondBall(out, bonus);
+                    balls++;
+                } else if (lastBonus != null) {
+                    appendFirstBall(out, lastBonus);
+                    balls++;
+                }
+            }
+        } else if (tenth != null) {
+            appendFirstBall(out, tenth);
+            appendSecondBall(out, tenth);
+            balls += 2;
+            if (tenth.isSpare() && bonus != null) {
+                appendFirstBall(out, bonus);
+                balls++;
+            }
+        }
+        for (; balls < TENTH_FRAME_BALLS; balls++) {
+            out.append(EMPTY_CELL);
+        }
+    }
+
+    /**
+     * Appends the cell of the first ball of the supplied frame.
+     *
+     * @param out   the output.
+     * @param frame the frame.
+     * @throws IOException if the output can't be written.
+     */
+    private static void appendFirstBall(final Appendable out, final BowlingFrame frame) throws IOException {
+        if (frame.isStrike()) {
+            out.append("<td>X</td>");
+        } else {
+            appendPinFall(out, frame.getFirstBall(), frame.isSplit());
+        }
+    }
+
+    /**
+     * Appends the cell of the second ball of the supplied frame.
+     *
+     * @param out   the output.
+     * @param frame the frame.
+     * @throws IOException if the output can't be written.
+     */
+    private static void appendSecondBall(final Appendable out, final BowlingFrame frame) throws IOException {
+        if (frame.isSpare()) {
+            out.append("<td>/</td>");
+        } else {
+            appendPinFall(out, frame.getSecondBall(), false);
+        }
+    }
+
+    /**
+     * Appends the cell of a ball which didn't knock down every standing pin.
+     *
+     * @param out     the output.
+     * @param pinFall the number of pins knocked down.
+     * @param split   true if the ball left a split.
+     * @throws IOException if the output can't be written.
+     */
+    private static void appendPinFall(final Appendable out, final int pinFall, final boolean split)
+            throws IOException {
+        if (pinFall == 0) {
+            out.append("<td>-</td>");
+            return;
+        }
+        out.append(split ? "<td class=\"split\">S" : "<td>");
+        GameExporterImpl.appendInt(out, pinFall);
+        out.append("</td>");
+    }
+
+    /**
+     * Appends the supplied text with the HTML special characters escaped.
+     *
+     * @param out  the output.
+     * @param text the text, or null.
+     * @throws IOException if the output can't be written.
+     */
+    private static void appendEscaped(final Appendable out, final String text) throws IOException {
+        if (text == null) {
+            return;
+        }
+        for (int index = 0; index < text.length(); index++) {
+            final char ch = text.charAt(index);
+            switch (ch) {
+                case '&':
+                    out.append("&amp;");
+                    break;
+                case '<':
+                    out.append("&lt;");
+                    break;
+                case '>':
+                    out.append("&gt;");
+                    break;
+                case '"':
+                    out.append("&quot;");
+                    break;
+                case '\'':
+                    out.append("&#39;");
+                    break;
+                default:
+                    out.append(ch);
+            }
+        }
+    }
+
+    /**
+     * Returns the frame at the supplied frame number, or null if it hasn't been bowled.
+     *
+     * @param frames      the frames.
+     * @param frameNumber the frame number.
+     * @return the frame.
+     */
+    private static BowlingFrame frameAt(final List<BowlingFrame> frames, final int frameNumber) {
+        return frameNumber <= frames.size() ? frames.get(frameNumber - 1) : null;
+    }
+}
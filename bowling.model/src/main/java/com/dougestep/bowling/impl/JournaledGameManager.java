@@ -0,0 +1,98 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.GameManager;
+import com.dougestep.bowling.data.BowlingFrame;
+
+import java.util.UUID;
+
+/**
+ * A game whose changes are recorded in a {@link GameJournalImpl}. Room for the record is reserved before the game
+ * changes, so a closed or full journal refuses the change and leaves the game as it was. The change is then made to
+ * the game and only recorded once it succeeds. The journal's lock is held throughout, so no other game can take the
+ * reserved room in between.
+ *
+ * @author dougestep
+ */
+final class JournaledGameManager extends ForwardingGameManager {
+    private final GameJournalImpl journal;
+    private final UUID gameUid;
+
+    /**
+     * Creates an instance of this class.
+     *
+     * @param journal  the journal.
+     * @param delegate the game.
+     */
+    JournaledGameManager(final GameJournalImpl journal, final GameManager delegate) {
+        super(delegate);
+        this.journal = journal;
+        this.gameUid = delegate.getGame().getUid();
+    }
+
+    @Override
+    public GameManager addFrame(final BowlingFrame frame) {
+        synchronized (journal) {
+            journal.reserveRecord();
+            delegate().addFrame(frame);
+            journal.appendFrame(GameJournalImpl.ADD, gameUid, 0, frame);
+        }
+        return this;
+    }
+
+    @Override
+    public GameManager addFrames(final BowlingFrame[] frames) {
+        if (frames != null) {
+            for (final BowlingFrame frame : frames) {
+                addFrame(frame);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public GameManager roll(final int pins) {
+        return roll(pins, false);
+    }
+
+    @Override
+    public GameManager roll(final int pins, final boolean split) {
+        synchronized (journal) {
+            journal.reserveRecord();
+            delegate().roll(pins, split);
+            journal.appendRoll(gameUid, pins, split);
+        }
+        return this;
+    }
+
+    @Override
+    public GameManager calculateScore() {
+        synchronized (journal) {
+            journal.reserveRecord();
+            delegate().calculateScore();
+            journal.appendCalculate(gameUid, delegate().getGame());
+        }
+        return this;
+    }
+
+    @Override
+    public GameManager replaceFrame(final int frameNumber, final BowlingFrame frame) {
+        synchronized (journal) {
+            journal.reserveRecord();
+            delegate().replaceFrame(frameNumber, frame);
+            journal.appendFrame(GameJournalImpl.REPLACE, gameUid, frameNumber, frame);
+        }
+        return this;
+    }
+
+    @Override
+    public GameManager deleteFrame(final int frameNumber) {
+        if (delegate().retrieveFrame(frameNumber) != null) {
+            synchronized (journal) {
+                journal.reserveRecord();
+                delegate().deleteFrame(frameNumber);
+                journal.appendDelete(gameUid, frameNumber);
+            }
+        }
+        return this;
+    }
+}
@@ -0,0 +1,162 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.Game;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes games as a JSON array with one object per game, one game per line:
+ * <pre>
+ * [
+ * {"uid":"...","bowler":{"uid":"...","firstName":"Wilma","lastName":"Flintstone"},"score":9,"complete":false,
+ *  "frames":[{"firstBall":8,"secondBall":1,"split":false,"score":9}]}
+ * ]
+ * </pre>
+ * A missing UID, bowler or name is written as null. The frames include the bonus frames of the tenth frame.
+ *
+ * @author dougestep
+ */
+final class JsonExportFormat implements ExportFormat {
+    private static final String HEX_DIGITS = "0123456789abcdef";
+
+    /**
+     * The first character which can be written in a string without an escape.
+     */
+    private static final char FIRST_PRINTABLE = ' ';
+
+    /**
+     * The line and paragraph separators, which are legal in JSON strings but not in JavaScript string literals.
+     */
+    private static final char LINE_SEPARATOR = '\u2028';
+    private static final char PARAGRAPH_SEPARATOR = '\u2029';
+
+    private static final int NIBBLE_BITS = 4;
+    private static final int NIBBLE_MASK = 0xf;
+    private static final int HEX_ESCAPE_DIGITS = 4;
+
+    @Override
+    public String getContentType() {
+        return "application/json";
+    }
+
+    @Override
+    public void startDocument(final Appendable out) throws IOException {
+        out.append('[');
+    }
+
+    @Override
+    public void writeGame(final Appendable out, final Game game, final boolean first) throws IOException {
+        out.append(first ? "\n" : ",\n");
+        out.append("{\"uid\":");
+        appendUid(out, game.getUid());
+        out.append(",\"bowler\":");
+        appendBowler(out, game.getBowler());
+        out.append(",\"score\":");
+        GameExporterImpl.appendInt(out, game.getScore());
+        out.append(",\"complete\":").append(game.isComplete() ? "true" : "false");
+        out.append(",\"frames\":[");
+        appendFrames(out, GameExporterImpl.framesOf(game));
+        out.append("]}");
+    }
+
+    /**
+     * Appends the supplied bowler as a JSON object, or null.
+     *
+     * @param out    the output.
+     * @param bowler the bowler, or null.
+     * @throws IOException if the output can't be written.
+     */
+    private static void appendBowler(final Appendable out, final Bowler bowler) throws IOException {
+        if (bowler == null) {
+            out.append("null");
+            return;
+        }
+        out.append("{\"uid\":");
+        appendUid(out, bowler.getUid());
+        out.append(",\"firstName\":");
+        appendString(out, bowler.getFirstName());
+        out.append(",\"lastName\":");
+        appendString(out, bowler.getLastName());
+        out.append('}');
+    }
+
+    /**
+     * Appends the supplied frames as comma-separated JSON objects.
+     *
+     * @param out    the output.
+     * @param frames the frames.
+     * @throws IOException if the output can't be written.
+     */
+    private static void appendFrames(final Appendable out, final List<BowlingFrame> frames) throws IOException {
+        for (int index = 0; index < frames.size(); index++) {
+            final BowlingFrame frame = frames.get(index);
+            out.append(index == 0 ? "{\"firstBall\":" : ",{\"firstBall\":");
+            GameExporterImpl.appendInt(out, frame.getFirstBall());
+            out.append(",\"secondBall\":");
+            GameExporterImpl.appendInt(out, frame.getSecondBall());
+            out.append(",\"split\":").append(frame.isSplit() ? "true" : "false");
+            out.append(",\"score\":");
+            GameExporterImpl.appendInt(out, frame.getScore());
+            out.append('}');
+        }
+    }
+
+    @Override
+    public void endDocument(final Appendable out) throws IOException {
+        out.append("\n]\n");
+    }
+
+    /**
+     * Appends the supplied UID as a JSON string, or null.
+     *
+     * @param out the output.
+     * @param uid the UID, or null.
+     * @throws IOException if the output can't be written.
+     */
+    private static void appendUid(final Appendable out, final UUID uid) throws IOException {
+        if (uid == null) {
+            out.append("null");
+        } else {
+            out.append('"').append(uid.toString()).append('"');
+        }
+    }
+
+    /**
+     * Appends the supplied text as a JSON string, escaping the characters which can't appear in one, or null.
+     *
+     * @param out  the output.
+     * @param text the text, or null.
+     * @throws IOException if the output can't be written.
+     */
+    private static void appendString(final Appendable out, final String text) throws IOException {
+        if (text == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int index = 0; index < text.length(); index++) {
+            final char ch = text.charAt(index);
+            if (ch == '"' || ch == '\\') {
+                out.append('\\').append(ch);
+            } else if (ch == '\n') {
+                out.append("\\n");
+            } else if (ch == '\r') {
+                out.append("\\r");
+            } else if (ch == '\t') {
+                out.append("\\t");
+            } else if (ch < FIRST_PRINTABLE || ch == LINE_SEPARATOR || ch == PARAGRAPH_SEPARATOR) {
+                out.append("\\u");
+                for (int digit = HEX_ESCAPE_DIGITS - 1; digit >= 0; digit--) {
+                    out.append(HEX_DIGITS.charAt(ch >> (digit * NIBBLE_BITS) & NIBBLE_MASK));
+                }
+            } else {
+                out.append(ch);
+            }
+        }
+        out.append('"');
+    }
+}
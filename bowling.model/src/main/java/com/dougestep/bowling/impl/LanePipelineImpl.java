@@ -0,0 +1,234 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.LaneListener;
+import com.dougestep.bowling.LanePipeline;
+import com.dougestep.bowling.data.LaneEvent;
+import com.google.common.base.Verify;
+import com.google.common.base.VerifyException;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Applies lane events to the games being bowled with a fixed set of worker threads. A lane is owned by the worker
+ * at position {@code lane mod workers}, so every game is only updated by its lane's worker. Each worker has its own
+ * {@link ArrayBlockingQueue}; {@link #submit(LaneEvent)} waits while the queue is full, which holds producers back
+ * to the pace of the workers.
+ * <p>
+ * Each worker runs a {@link LaneWorker}, which takes every event waiting in its queue, up to
+ * {@value LaneWorker#MAX_BATCH}, and hands them to a {@link LaneScorer}. The scorer rolls them into lazily scored
+ * {@link GameManagerImpl}s, so a game is scored once per batch rather than once per ball. The games that received
+ * balls are then scored and reported to the {@link LaneListener}.
+ * </p>
+ *
+ * @author dougestep
+ */
+public final class LanePipelineImpl implements LanePipeline {
+    private static final String NON_NULL_MSG = "expected a non-null reference to %s";
+
+    /**
+     * The default number of events each worker can hold.
+     */
+    private static final int DEFAULT_QUEUE_CAPACITY = 4096;
+
+    /**
+     * The number of comma-separated fields in a replayed event.
+     */
+    private static final int REPLAY_FIELDS = 4;
+
+    /**
+     * The positions of the lane, bowler UID, pins and split flag within a replayed event.
+     */
+    private static final int LANE_FIELD = 0;
+    private static final int BOWLER_FIELD = 1;
+    private static final int PINS_FIELD = 2;
+    private static final int SPLIT_FIELD = 3;
+
+    private final LaneListener listener;
+    private final LaneWorker[] workers;
+    private final Thread[] threads;
+    private final AtomicLong applied = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * Creates an instance of this class and starts its workers.
+     *
+     * @param listener      receives the updated games.
+     * @param workerCount   the number of worker threads.
+     * @param queueCapacity the number of events each worker can hold.
+     */
+    private LanePipelineImpl(final LaneListener listener, final int workerCount, final int queueCapacity) {
+        Verify.verifyNotNull(listener, NON_NULL_MSG, "LaneListener");
+        Verify.verify(workerCount > 0, "The worker count must be greater than 0. Received: %s", workerCount);
+        Verify.verify(queueCapacity > 0, "The queue capacity must be greater than 0. Received: %s", queueCapacity);
+
+        this.listener = listener;
+        workers = new LaneWorker[workerCount];
+        threads = new Thread[workerCount];
+        for (int index = 0; index < workerCount; index++) {
+            startWorker(index, queueCapacity);
+        }
+    }
+
+    /**
+     * Creates the worker at the supplied position and starts its thread.
+     *
+     * @param index         the position of the worker.
+     * @param queueCapacity the number of events the worker can hold.
+     */
+    private void startWorker(final int index, final int queueCapacity) {
+        workers[index] = new LaneWorker(new ArrayBlockingQueue<LaneEvent>(queueCapacity), listener, applied,
+                rejected);
+        threads[index] = new Thread(workers[index], "lane-pipeline-worker-" + index);
+        threads[index].setDaemon(true);
+        threads[index].start();
+    }
+
+    /**
+     * Returns an instance of this class with one worker per available processor.
+     *
+     * @param listener receives the updated games.
+     * @return the instance.
+     */
+    public static LanePipeline newInstance(final LaneListener listener) {
+        return new LanePipelineImpl(listener, Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Returns an instance of this class.
+     *
+     * @param listener      receives the updated games.
+     * @param workerCount   the number of worker threads.
+     * @param queueCapacity the number of events each worker can hold before producers are held back.
+     * @return the instance.
+     */
+    public static LanePipeline newInstance(final LaneListener listener, final int workerCount,
+            final int queueCapacity) {
+        return new LanePipelineImpl(listener, workerCount, queueCapacity);
+    }
+
+    @Override
+    public boolean offer(final LaneEvent event) {
+        return queueFor(event).offer(event);
+    }
+
+    @Override
+    public void submit(final LaneEvent event) throws InterruptedException {
+        queueFor(event).put(event);
+    }
+
+    /**
+     * Returns the queue of the worker which owns the lane of the supplied event.
+     *
+     * @param event the event.
+     * @return the queue.
+     */
+    private BlockingQueue<LaneEvent> queueFor(final LaneEvent event) {
+        Verify.verify(!closed, "The lane pipeline is closed.");
+        Verify.verifyNotNull(event, NON_NULL_MSG, "LaneEvent");
+        Verify.verifyNotNull(event.getBowlerUid(), NON_NULL_MSG, "Bowler UID");
+        return workers[Math.floorMod(event.getLane(), workers.length)].queue();
+    }
+
+    @Override
+    public long replay(final Path file) throws IOException, InterruptedException {
+        return replay(this, file);
+    }
+
+    /**
+     * Submits every event recorded in the supplied replay file to the supplied pipeline.
+     *
+     * @param pipeline the pipeline.
+     * @param file     the file.
+     * @return the number of events submitted.
+     * @throws IOException          if the file can't be read.
+     * @throws InterruptedException if interrupted while waiting.
+     * @see LanePipeline#replay(Path)
+     */
+    static long replay(final LanePipeline pipeline, final Path file) throws IOException, InterruptedException {
+        Verify.verifyNotNull(file, NON_NULL_MSG, "file");
+
+        long count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                if (!isBlank(line)) {
+                    pipeline.submit(parseEvent(line));
+                    count++;
+                }
+                line = reader.readLine();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns true if the supplied line of a replay file holds only whitespace.
+     *
+     * @param line the line.
+     * @return true if the line is blank.
+     */
+    private static boolean isBlank(final String line) {
+        for (int index = 0; index < line.length(); index++) {
+            if (!Character.isWhitespace(line.charAt(index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the event recorded on the supplied line of a replay file.
+     *
+     * @param line the line.
+     * @return the event.
+     */
+    private static LaneEvent parseEvent(final String line) {
+        final String[] fields = line.split(",");
+        Verify.verify(fields.length == REPLAY_FIELDS, "Malformed lane event: %s", line);
+        try {
+            return new LaneEvent(Integer.parseInt(fields[LANE_FIELD].trim()),
+                    UUID.fromString(fields[BOWLER_FIELD].trim()), Integer.parseInt(fields[PINS_FIELD].trim()),
+                    Boolean.parseBoolean(fields[SPLIT_FIELD].trim()));
+        } catch (IllegalArgumentException iae) {
+            throw new VerifyException("Malformed lane event: " + line, iae);
+        }
+    }
+
+    @Override
+    public long getAppliedCount() {
+        return applied.get();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * Stops accepting events, waits for the events already queued to be applied and stops the workers. Events
+     * submitted by other threads while the pipeline is closing may be dropped.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (final LaneWorker worker : workers) {
+            worker.stop();
+        }
+        for (final Thread thread : threads) {
+            Uninterruptibles.joinUninterruptibly(thread);
+        }
+    }
+}
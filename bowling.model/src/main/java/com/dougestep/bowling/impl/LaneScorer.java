@@ -0,0 +1,158 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.GameManager;
+import com.dougestep.bowling.InvalidFrameException;
+import com.dougestep.bowling.LaneListener;
+import com.dougestep.bowling.ValidationError;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.GameSnapshot;
+import com.dougestep.bowling.data.LaneEvent;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rolls lane events into the games being bowled on one or more lanes. The games are lazily scored
+ * {@link GameManagerImpl}s keyed by lane and bowler; a bowler's first ball on a lane starts a game, and the first ball
+ * after the game is complete starts the next one. An instance is owned by a single thread.
+ *
+ * @author dougestep
+ */
+final class LaneScorer {
+    private final LaneListener listener;
+    private final AtomicLong rejected;
+    private final Map<Integer, Map<UUID, GameManager>> gamesByLane = new HashMap<>();
+    private final Map<GameManager, Integer> updatedGames = new LinkedHashMap<>();
+
+    /**
+     * Creates an instance of this class.
+     *
+     * @param listener receives the updated games and the rejected events.
+     * @param rejected counts the rejected events.
+     */
+    LaneScorer(final LaneListener listener, final AtomicLong rejected) {
+        this.listener = listener;
+        this.rejected = rejected;
+    }
+
+    /**
+     * Rolls the ball of the supplied event into the bowler's game on the event's lane. The game isn't scored until
+     * {@link #publishUpdatedGames()} is called.
+     *
+     * @param event the event.
+     * @return true if applied, or false if rejected.
+     */
+    boolean apply(final LaneEvent event) {
+        final Map<UUID, GameManager> laneGames =
+                gamesByLane.computeIfAbsent(event.getLane(), lane -> new HashMap<>());
+        GameManager manager = laneGames.get(event.getBowlerUid());
+        try {
+            if (manager == null) {
+                manager = startGame(laneGames, event.getBowlerUid());
+            }
+            try {
+                manager.roll(event.getPins(), event.isSplit());
+            } catch (InvalidFrameException ife) {
+                if (ife.getError() != ValidationError.GAME_COMPLETE) {
+                    throw ife;
+                }
+                // the game finished earlier in this batch, so the ball belongs to the bowler's next game.
+                finishGame(event.getLane(), manager);
+                manager = startGame(laneGames, event.getBowlerUid());
+                manager.roll(event.getPins(), event.isSplit());
+            }
+        } catch (RuntimeException re) {
+            rejected.incrementAndGet();
+            notifyEventRejected(event, re);
+            return false;
+        }
+        updatedGames.put(manager, event.getLane());
+        return true;
+    }
+
+    /**
+     * Starts a game for the supplied bowler.
+     *
+     * @param laneGames the games in progress on the lane.
+     * @param bowlerUid the bowler UID.
+     * @return the game.
+     */
+    private GameManager startGame(final Map<UUID, GameManager> laneGames, final UUID bowlerUid) {
+        final Bowler bowler = new Bowler();
+        bowler.setUid(bowlerUid);
+        final GameManager manager = GameManagerImpl.newLazyGame(bowler);
+        laneGames.put(bowlerUid, manager);
+        return manager;
+    }
+
+    /**
+     * Reports a complete game and stops tracking it.
+     *
+     * @param lane    the lane number.
+     * @param manager the game.
+     */
+    private void finishGame(final int lane, final GameManager manager) {
+        updatedGames.remove(manager);
+        final GameSnapshot game = manager.getSnapshot();
+        gamesByLane.get(lane).remove(game.getBowlerUid());
+        notifyGameUpdated(lane, game);
+    }
+
+    /**
+     * Scores and reports the games that received balls since the last call, and stops tracking the complete ones.
+     * Each game is reported as a snapshot built from its previous one, so only its changed frames are copied.
+     */
+    void publishUpdatedGames() {
+        for (final Map.Entry<GameManager, Integer> entry : updatedGames.entrySet()) {
+            final int lane = entry.getValue();
+            final GameSnapshot game = entry.getKey().getSnapshot();
+            if (game.isComplete()) {
+                gamesByLane.get(lane).remove(game.getBowlerUid());
+            }
+            notifyGameUpdated(lane, game);
+        }
+        updatedGames.clear();
+    }
+
+    /**
+     * Reports an updated game to the listener.
+     *
+     * @param lane the lane number.
+     * @param game the snapshot of the game.
+     */
+    private void notifyGameUpdated(final int lane, final GameSnapshot game) {
+        try {
+            listener.gameUpdated(lane, game);
+        } catch (RuntimeException re) {
+            reportListenerFailure(re);
+        }
+    }
+
+    /**
+     * Reports a rejected event to the listener.
+     *
+     * @param event the event.
+     * @param error the reason the event was rejected.
+     */
+    private void notifyEventRejected(final LaneEvent event, final RuntimeException error) {
+        try {
+            listener.eventRejected(event, error);
+        } catch (RuntimeException re) {
+            reportListenerFailure(re);
+        }
+    }
+
+    /**
+     * Hands an exception thrown by the listener to the current thread's uncaught exception handler, so a failing
+     * listener is reported without stopping the worker that owns the lanes.
+     *
+     * @param failure the exception.
+     */
+    private static void reportListenerFailure(final RuntimeException failure) {
+        final Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, failure);
+    }
+}
@@ -0,0 +1,88 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.LaneListener;
+import com.dougestep.bowling.data.LaneEvent;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Applies the lane events waiting in one queue on the thread that runs it, for the lane pipelines. The worker takes
+ * every event waiting in its queue, up to {@value #MAX_BATCH}, rolls them into its {@link LaneScorer} and then
+ * publishes the games that received balls, so a game is scored once per batch rather than once per ball. Everything
+ * but the queue is only touched by the worker's thread.
+ *
+ * @author dougestep
+ */
+final class LaneWorker implements Runnable {
+    /**
+     * The most events a worker applies before scoring its games.
+     */
+    static final int MAX_BATCH = 256;
+
+    /**
+     * Queued behind the last event to stop a worker.
+     */
+    private static final LaneEvent STOP = new LaneEvent();
+
+    private final BlockingQueue<LaneEvent> queue;
+    private final List<LaneEvent> batch = new ArrayList<>(MAX_BATCH);
+    private final LaneScorer scorer;
+    private final AtomicLong applied;
+
+    /**
+     * Creates an instance of this class.
+     *
+     * @param queue    the queue the events are submitted to.
+     * @param listener receives the updated games and the rejected events.
+     * @param applied  counts the applied events.
+     * @param rejected counts the rejected events.
+     */
+    LaneWorker(final BlockingQueue<LaneEvent> queue, final LaneListener listener, final AtomicLong applied,
+            final AtomicLong rejected) {
+        this.queue = queue;
+        this.applied = applied;
+        scorer = new LaneScorer(listener, rejected);
+    }
+
+    /**
+     * Returns the queue the events are submitted to.
+     *
+     * @return the queue.
+     */
+    BlockingQueue<LaneEvent> queue() {
+        return queue;
+    }
+
+    /**
+     * Queues the stop event behind the events already queued, waiting for room if needed. The worker's thread ends
+     * once it has applied them.
+     */
+    void stop() {
+        Uninterruptibles.putUninterruptibly(queue, STOP);
+    }
+
+    @Override
+    public void run() {
+        boolean running = true;
+        while (running) {
+            batch.add(Uninterruptibles.takeUninterruptibly(queue));
+            queue.drainTo(batch, MAX_BATCH - 1);
+
+            long appliedEvents = 0;
+            for (final LaneEvent event : batch) {
+                if (event == STOP) {
+                    running = false;
+                } else if (scorer.apply(event)) {
+                    appliedEvents++;
+                }
+            }
+            batch.clear();
+            applied.addAndGet(appliedEvents);
+            scorer.publishUpdatedGames();
+        }
+    }
+}
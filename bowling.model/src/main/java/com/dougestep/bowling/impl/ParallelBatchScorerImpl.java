@@ -0,0 +1,150 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.BatchScorer;
+import com.dougestep.bowling.data.Game;
+import com.google.common.base.Verify;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Scores many bowling games at once from packed ball arrays, splitting the games across a {@link ForkJoinPool}.
+ * Every game is scored exactly as {@link BatchScorerImpl} scores it and its scores are written to the same position
+ * of the scores array, so the result doesn't depend on the parallelism or on how the games were split.
+ *
+ * @author dougestep
+ */
+public final class ParallelBatchScorerImpl implements BatchScorer {
+    /**
+     * The default number of games below which a range of games is scored on the current thread.
+     */
+    public static final int DEFAULT_SPLIT_THRESHOLD = 4096;
+
+    private final ForkJoinPool pool;
+    private final int splitThreshold;
+
+    /**
+     * Creates an instance of this class.
+     *
+     * @param pool           the pool that scores the games.
+     * @param splitThreshold the number of games below which a range of games isn't split any further.
+     */
+    private ParallelBatchScorerImpl(final ForkJoinPool pool, final int splitThreshold) {
+        Verify.verifyNotNull(pool, "expected a non-null reference to %s", "ForkJoinPool");
+        Verify.verify(splitThreshold > 0, "The split threshold must be greater than 0. Received: %s", splitThreshold);
+        this.pool = pool;
+        this.splitThreshold = splitThreshold;
+    }
+
+    /**
+     * Returns an instance of this class which scores on the common pool with the default split threshold.
+     *
+     * @return the instance.
+     */
+    public static BatchScorer newInstance() {
+        return new ParallelBatchScorerImpl(ForkJoinPool.commonPool(), DEFAULT_SPLIT_THRESHOLD);
+    }
+
+    /**
+     * Returns an instance of this class which scores on a dedicated pool. The pool's worker threads are daemon
+     * threads which exit once they have been idle for a while, so the pool doesn't need to be shut down.
+     *
+     * @param parallelism    the number of threads in the pool.
+     * @param splitThreshold the number of games below which a range of games isn't split any further.
+     * @return the instance.
+     */
+    public static BatchScorer newInstance(final int parallelism, final int splitThreshold) {
+        Verify.verify(parallelism > 0, "The parallelism must be greater than 0. Received: %s", parallelism);
+        return new ParallelBatchScorerImpl(new ForkJoinPool(parallelism), splitThreshold);
+    }
+
+    /**
+     * Returns an instance of this class which scores on the supplied pool.
+     *
+     * @param pool           the pool that scores the games.
+     * @param splitThreshold the number of games below which a range of games isn't split any further.
+     * @return the instance.
+     */
+    public static BatchScorer newInstance(final ForkJoinPool pool, final int splitThreshold) {
+        return new ParallelBatchScorerImpl(pool, splitThreshold);
+    }
+
+    @Override
+    public void scoreGames(final byte[] balls, final int[] gameOffsets, final int[] scores) {
+        final int gameCount = BatchScorerImpl.assertValidBatch(balls, gameOffsets, scores);
+        final ScoreTask task = new ScoreTask(new Batch(balls, gameOffsets, scores, splitThreshold), 0, gameCount);
+        if (gameCount <= splitThreshold) {
+            task.compute();
+        } else {
+            pool.invoke(task);
+        }
+    }
+
+    @Override
+    public int packGame(final Game game, final byte[] balls, final int offset) {
+        return BatchScorerImpl.pack(game, balls, offset);
+    }
+
+    /**
+     * The arrays shared by every task scoring a batch.
+     */
+    private static final class Batch {
+        private final byte[] balls;
+        private final int[] gameOffsets;
+        private final int[] scores;
+        private final int splitThreshold;
+
+        /**
+         * Creates an instance of this class. The arrays are the caller's and aren't copied: the tasks read the balls
+         * in place and write the scores straight into the caller's array.
+         *
+         * @param balls          the pins knocked down by each ball of every game.
+         * @param gameOffsets    the position of the first ball of each game, followed by the end of the last game.
+         * @param scores         receives the scores.
+         * @param splitThreshold the number of games below which a range of games isn't split any further.
+         */
+        @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+        Batch(final byte[] balls, final int[] gameOffsets, final int[] scores, final int splitThreshold) {
+            this.balls = balls;
+            this.gameOffsets = gameOffsets;
+            this.scores = scores;
+            this.splitThreshold = splitThreshold;
+        }
+    }
+
+    /**
+     * Scores a range of games, splitting the range in half until it is no larger than the split threshold.
+     */
+    private static final class ScoreTask extends RecursiveAction {
+        private static final long serialVersionUID = -2281094017541730615L;
+        private final transient Batch batch;
+        private final int firstGame;
+        private final int endGame;
+
+        /**
+         * Creates an instance of this class.
+         *
+         * @param batch     the batch being scored.
+         * @param firstGame the position of the first game to score.
+         * @param endGame   the position after the last game to score.
+         */
+        ScoreTask(final Batch batch, final int firstGame, final int endGame) {
+            this.batch = batch;
+            this.firstGame = firstGame;
+            this.endGame = endGame;
+        }
+
+        @Override
+        protected void compute() {
+            if (endGame - firstGame <= batch.splitThreshold) {
+                for (int game = firstGame; game < endGame; game++) {
+                    BatchScorerImpl.scoreGame(batch.balls, batch.gameOffsets, game, batch.scores);
+                }
+                return;
+            }
+
+            final int middle = (firstGame + endGame) >>> 1;
+            invokeAll(new ScoreTask(batch, firstGame, middle), new ScoreTask(batch, middle, endGame));
+        }
+    }
+}
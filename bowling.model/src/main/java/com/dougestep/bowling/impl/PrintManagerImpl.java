@@ -11,30 +11,50 @@ import java.io.PrintStream;
 import java.util.List;
 
 /**
- * Manages the printing of a bowling game.
+ * Manages the printing of a bowling game. Each score card is rendered into a character buffer that is reused for
+ * every game of a print request, and the buffer is written to the output stream once per game. The frame cells are
+ * copied from the pre-rendered cells of {@link CardFragments}.
  *
  * @author dougestep
  */
 public final class PrintManagerImpl implements PrintManager {
-    private static final String COL_DELIM = "|";
-    private static final int LINE_LENGTH = 147;
-    private static final int NAME_PADDING = 20;
+    private static final char COL_DELIM = '|';
+    static final int LINE_LENGTH = 147;
+    static final int NAME_PADDING = 20;
     private static final int MARK_LINE_STRIKE_PADDING = 5;
     private static final int MARK_LINE_PADDING = 2;
     private static final int SCORE_LINE_PADDING = 5;
-    private static final int SCORE_LINE_CELL_SPACE = 11;
+    static final int SCORE_LINE_CELL_SPACE = 11;
     private static final int SCORE_LINE_TENTH_FRAME_PADDING = 7;
     private static final int SCORE_LINE_TENTH_FRAME_CELL_SPACE = 17;
-    private static final String SPARE = "/";
-    private static final String STRIKE = "X";
-    private static final String BLANK = " ";
-    private static final String ZERO_MARK = "-";
+    private static final char SPARE = '/';
+    private static final char STRIKE = 'X';
+    private static final char SPLIT = 'S';
+    private static final char BLANK = ' ';
+    private static final char ZERO_MARK = '-';
+    private static final char NEW_LINE = '\n';
     private static final String NON_NULL_MSG = "expected a non-null reference to %s";
     /**
      * 10 points.
      */
     private static final int MARK_1 = 10;
 
+    /**
+     * The pin fall of a ball that hasn't been thrown.
+     */
+    static final int NO_BALL = -1;
+
+    /**
+     * The initial capacity of the buffer a score card is rendered into; large enough for a card with a long name.
+     */
+    private static final int CARD_CAPACITY = 1024;
+
+    private static final char[] BLANKS = Strings.repeat(String.valueOf(BLANK), LINE_LENGTH).toCharArray();
+    static final char[] DASHES = Strings.repeat("-", LINE_LENGTH).toCharArray();
+    static final String LINE_SEPARATOR = System.lineSeparator();
+    static final String HEADER = buildHeader();
+    static final String SEPARATOR_LINE = buildSeparatorLine();
+
     /**
      * Default constructor.
      */
@@ -55,11 +75,13 @@ public final class PrintManagerImpl implements PrintManager {
         Verify.verifyNotNull(games, NON_NULL_MSG, "List of GameBeans");
         Verify.verifyNotNull(out, NON_NULL_MSG, "OutputStream");
 
-        printHeader(out);
+        out.print(HEADER);
 
+        final StringBuilder card = new StringBuilder(CARD_CAPACITY);
         for (final Game game : games) {
-            final String name = getPlayerName(game);
-            doPrintGame(name, game, out);
+            card.setLength(0);
+            renderGame(card, game);
+            out.print(card);
         }
     }
 
@@ -68,296 +90,324 @@ public final class PrintManagerImpl implements PrintManager {
         Verify.verifyNotNull(game, NON_NULL_MSG, "GameBean");
         Verify.verifyNotNull(out, NON_NULL_MSG, "OutputStream");
 
-        printHeader(out);
-
-        final String name = getPlayerName(game);
-        doPrintGame(name, game, out);
-
-        out.print("\nGame: ");
-        out.println(game.isComplete() ? "Complete" : "Incomplete");
+        final StringBuilder card = new StringBuilder(CARD_CAPACITY);
+        card.append(HEADER);
+        renderGame(card, game);
+        card.append("\nGame: ").append(game.isComplete() ? "Complete" : "Incomplete").append(LINE_SEPARATOR);
+        out.print(card);
     }
 
     /**
-     * Returns the name of the bowler associated to the supplied game.
+     * Renders the bowling frame header line.
      *
-     * @param game the game.
-     * @return the name or "" if no name is supplied.
+     * @return the header line.
      */
-    private String getPlayerName(final Game game) {
-        final Bowler player = game.getBowler();
-        final StringBuilder name = new StringBuilder();
-        if (player != null) {
-            if (player.getFirstName() != null) {
-                name.append(player.getFirstName());
+    private static String buildHeader() {
+        final StringBuilder out = new StringBuilder(LINE_LENGTH + 1);
+        appendBlanks(out, NAME_PADDING);
+        for (int i = 1; i <= MARK_1; i++) {
+            out.append(COL_DELIM);
+            if (i == MARK_1) {
+                appendBlanks(out, 7); //NOCHECKSTYLE
+                out.append(MARK_1);
+                appendBlanks(out, 8); //NOCHECKSTYLE
+            } else {
+                appendBlanks(out, 5); //NOCHECKSTYLE
+                out.append(i);
+                appendBlanks(out, 5); //NOCHECKSTYLE
             }
-            if (player.getLastName() != null) {
-                if (name.length() > 0) {
-                    name.append(' ');
-                }
-                name.append(player.getLastName());
+        }
+        out.append(COL_DELIM);
+        out.append(NEW_LINE);
+        return out.toString();
+    }
+
+    /**
+     * Renders the separation line between the mark line and the score line. The line doesn't depend on the game.
+     *
+     * @return the separation line.
+     */
+    private static String buildSeparatorLine() {
+        final StringBuilder out = new StringBuilder(LINE_LENGTH + 1);
+        appendBlanks(out, NAME_PADDING);
+        out.append(COL_DELIM);
+        for (int frameNumber = 1; frameNumber <= MARK_1; frameNumber++) {
+            final int cellSpace;
+            if (frameNumber == MARK_1) {
+                cellSpace = SCORE_LINE_TENTH_FRAME_CELL_SPACE;
+            } else {
+                cellSpace = SCORE_LINE_CELL_SPACE;
             }
+            out.append(DASHES, 0, cellSpace);
+            out.append(COL_DELIM);
         }
-        return name.toString();
+        out.append(NEW_LINE);
+        return out.toString();
+    }
+
+    /**
+     * Appends the supplied number of blanks.
+     *
+     * @param out   the buffer.
+     * @param count the number of blanks.
+     */
+    static void appendBlanks(final StringBuilder out, final int count) {
+        out.append(BLANKS, 0, count);
     }
 
     /**
-     * Writes the game sheet to the supplied print stream.
+     * Renders the game sheet into the supplied buffer.
      *
-     * @param name the bowler name.
+     * @param out  the buffer.
      * @param game the game data.
-     * @param out  the print stream.
      */
-    private void doPrintGame(final String name, final Game game, final PrintStream out) {
-        out.println(Strings.repeat("-", LINE_LENGTH));
-        out.print(Strings.padEnd(name, NAME_PADDING, ' '));
-        out.print(COL_DELIM);
+    private static void renderGame(final StringBuilder out, final Game game) {
+        out.append(DASHES, 0, LINE_LENGTH);
+        out.append(LINE_SEPARATOR);
+        appendPlayerName(out, game);
+        out.append(COL_DELIM);
 
         final List<BowlingFrame> frames = game.getFrames();
-        printMarkLine(out, frames);
-        printLineSeparator(out, frames);
-        printScoreLine(out, frames);
+        renderMarkLine(out, frames);
+        out.append(SEPARATOR_LINE);
+        renderScoreLine(out, frames);
     }
 
     /**
-     * Prints the bowling frame header line.
+     * Appends the name of the bowler associated to the supplied game, padded to the width of the name column.
      *
-     * @param out the {@link PrintStream}.
+     * @param out  the buffer.
+     * @param game the game.
      */
-    private void printHeader(final PrintStream out) {
-        out.print(Strings.repeat(BLANK, NAME_PADDING));
-        for (int i = 1; i <= MARK_1; i++) {
-            out.print(COL_DELIM);
-            if (i == MARK_1) {
-                out.print(Strings.repeat(BLANK, 7));//NOCHECKSTYLE
-                out.print("10");
-                out.print(Strings.repeat(BLANK, 8));//NOCHECKSTYLE
-            } else {
-                out.print(Strings.repeat(BLANK, 5));//NOCHECKSTYLE
-                out.print(i);
-                out.print(Strings.repeat(BLANK, 5));//NOCHECKSTYLE
+    static void appendPlayerName(final StringBuilder out, final Game game) {
+        final int start = out.length();
+        final Bowler player = game.getBowler();
+        if (player != null) {
+            if (player.getFirstName() != null) {
+                out.append(player.getFirstName());
             }
+            if (player.getLastName() != null) {
+                if (out.length() > start) {
+                    out.append(BLANK);
+                }
+                out.append(player.getLastName());
+            }
+        }
+        final int nameLength = out.length() - start;
+        if (nameLength < NAME_PADDING) {
+            appendBlanks(out, NAME_PADDING - nameLength);
         }
-        out.print(COL_DELIM);
-        out.print("\n");
     }
 
     /**
-     * Prints the line that displays the first/second balls.
+     * Renders the line that displays the first/second balls.
      *
-     * @param out    the {@link PrintStream}.
+     * @param out    the buffer.
      * @param frames the list of {@link BowlingFrame} elements.
      */
-    private void printMarkLine(final PrintStream out, final List<BowlingFrame> frames) {
-        int frameNumber = 0;
-        for (final BowlingFrame frame : frames) {
-            frameNumber++;
-            if (frameNumber < MARK_1) {
-                printMarkLinePreTenthFrame(out, frame);
-            } else {
-                printMarkLineTenthFrame(out, frame, frameNumber);
-            }
+    private static void renderMarkLine(final StringBuilder out, final List<BowlingFrame> frames) {
+        final int topFrame = frames.size();
+        for (int frameNumber = 1; frameNumber < MARK_1; frameNumber++) {
+            CardFragments.appendMarkCell(out, frameNumber <= topFrame ? frames.get(frameNumber - 1) : null);
         }
+        CardFragments.appendTenthMarkCells(out, frames);
+        out.append(NEW_LINE);
+    }
 
-        final BowlingFrame blankFrame = new BowlingFrame().setFirstBall(-1).setSecondBall(-1);
-        frameNumber++;
-        for (; frameNumber <= MARK_1; frameNumber++) {
-            if (frameNumber < MARK_1) {
-                printMarkLinePreTenthFrame(out, blankFrame);
-            } else {
-                out.print(Strings.repeat(BLANK, MARK_LINE_PADDING));
-                printPinFall(out, blankFrame.getFirstBall(), false);
-
-                printMarkLineTenthFrame(out, blankFrame, frameNumber);
-            }
+    /**
+     * Renders the part of the mark line that displays the balls of the tenth frame and its bonus frames. Unlike the
+     * other frames, the width of this part depends on the balls thrown.
+     *
+     * @param out    the buffer.
+     * @param frames the list of {@link BowlingFrame} elements.
+     */
+    static void renderMarkLineTenthFrames(final StringBuilder out, final List<BowlingFrame> frames) {
+        final int topFrame = frames.size();
+        if (topFrame < MARK_1) {
+            appendBlanks(out, MARK_LINE_PADDING);
+            renderPinFall(out, NO_BALL, false);
+            renderMarkLineTenthFrame(out, null, MARK_1);
+            return;
+        }
+        for (int frameNumber = MARK_1; frameNumber <= topFrame; frameNumber++) {
+            renderMarkLineTenthFrame(out, frames.get(frameNumber - 1), frameNumber);
         }
-        out.print("\n");
     }
 
     /**
-     * Prints the line that displays the first/second balls for the first 9 frames.
+     * Renders the line that displays the first/second balls for the first 9 frames.
      *
-     * @param out   the {@link PrintStream}.
-     * @param frame the {@link BowlingFrame}.
+     * @param out        the buffer.
+     * @param firstBall  the first ball, or -1 if not thrown.
+     * @param secondBall the second ball, or -1 if not thrown.
+     * @param split      true if the bowler threw a split.
      */
-    private void printMarkLinePreTenthFrame(final PrintStream out, final BowlingFrame frame) {
-        final int firstBall = frame.getFirstBall();
+    static void renderMarkLinePreTenthFrame(final StringBuilder out, final int firstBall, final int secondBall,
+                                             final boolean split) {
         if (firstBall == MARK_1) {
-            out.print(Strings.repeat(BLANK, MARK_LINE_STRIKE_PADDING));
-            out.print(STRIKE);
-            out.print(Strings.repeat(BLANK, MARK_LINE_STRIKE_PADDING));
-            out.print(COL_DELIM);
+            appendBlanks(out, MARK_LINE_STRIKE_PADDING);
+            out.append(STRIKE);
+            appendBlanks(out, MARK_LINE_STRIKE_PADDING);
+            out.append(COL_DELIM);
         } else {
-            out.print(Strings.repeat(BLANK, MARK_LINE_PADDING));
-            printPinFall(out, firstBall, frame.isSplit());
-
-            out.print(Strings.repeat(BLANK, MARK_LINE_PADDING));
-            if (frame.isSpare()) {
-                out.print(SPARE);
-                out.print(Strings.repeat(BLANK, MARK_LINE_PADDING));
-                out.print(COL_DELIM);
+            appendBlanks(out, MARK_LINE_PADDING);
+            renderPinFall(out, firstBall, split);
+
+            appendBlanks(out, MARK_LINE_PADDING);
+            if (firstBall + secondBall == MARK_1) {
+                out.append(SPARE);
+                appendBlanks(out, MARK_LINE_PADDING);
+                out.append(COL_DELIM);
             } else {
-                printPinFall(out, frame.getSecondBall(), false);
+                renderPinFall(out, secondBall, false);
             }
         }
     }
 
     /**
-     * Prints the line that displays the first/second/third balls for the tenth frame.
+     * Renders the line that displays the first/second/third balls for the tenth frame.
      *
-     * @param out         the {@link PrintStream}.
-     * @param frame       the {@link BowlingFrame}.
+     * @param out         the buffer.
+     * @param frame       the {@link BowlingFrame}, or null if the frame hasn't been bowled.
      * @param frameNumber the frame number.
      */
-    private void printMarkLineTenthFrame(final PrintStream out, final BowlingFrame frame, final int frameNumber) {
-        final int firstBall = frame.getFirstBall();
+    static void renderMarkLineTenthFrame(final StringBuilder out, final BowlingFrame frame,
+                                         final int frameNumber) {
+        final int firstBall = frame == null ? NO_BALL : frame.getFirstBall();
         if (firstBall == MARK_1) {
-            out.print(Strings.repeat(BLANK, MARK_LINE_PADDING));
-            out.print(STRIKE);
-            out.print(Strings.repeat(BLANK, MARK_LINE_PADDING));
-            out.print(COL_DELIM);
-        } else {
-            out.print(Strings.repeat(BLANK, MARK_LINE_PADDING));
-            printPinFall(out, firstBall, frame.isSplit());
+            appendBlanks(out, MARK_LINE_PADDING);
+            out.append(STRIKE);
+            appendBlanks(out, MARK_LINE_PADDING);
+            out.append(COL_DELIM);
+            return;
+        }
 
-            final int secondBall = frame.getSecondBall();
+        final int secondBall = frame == null ? NO_BALL : frame.getSecondBall();
+        final boolean split = frame != null && frame.isSplit();
+        appendBlanks(out, MARK_LINE_PADDING);
+        renderPinFall(out, firstBall, split);
+        if (frameNumber == MARK_1) {
+            renderTenthFrameSecondBall(out, secondBall, firstBall + secondBall == MARK_1);
+        } else if (frameNumber == MARK_1 + 1) {
+            renderBonusFrameSecondBall(out, secondBall, firstBall + secondBall == MARK_1, split);
+        }
+    }
 
-            if (frameNumber == MARK_1) {
-                out.print(Strings.repeat(BLANK, MARK_LINE_PADDING));
-                if (frame.isSpare()) {
-                    out.print(SPARE);
-                    out.print(Strings.repeat(BLANK, MARK_LINE_PADDING));
-                    out.print(COL_DELIM);
-                } else {
-                    printPinFall(out, secondBall, false);
-                }
+    /**
+     * Renders the second ball of a tenth frame that isn't a strike. An open tenth frame also renders the blank cell
+     * of the bonus ball it didn't earn.
+     *
+     * @param out        the buffer.
+     * @param secondBall the second ball, or -1 if not thrown.
+     * @param spare      true if the frame is a spare.
+     */
+    private static void renderTenthFrameSecondBall(final StringBuilder out, final int secondBall,
+                                                   final boolean spare) {
+        appendBlanks(out, MARK_LINE_PADDING);
+        if (spare) {
+            out.append(SPARE);
+            appendBlanks(out, MARK_LINE_PADDING);
+            out.append(COL_DELIM);
+        } else {
+            renderPinFall(out, secondBall, false);
+        }
 
-                if (secondBall >= 0 && frame.isOpenFrame()) {
-                    out.print(Strings.repeat(BLANK, MARK_LINE_PADDING + 3)); //NOCHECKSTYLE
-                    out.print(COL_DELIM);
-                }
-            }
-            if (frameNumber == MARK_1 + 1) {
-                out.print(Strings.repeat(BLANK, MARK_LINE_PADDING));
-                if (secondBall >= 0 && frame.isSpare()) {
-                    out.print(SPARE);
-                    out.print(Strings.repeat(BLANK, MARK_LINE_PADDING));
-                    out.print(COL_DELIM);
-                } else {
-                    printPinFall(out, secondBall, frame.isSplit());
-                }
-            }
+        if (secondBall >= 0 && !spare) {
+            appendBlanks(out, MARK_LINE_PADDING + 3); //NOCHECKSTYLE
+            out.append(COL_DELIM);
         }
     }
 
     /**
-     * Prints the number of pins knocked down.
+     * Renders the second ball of the first bonus frame when its first ball isn't a strike.
      *
-     * @param out     the {@link PrintStream}.
+     * @param out        the buffer.
+     * @param secondBall the second ball, or -1 if not thrown.
+     * @param spare      true if the bonus frame is a spare.
+     * @param split      true if the bowler threw a split.
+     */
+    private static void renderBonusFrameSecondBall(final StringBuilder out, final int secondBall,
+                                                   final boolean spare, final boolean split) {
+        appendBlanks(out, MARK_LINE_PADDING);
+        if (secondBall >= 0 && spare) {
+            out.append(SPARE);
+            appendBlanks(out, MARK_LINE_PADDING);
+            out.append(COL_DELIM);
+        } else {
+            renderPinFall(out, secondBall, split);
+        }
+    }
+
+    /**
+     * Renders the number of pins knocked down.
+     *
+     * @param out     the buffer.
      * @param pinFall the number of pins knocked down.
      * @param split   supply true to indicate the bowler has a split.
      */
-    private void printPinFall(final PrintStream out, final int pinFall, final boolean split) {
+    private static void renderPinFall(final StringBuilder out, final int pinFall, final boolean split) {
         if (pinFall < 0) {
-            out.print(BLANK);
+            out.append(BLANK);
         } else if (pinFall == 0) {
-            out.print(ZERO_MARK);
+            out.append(ZERO_MARK);
         } else {
             if (split) {
-                out.print("S");
+                out.append(SPLIT);
             }
-            out.print(pinFall);
+            out.append(pinFall);
         }
         int padding = MARK_LINE_PADDING;
         if (split) {
             padding--;
         }
-        out.print(Strings.repeat(BLANK, padding));
-        out.print(COL_DELIM);
+        appendBlanks(out, padding);
+        out.append(COL_DELIM);
     }
 
     /**
-     * Prints the separation line.
+     * Renders the line that displays the scores for the frames.
      *
-     * @param out    the {@link PrintStream}.
+     * @param out    the buffer.
      * @param frames the list of {@link BowlingFrame} elements.
      */
-    private void printLineSeparator(final PrintStream out, final List<BowlingFrame> frames) {
-        out.print(Strings.repeat(BLANK, NAME_PADDING));
-        out.print(COL_DELIM);
-
-        int frameNumber = 0;
-        for (int i = 0; i < frames.size(); i++) {
-            frameNumber++;
-
-            final int cellSpace;
-            if (frameNumber > MARK_1) {
-                continue;
-            } else if (frameNumber == MARK_1) {
-                cellSpace = SCORE_LINE_TENTH_FRAME_CELL_SPACE;
-            } else {
-                cellSpace = SCORE_LINE_CELL_SPACE;
-            }
-
-            out.print(Strings.repeat("-", cellSpace));
-            out.print(COL_DELIM);
-        }
-        frameNumber++;
-        for (; frameNumber <= MARK_1; frameNumber++) {
-            final int cellSpace;
-            if (frameNumber == MARK_1) {
-                cellSpace = SCORE_LINE_TENTH_FRAME_CELL_SPACE;
-            } else {
-                cellSpace = SCORE_LINE_CELL_SPACE;
-            }
-            out.print(Strings.repeat("-", cellSpace));
-            out.print(COL_DELIM);
+    private static void renderScoreLine(final StringBuilder out, final List<BowlingFrame> frames) {
+        appendBlanks(out, NAME_PADDING);
+        out.append(COL_DELIM);
+
+        final int topFrame = frames.size();
+        for (int frameNumber = 1; frameNumber <= MARK_1; frameNumber++) {
+            final BowlingFrame frame = frameNumber <= topFrame ? frames.get(frameNumber - 1) : null;
+            CardFragments.appendScoreCell(out, frameNumber, frame);
         }
-        out.print("\n");
+        out.append(NEW_LINE);
     }
 
     /**
-     * Prints the line that displays the scores for the frames.
+     * Renders the cell of the score line that displays the score of the supplied frame.
      *
-     * @param out    the {@link PrintStream}.
-     * @param frames the list of {@link BowlingFrame} elements.
+     * @param out         the buffer.
+     * @param frameNumber the frame number, from 1 to 10.
+     * @param frame       the {@link BowlingFrame}, or null if the frame hasn't been bowled.
      */
-    private void printScoreLine(final PrintStream out, final List<BowlingFrame> frames) {
-        out.print(Strings.repeat(BLANK, NAME_PADDING));
-        out.print(COL_DELIM);
-
-        int frameNumber = 0;
-        for (final BowlingFrame frame : frames) {
-            frameNumber++;
-
-            final int padding, cellSpace;
-            if (frameNumber > MARK_1) {
-                continue;
-            } else if (frameNumber == MARK_1) {
-                cellSpace = SCORE_LINE_TENTH_FRAME_CELL_SPACE;
-                padding = SCORE_LINE_TENTH_FRAME_PADDING;
-            } else {
-                cellSpace = SCORE_LINE_CELL_SPACE;
-                padding = SCORE_LINE_PADDING;
-            }
-
-            out.print(Strings.repeat(BLANK, padding));
-            final String score = String.valueOf(frame.getScore());
-            out.print(score);
-            final int len = cellSpace - (padding + score.length());
-            out.print(Strings.repeat(BLANK, len));
-            out.print(COL_DELIM);
+    static void renderScoreCell(final StringBuilder out, final int frameNumber, final BowlingFrame frame) {
+        final int padding, cellSpace;
+        if (frameNumber == MARK_1) {
+            cellSpace = SCORE_LINE_TENTH_FRAME_CELL_SPACE;
+            padding = SCORE_LINE_TENTH_FRAME_PADDING;
+        } else {
+            cellSpace = SCORE_LINE_CELL_SPACE;
+            padding = SCORE_LINE_PADDING;
         }
-        frameNumber++;
-        for (; frameNumber <= MARK_1; frameNumber++) {
-            final int cellSpace;
-            if (frameNumber == MARK_1) {
-                cellSpace = SCORE_LINE_TENTH_FRAME_CELL_SPACE;
-            } else {
-                cellSpace = SCORE_LINE_CELL_SPACE;
-            }
-            out.print(Strings.repeat(" ", cellSpace));
-            out.print(COL_DELIM);
+
+        if (frame == null) {
+            appendBlanks(out, cellSpace);
+        } else {
+            appendBlanks(out, padding);
+            final int scoreStart = out.length();
+            out.append(frame.getScore());
+            final int len = cellSpace - (padding + out.length() - scoreStart);
+            appendBlanks(out, len);
         }
-        out.print("\n");
+        out.append(COL_DELIM);
     }
 }
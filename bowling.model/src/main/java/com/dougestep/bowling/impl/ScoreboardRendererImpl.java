@@ -0,0 +1,436 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.ScoreboardRenderer;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.Game;
+import com.google.common.base.Verify;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Renders a scoreboard of bowling games in the layout of {@link PrintManagerImpl}, re-rendering only the cells that
+ * changed since the last refresh. For each game UID the renderer keeps the last rendered mark and score lines along
+ * with the balls and score of every frame they show. On a refresh, the frames are compared with the kept values and
+ * only the cells of the frames that differ are rendered and spliced into the kept lines.
+ * <p>
+ * An instance created with {@link #newInstance()} prints the whole patched scoreboard on every refresh; the output
+ * is the same as {@link PrintManagerImpl#printGames(Game[], PrintStream)}. An instance created with
+ * {@link #newAnsiInstance()} draws the scoreboard once and then only writes the changed cells, using ANSI escape
+ * sequences to move the cursor to each cell. The whole scoreboard is redrawn when the games or their order change.
+ * </p>
+ * <p>
+ * A renderer is not thread safe; use one renderer per monitor.
+ * </p>
+ * <p>
+ * The output buffer and the kept lines are reused from one refresh to the next so a refresh allocates nothing for
+ * them; each is cleared before it is filled and holds at most a scoreboard's worth of text.
+ * </p>
+ *
+ * @author dougestep
+ */
+@SuppressWarnings("PMD.AvoidStringBufferField")
+public final class ScoreboardRendererImpl implements ScoreboardRenderer {
+    private static final String NON_NULL_MSG = "expected a non-null reference to %s";
+    private static final String ESC = "\u001b[";
+    private static final String CLEAR_SCREEN = ESC + "H" + ESC + "2J";
+    private static final char NEW_LINE = '\n';
+
+    /**
+     * Tenth frame.
+     */
+    private static final int LAST_FRAME = 10;
+
+    /**
+     * The most frames a game can have, including the bonus frames of the tenth frame.
+     */
+    private static final int MAX_FRAMES = 12;
+
+    /**
+     * The width of the cell of a frame before the tenth frame, including its column delimiter.
+     */
+    private static final int CELL_WIDTH = PrintManagerImpl.SCORE_LINE_CELL_SPACE + 1;
+
+    /**
+     * The position of the first frame cell of the score line.
+     */
+    private static final int SCORE_LINE_START = PrintManagerImpl.NAME_PADDING + 1;
+
+    /**
+     * The number of lines of a score card; the mark line is the second and the score line the fourth.
+     */
+    private static final int LINES_PER_CARD = 4;
+
+    /**
+     * The row of the mark line of the first score card, below the header.
+     */
+    private static final int FIRST_MARK_ROW = 3;
+
+    /**
+     * The value kept for a frame that hasn't been bowled.
+     */
+    private static final int NOT_BOWLED = -1;
+
+    /**
+     * The bits holding the second ball and the split flag of a kept frame.
+     */
+    private static final int SECOND_BALL_SHIFT = 4;
+    private static final int SPLIT_BIT = 1 << SECOND_BALL_SHIFT * 2;
+
+    private final boolean ansi;
+    private final List<UUID> board = new ArrayList<>();
+    private Map<UUID, Card> cards = new HashMap<>();
+    private final StringBuilder output = new StringBuilder(PrintManagerImpl.LINE_LENGTH * LINES_PER_CARD);
+    private final StringBuilder cell = new StringBuilder(PrintManagerImpl.LINE_LENGTH);
+
+    /**
+     * Creates an instance of this class.
+     *
+     * @param ansi true to write only the changed cells with ANSI escape sequences.
+     */
+    private ScoreboardRendererImpl(final boolean ansi) {
+        this.ansi = ansi;
+    }
+
+    /**
+     * Returns an instance of this class which prints the whole patched scoreboard on every refresh.
+     *
+     * @return the instance.
+     */
+    public static ScoreboardRenderer newInstance() {
+        return new ScoreboardRendererImpl(false);
+    }
+
+    /**
+     * Returns an instance of this class which writes only the changed cells on a refresh, positioning the cursor
+     * with ANSI escape sequences. The output is meant for a terminal which displays nothing else.
+     *
+     * @return the instance.
+     */
+    public static ScoreboardRenderer newAnsiInstance() {
+        return new ScoreboardRendererImpl(true);
+    }
+
+    @Override
+    public void render(final Game[] games, final PrintStream out) {
+        Verify.verifyNotNull(games, NON_NULL_MSG, "List of GameBeans");
+        Verify.verifyNotNull(out, NON_NULL_MSG, "OutputStream");
+
+        final boolean redraw = !ansi || !isSameBoard(games);
+        output.setLength(0);
+        if (redraw) {
+            if (ansi) {
+                output.append(CLEAR_SCREEN);
+            }
+            output.append(PrintManagerImpl.HEADER);
+        }
+
+        final Map<UUID, Card> renderedCards = new HashMap<>();
+        board.clear();
+        for (int index = 0; index < games.length; index++) {
+            renderCard(games[index], redraw ? 0 : FIRST_MARK_ROW + index * LINES_PER_CARD, renderedCards);
+        }
+        cards = renderedCards;
+
+        if (ansi && !redraw) {
+            // leave the cursor below the scoreboard.
+            moveTo(FIRST_MARK_ROW - 1 + games.length * LINES_PER_CARD, 0);
+        }
+        out.print(output);
+        out.flush();
+    }
+
+    /**
+     * Renders the card of the supplied game, re-rendering only the changed cells of the card kept for it.
+     *
+     * @param game          the game.
+     * @param markRow       the row of the card's mark line when the changed cells are written with ANSI escape
+     *                      sequences, or 0 if the whole card is appended to the output.
+     * @param renderedCards collects the cards of the games with a UID.
+     */
+    private void renderCard(final Game game, final int markRow, final Map<UUID, Card> renderedCards) {
+        Verify.verifyNotNull(game, NON_NULL_MSG, "GameBean");
+        final UUID uid = game.getUid();
+        Card card = uid == null ? null : cards.get(uid);
+        if (card == null) {
+            card = new Card(game);
+        } else {
+            card.update(game, markRow);
+        }
+        if (markRow == 0) {
+            card.appendTo(output);
+        }
+        if (uid != null) {
+            renderedCards.put(uid, card);
+        }
+        board.add(uid);
+    }
+
+    @Override
+    public void reset() {
+        board.clear();
+        cards.clear();
+    }
+
+    /**
+     * Returns true if the supplied games are the games last rendered, in the same order, and they all have UIDs.
+     *
+     * @param games the games.
+     * @return true if the same.
+     */
+    private boolean isSameBoard(final Game[] games) {
+        if (board.isEmpty() || board.size() != games.length) {
+            return false;
+        }
+        for (int index = 0; index < games.length; index++) {
+            final UUID uid = games[index] == null ? null : games[index].getUid();
+            if (uid == null || !uid.equals(board.get(index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Appends the ANSI escape sequence which moves the cursor to the supplied position.
+     *
+     * @param row    the row, from 1.
+     * @param column the column, from 0.
+     */
+    private void moveTo(final int row, final int column) {
+        output.append(ESC).append(row).append(';').append(column + 1).append('H');
+    }
+
+    /**
+     * Returns the value kept for the balls of the supplied frame.
+     *
+     * @param frame the frame, or null if not bowled.
+     * @return the value.
+     */
+    private static int markOf(final BowlingFrame frame) {
+        if (frame == null) {
+            return NOT_BOWLED;
+        }
+        final int split = frame.isSplit() ? SPLIT_BIT : 0;
+        return frame.getFirstBall() | frame.getSecondBall() << SECOND_BALL_SHIFT | split;
+    }
+
+    /**
+     * Returns the frame at the supplied frame number, or null if it hasn't been bowled.
+     *
+     * @param frames      the frames.
+     * @param frameNumber the frame number.
+     * @return the frame.
+     */
+    private static BowlingFrame frameAt(final List<BowlingFrame> frames, final int frameNumber) {
+        return frameNumber <= frames.size() ? frames.get(frameNumber - 1) : null;
+    }
+
+    /**
+     * The last rendered score card of a game.
+     */
+    private final class Card {
+        private String name;
+        private final StringBuilder markLine = new StringBuilder(PrintManagerImpl.LINE_LENGTH);
+        private final StringBuilder scoreLine = new StringBuilder(PrintManagerImpl.LINE_LENGTH);
+        private final int[] marks = new int[MAX_FRAMES];
+        private final int[] scores = new int[LAST_FRAME];
+
+        /**
+         * True if a mark cell before the tenth frame isn't {@link #CELL_WIDTH} wide, which happens when a gutter ball
+         * is marked as a split. The cells after it are then out of place, so the whole mark line is re-rendered.
+         */
+        private boolean irregular;
+
+        /**
+         * The position of the tenth frame cells within the mark line.
+         */
+        private int tenthStart;
+
+        /**
+         * Creates an instance of this class, rendering the whole card of the supplied game.
+         *
+         * @param game the game.
+         */
+        Card(final Game game) {
+            PrintManagerImpl.appendPlayerName(markLine, game);
+            markLine.append('|');
+            name = markLine.toString();
+            PrintManagerImpl.appendBlanks(scoreLine, PrintManagerImpl.NAME_PADDING);
+            scoreLine.append('|');
+
+            final List<BowlingFrame> frames = game.getFrames();
+            renderMarkCells(frames);
+            for (int frameNumber = 1; frameNumber <= LAST_FRAME; frameNumber++) {
+                final BowlingFrame frame = frameAt(frames, frameNumber);
+                scores[frameNumber - 1] = frame == null ? NOT_BOWLED : frame.getScore();
+                CardFragments.appendScoreCell(scoreLine, frameNumber, frame);
+            }
+        }
+
+        /**
+         * Re-renders the cells of the frames which changed since the card was last rendered.
+         *
+         * @param game    the game.
+         * @param markRow the row of the card's mark line when the changed cells are written with ANSI escape
+         *                sequences, or 0 if they aren't.
+         */
+        void update(final Game game, final int markRow) {
+            final List<BowlingFrame> frames = game.getFrames();
+            cell.setLength(0);
+            PrintManagerImpl.appendPlayerName(cell, game);
+            cell.append('|');
+            if (name.contentEquals(cell)) {
+                updateMarkLine(frames, markRow);
+            } else {
+                // a new name can change the width of the name column, so the whole mark line is rendered.
+                name = cell.toString();
+                rewriteMarkLine(frames, markRow);
+            }
+
+            final int scoreRow = markRow == 0 ? 0 : markRow + 2;
+            for (int frameNumber = 1; frameNumber <= LAST_FRAME; frameNumber++) {
+                final BowlingFrame frame = frameAt(frames, frameNumber);
+                final int score = frame == null ? NOT_BOWLED : frame.getScore();
+                if (score != scores[frameNumber - 1]) {
+                    scores[frameNumber - 1] = score;
+                    cell.setLength(0);
+                    CardFragments.appendScoreCell(cell, frameNumber, frame);
+                    splice(scoreLine, SCORE_LINE_START + (frameNumber - 1) * CELL_WIDTH, scoreRow);
+                }
+            }
+        }
+
+        /**
+         * Re-renders the cells of the mark line whose balls changed.
+         *
+         * @param frames  the frames of the game.
+         * @param markRow the row of the mark line, or 0 if the cells aren't written.
+         */
+        private void updateMarkLine(final List<BowlingFrame> frames, final int markRow) {
+            final int nameWidth = name.length();
+            boolean tenthChanged = false;
+            for (int frameNumber = 1; frameNumber <= MAX_FRAMES; frameNumber++) {
+                final BowlingFrame frame = frameAt(frames, frameNumber);
+                final int mark = markOf(frame);
+                if (mark == marks[frameNumber - 1]) {
+                    continue;
+                }
+                marks[frameNumber - 1] = mark;
+                if (frameNumber >= LAST_FRAME) {
+                    tenthChanged = true;
+                    continue;
+                }
+                cell.setLength(0);
+                CardFragments.appendMarkCell(cell, frame);
+                if (irregular || cell.length() != CELL_WIDTH) {
+                    // the cells no longer line up, so the rest of the mark line moves.
+                    rewriteMarkLine(frames, markRow);
+                    return;
+                }
+                splice(markLine, nameWidth + (frameNumber - 1) * CELL_WIDTH, markRow);
+            }
+            if (tenthChanged) {
+                final int oldWidth = markLine.length() - tenthStart;
+                cell.setLength(0);
+                CardFragments.appendTenthMarkCells(cell, frames);
+                markLine.setLength(tenthStart);
+                markLine.append(cell);
+                // the tenth frame cells can get narrower, so blank out what is left of the old cells.
+                for (int blank = cell.length(); blank < oldWidth; blank++) {
+                    cell.append(' ');
+                }
+                write(markRow, tenthStart);
+            }
+        }
+
+        /**
+         * Renders the whole mark line after the player name and writes it when requested.
+         *
+         * @param frames  the frames of the game.
+         * @param markRow the row of the mark line, or 0 if the line isn't written.
+         */
+        private void rewriteMarkLine(final List<BowlingFrame> frames, final int markRow) {
+            markLine.setLength(0);
+            markLine.append(name);
+            renderMarkCells(frames);
+            writeLine(markRow, markLine);
+        }
+
+        /**
+         * Appends the mark cells of every frame to the mark line, keeping the balls they show.
+         *
+         * @param frames the frames of the game.
+         */
+        private void renderMarkCells(final List<BowlingFrame> frames) {
+            irregular = false;
+            for (int frameNumber = 1; frameNumber <= MAX_FRAMES; frameNumber++) {
+                final BowlingFrame frame = frameAt(frames, frameNumber);
+                marks[frameNumber - 1] = markOf(frame);
+                if (frameNumber < LAST_FRAME) {
+                    final int start = markLine.length();
+                    CardFragments.appendMarkCell(markLine, frame);
+                    irregular |= markLine.length() - start != CELL_WIDTH;
+                }
+            }
+            tenthStart = markLine.length();
+            CardFragments.appendTenthMarkCells(markLine, frames);
+        }
+
+        /**
+         * Replaces the characters of the supplied line at the supplied position with the rendered cell, and writes
+         * the cell when requested.
+         *
+         * @param line  the line.
+         * @param start the position of the cell within the line.
+         * @param row   the row of the line, or 0 if the cell isn't written.
+         */
+        private void splice(final StringBuilder line, final int start, final int row) {
+            line.replace(start, start + cell.length(), cell.toString());
+            write(row, start);
+        }
+
+        /**
+         * Writes the rendered cell at the supplied position.
+         *
+         * @param row    the row, or 0 if the cell isn't written.
+         * @param column the column, from 0.
+         */
+        private void write(final int row, final int column) {
+            if (row > 0) {
+                moveTo(row, column);
+                output.append(cell);
+            }
+        }
+
+        /**
+         * Writes the supplied line, clearing the rest of the terminal row.
+         *
+         * @param row  the row, or 0 if the line isn't written.
+         * @param line the line.
+         */
+        private void writeLine(final int row, final CharSequence line) {
+            if (row > 0) {
+                moveTo(row, 0);
+                output.append(line).append(ESC).append('K');
+            }
+        }
+
+        /**
+         * Appends the whole card.
+         *
+         * @param out the buffer.
+         */
+        void appendTo(final StringBuilder out) {
+            out.append(PrintManagerImpl.DASHES, 0, PrintManagerImpl.LINE_LENGTH);
+            out.append(PrintManagerImpl.LINE_SEPARATOR);
+            out.append(markLine).append(NEW_LINE);
+            out.append(PrintManagerImpl.SEPARATOR_LINE);
+            out.append(scoreLine).append(NEW_LINE);
+        }
+    }
+}
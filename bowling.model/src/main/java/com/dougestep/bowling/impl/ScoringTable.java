@@ -0,0 +1,107 @@
+package com.dougestep.bowling.impl;
+
+/**
+ * Holds the points earned by a frame for every combination of the three balls that can decide them: the frame's
+ * first ball and the two balls thrown after it. A strike earns ten plus the next two balls, a spare earns ten plus
+ * the ball after its second ball and an open frame earns its two balls, so the points are a single table lookup
+ * keyed by the packed ball triple instead of a chain of strike and spare checks. Balls which haven't been thrown
+ * count as zero.
+ *
+ * @author dougestep
+ */
+final class ScoringTable {
+    /**
+     * The number of bits each ball occupies within a key.
+     */
+    static final int BALL_BITS = 4;
+
+    /**
+     * 10 points.
+     */
+    private static final int MARK_1 = 10;
+
+    /**
+     * The number of balls packed into a key: the frame's first ball and the two balls thrown after it.
+     */
+    private static final int BALLS_PER_KEY = 3;
+
+    private static final byte[] POINTS = new byte[1 << (BALL_BITS * BALLS_PER_KEY)];
+
+    /**
+     * The number of balls in a frame, indexed by the frame's first ball.
+     */
+    private static final byte[] BALLS_PER_FRAME = new byte[MARK_1 + 1];
+
+    static {
+        for (int firstBall = 0; firstBall <= MARK_1; firstBall++) {
+            BALLS_PER_FRAME[firstBall] = (byte) (firstBall == MARK_1 ? 1 : 2);
+            for (int nextBall = 0; nextBall <= MARK_1; nextBall++) {
+                for (int thirdBall = 0; thirdBall <= MARK_1; thirdBall++) {
+                    POINTS[key(firstBall, nextBall, thirdBall)] =
+                            (byte) computePoints(firstBall, nextBall, thirdBall);
+                }
+            }
+        }
+    }
+
+    /**
+     * Default constructor.
+     */
+    private ScoringTable() {
+    }
+
+    /**
+     * Returns the key for the supplied ball triple.
+     *
+     * @param firstBall the first ball of the frame.
+     * @param nextBall  the ball thrown after the first ball.
+     * @param thirdBall the ball thrown after the next ball.
+     * @return the key.
+     */
+    static int key(final int firstBall, final int nextBall, final int thirdBall) {
+        return firstBall << (BALL_BITS * 2) | nextBall << BALL_BITS | thirdBall;
+    }
+
+    /**
+     * Returns the points earned by the frame starting with the supplied ball triple.
+     *
+     * @param firstBall the first ball of the frame.
+     * @param nextBall  the ball thrown after the first ball.
+     * @param thirdBall the ball thrown after the next ball.
+     * @return the points.
+     */
+    static int points(final int firstBall, final int nextBall, final int thirdBall) {
+        return POINTS[key(firstBall, nextBall, thirdBall)];
+    }
+
+    /**
+     * Returns the number of balls thrown in a frame starting with the supplied first ball: one for a strike,
+     * otherwise two.
+     *
+     * @param firstBall the first ball of the frame.
+     * @return the number of balls.
+     */
+    static int ballsPerFrame(final int firstBall) {
+        return BALLS_PER_FRAME[firstBall];
+    }
+
+    /**
+     * Computes the points earned by the frame starting with the supplied ball triple.
+     *
+     * @param firstBall the first ball of the frame.
+     * @param nextBall  the ball thrown after the first ball.
+     * @param thirdBall the ball thrown after the next ball.
+     * @return the points.
+     */
+    private static int computePoints(final int firstBall, final int nextBall, final int thirdBall) {
+        if (firstBall == MARK_1) {
+            // the original strike(10) + the next two balls.
+            return MARK_1 + nextBall + thirdBall;
+        }
+        if (firstBall + nextBall == MARK_1) {
+            // the original spare(10) + the next ball.
+            return MARK_1 + thirdBall;
+        }
+        return firstBall + nextBall;
+    }
+}
@@ -0,0 +1,153 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.GameStore;
+import com.dougestep.bowling.StatisticsEngine;
+import com.dougestep.bowling.data.BowlerStatistics;
+import com.google.common.base.Verify;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes the statistics of every bowler in a single pass over the columns of a {@link GameStore}. The counts are
+ * accumulated in primitive arrays indexed by bowler, and the strike, spare and split counts are added as zero or one
+ * rather than branched on, so the pass creates no objects until the results are built.
+ *
+ * @author dougestep
+ */
+public final class StatisticsEngineImpl implements StatisticsEngine {
+    private static final String NON_NULL_MSG = "expected a non-null reference to %s";
+
+    /**
+     * 10 points.
+     */
+    private static final int MARK_1 = 10;
+
+    /**
+     * Tenth frame.
+     */
+    private static final int LAST_FRAME = 10;
+
+    /**
+     * Default constructor.
+     */
+    private StatisticsEngineImpl() {
+    }
+
+    /**
+     * Returns an instance of this class.
+     *
+     * @return the instance.
+     */
+    public static StatisticsEngine newInstance() {
+        return new StatisticsEngineImpl();
+    }
+
+    @Override
+    public List<BowlerStatistics> computeStatistics(final GameStore store) {
+        Verify.verifyNotNull(store, NON_NULL_MSG, "store");
+        final Accumulators totals = new Accumulators(store.getBowlerCount());
+        final int size = store.size();
+        for (int game = 0; game < size; game++) {
+            final int bowler = store.getBowlerIndex(game);
+            if (bowler != GameStore.NO_BOWLER && store.isComplete(game)) {
+                accumulateGame(store, game, bowler, totals);
+            }
+        }
+
+        final List<BowlerStatistics> statistics = new ArrayList<>(store.getBowlerCount());
+        for (int bowler = 0; bowler < store.getBowlerCount(); bowler++) {
+            statistics.add(toStatistics(store, bowler, totals));
+        }
+        return statistics;
+    }
+
+    /**
+     * Returns the statistics of the supplied bowler's totals.
+     *
+     * @param store  the games.
+     * @param bowler the bowler index.
+     * @param totals the totals.
+     * @return the statistics.
+     */
+    private static BowlerStatistics toStatistics(final GameStore store, final int bowler, final Accumulators totals) {
+        return new BowlerStatistics()
+                .setBowler(store.getBowler(bowler))
+                .setGames(totals.games[bowler])
+                .setTotalPins(totals.totalPins[bowler])
+                .setHighGame(totals.highGames[bowler])
+                .setStrikes(totals.strikes[bowler])
+                .setSpares(totals.spares[bowler])
+                .setFirstBallPins(totals.firstBallPins[bowler])
+                .setSplits(totals.splits[bowler])
+                .setConvertedSplits(totals.convertedSplits[bowler]);
+    }
+
+    /**
+     * Adds the supplied game to the bowler's totals.
+     *
+     * @param store  the games.
+     * @param game   the game index.
+     * @param bowler the bowler index.
+     * @param totals the totals.
+     */
+    private static void accumulateGame(final GameStore store, final int game, final int bowler,
+            final Accumulators totals) {
+        final int score = store.getScore(game);
+        totals.games[bowler]++;
+        totals.totalPins[bowler] += score;
+        totals.highGames[bowler] = Math.max(totals.highGames[bowler], score);
+
+        int strikes = 0;
+        int spares = 0;
+        int firstBallPins = 0;
+        int splits = 0;
+        int convertedSplits = 0;
+        for (int frameNumber = 1; frameNumber <= LAST_FRAME; frameNumber++) {
+            final int firstBall = store.getFirstBall(game, frameNumber);
+            final int strike = firstBall == MARK_1 ? 1 : 0;
+            final int spare = (firstBall + store.getSecondBall(game, frameNumber) == MARK_1 ? 1 : 0) & ~strike;
+            final int split = store.isSplit(game, frameNumber) ? 1 : 0;
+            firstBallPins += firstBall;
+            strikes += strike;
+            spares += spare;
+            splits += split;
+            convertedSplits += split & spare;
+        }
+        totals.strikes[bowler] += strikes;
+        totals.spares[bowler] += spares;
+        totals.firstBallPins[bowler] += firstBallPins;
+        totals.splits[bowler] += splits;
+        totals.convertedSplits[bowler] += convertedSplits;
+    }
+
+    /**
+     * The running totals of every bowler, one array per statistic indexed by bowler index.
+     */
+    private static final class Accumulators {
+        private final int[] games;
+        private final long[] totalPins;
+        private final int[] highGames;
+        private final int[] strikes;
+        private final int[] spares;
+        private final long[] firstBallPins;
+        private final int[] splits;
+        private final int[] convertedSplits;
+
+        /**
+         * Creates an instance of this class.
+         *
+         * @param bowlerCount the number of bowlers.
+         */
+        Accumulators(final int bowlerCount) {
+            games = new int[bowlerCount];
+            totalPins = new long[bowlerCount];
+            highGames = new int[bowlerCount];
+            strikes = new int[bowlerCount];
+            spares = new int[bowlerCount];
+            firstBallPins = new long[bowlerCount];
+            splits = new int[bowlerCount];
+            convertedSplits = new int[bowlerCount];
+        }
+    }
+}
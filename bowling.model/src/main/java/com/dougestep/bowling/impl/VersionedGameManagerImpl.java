@@ -0,0 +1,224 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.GameManager;
+import com.dougestep.bowling.ValidationMode;
+import com.dougestep.bowling.VersionedGameManager;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.Game;
+import com.dougestep.bowling.data.GameSnapshot;
+
+import java.util.Arrays;
+
+/**
+ * Manages a bowling game and keeps every version of it, so corrections made at the lane desk through
+ * {@link #replaceFrame(int, BowlingFrame)} and {@link #deleteFrame(int)} can be undone. Changes are applied to a
+ * private {@link GameManagerImpl}; after each change that alters the game, its {@link GameSnapshot} is recorded as
+ * the next version, along with whether the frame in progress waits on its second ball. A change which fails or
+ * leaves the game as it was doesn't record a version.
+ * <p>
+ * Versions are snapshots, so each version shares every frame the change didn't touch with the version before it. A
+ * version only holds the snapshot itself, a reference per frame and the frames the change re-scored, which a game of
+ * at most twelve frames bounds, so the full history of every game bowled in a night can be kept. Undo and redo move
+ * between versions without copying them.
+ * </p>
+ * <p>
+ * Undoing or redoing replaces the frames recorded on the {@link Game} returned by {@link #getGame()} with new
+ * frames; frames retrieved earlier no longer belong to the game.
+ * </p>
+ *
+ * @author dougestep
+ */
+public final class VersionedGameManagerImpl extends ForwardingGameManager implements VersionedGameManager {
+    /**
+     * The number of versions room is made for when the manager is created; enough for a game with a few corrections.
+     */
+    private static final int INITIAL_VERSIONS = 32;
+
+    private final GameManagerImpl writer;
+    private GameSnapshot[] versions = new GameSnapshot[INITIAL_VERSIONS];
+    private boolean[] awaitingSecondBall = new boolean[INITIAL_VERSIONS];
+    private int version;
+    private int numberOfVersions;
+
+    /**
+     * Creates an instance of this class.
+     *
+     * @param player the bowler.
+     * @param mode   how the frames supplied to the manager are checked.
+     */
+    private VersionedGameManagerImpl(final Bowler player, final ValidationMode mode) {
+        super(GameManagerImpl.newGame(player, mode));
+        writer = (GameManagerImpl) delegate();
+        versions[0] = writer.getSnapshot();
+        numberOfVersions = 1;
+    }
+
+    /**
+     * Creates an instance of this class.
+     *
+     * @param player the bowler.
+     * @return the instance.
+     */
+    public static VersionedGameManager newGame(final Bowler player) {
+        return new VersionedGameManagerImpl(player, ValidationMode.STRICT);
+    }
+
+    /**
+     * Creates an instance of this class which checks frames according to the supplied mode.
+     *
+     * @param player the bowler.
+     * @param mode   how the frames supplied to the manager are checked.
+     * @return the instance.
+     */
+    public static VersionedGameManager newGame(final Bowler player, final ValidationMode mode) {
+        return new VersionedGameManagerImpl(player, mode);
+    }
+
+    @Override
+    public GameManager addFrame(final BowlingFrame frame) {
+        try {
+            writer.addFrame(frame);
+        } finally {
+            record();
+        }
+        return this;
+    }
+
+    /**
+     * Adds the supplied bowling frames to the game as a single version.
+     *
+     * @param frames the bowling frames.
+     * @return this instance.
+     */
+    @Override
+    public GameManager addFrames(final BowlingFrame[] frames) {
+        try {
+            writer.addFrames(frames);
+        } finally {
+            record();
+        }
+        return this;
+    }
+
+    @Override
+    public GameManager roll(final int pins) {
+        return roll(pins, false);
+    }
+
+    @Override
+    public GameManager roll(final int pins, final boolean split) {
+        try {
+            writer.roll(pins, split);
+        } finally {
+            record();
+        }
+        return this;
+    }
+
+    @Override
+    public GameManager calculateScore() {
+        try {
+            writer.calculateScore();
+        } finally {
+            record();
+        }
+        return this;
+    }
+
+    @Override
+    public GameManager replaceFrame(final int frameNumber, final BowlingFrame frame) {
+        try {
+            writer.replaceFrame(frameNumber, frame);
+        } finally {
+            record();
+        }
+        return this;
+    }
+
+    @Override
+    public GameManager deleteFrame(final int frameNumber) {
+        try {
+            writer.deleteFrame(frameNumber);
+        } finally {
+            record();
+        }
+        return this;
+    }
+
+    /**
+     * Records the writer's game as the next version if it changed, discarding the versions that could have been
+     * redone. A second ball of zero doesn't change the snapshot but closes the frame in progress, so it is a change.
+     */
+    private void record() {
+        final GameSnapshot snapshot = writer.getSnapshot();
+        final boolean awaiting = writer.isAwaitingSecondBall();
+        if (snapshot == versions[version] && awaiting == awaitingSecondBall[version]) {
+            return;
+        }
+
+        version++;
+        if (version == versions.length) {
+            versions = Arrays.copyOf(versions, version * 2);
+            awaitingSecondBall = Arrays.copyOf(awaitingSecondBall, version * 2);
+        }
+        versions[version] = snapshot;
+        awaitingSecondBall[version] = awaiting;
+        if (numberOfVersions > version + 1) {
+            // release the versions that could have been redone.
+            Arrays.fill(versions, version + 1, numberOfVersions, null);
+        }
+        numberOfVersions = version + 1;
+    }
+
+    @Override
+    public boolean canUndo() {
+        return version > 0;
+    }
+
+    @Override
+    public boolean canRedo() {
+        return version + 1 < numberOfVersions;
+    }
+
+    @Override
+    public VersionedGameManager undo() {
+        if (canUndo()) {
+            moveTo(version - 1);
+        }
+        return this;
+    }
+
+    @Override
+    public VersionedGameManager redo() {
+        if (canRedo()) {
+            moveTo(version + 1);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the writer's game to the supplied version.
+     *
+     * @param target the version number.
+     */
+    private void moveTo(final int target) {
+        writer.restore(versions[target], awaitingSecondBall[target]);
+        version = target;
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public int getNumberOfVersions() {
+        return numberOfVersions;
+    }
+
+    @Override
+    public GameSnapshot versionAt(final int versionNumber) {
+        return versionNumber >= 0 && versionNumber < numberOfVersions ? versions[versionNumber] : null;
+    }
+}
@@ -0,0 +1,106 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.BatchScorer;
+import com.dougestep.bowling.GameManager;
+import com.dougestep.bowling.data.Bowler;
+import com.google.common.base.VerifyException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class BatchScorerImplTest {
+
+    /**
+     * Returns a game bowled one ball at a time with random pin fall. Roughly one game in ten is left unfinished.
+     */
+    static GameManager randomGame(Random random) {
+        int[] balls = new int[21];
+        int ballCount = 0;
+        boolean tenthStrike = false;
+        boolean tenthSpare = false;
+        for (int frame = 1; frame <= 10; frame++) {
+            int first = randomBall(random, 10);
+            balls[ballCount++] = first;
+            if (first < 10) {
+                int second = randomBall(random, 10 - first);
+                balls[ballCount++] = second;
+                tenthSpare = first + second == 10;
+            }
+            tenthStrike = first == 10;
+        }
+        if (tenthStrike) {
+            int first = randomBall(random, 10);
+            balls[ballCount++] = first;
+            balls[ballCount++] = randomBall(random, first == 10 ? 10 : 10 - first);
+        } else if (tenthSpare) {
+            balls[ballCount++] = randomBall(random, 10);
+        }
+        if (random.nextInt(10) == 0) {
+            ballCount = random.nextInt(ballCount);
+        }
+
+        GameManager processor = GameManagerImpl.newGame(new Bowler());
+        for (int ball = 0; ball < ballCount; ball++) {
+            processor.roll(balls[ball]);
+        }
+        return processor;
+    }
+
+    /**
+     * Returns a random ball, favouring knocking down every standing pin.
+     */
+    private static int randomBall(Random random, int standing) {
+        return random.nextInt(3) == 0 ? standing : random.nextInt(standing + 1);
+    }
+
+    @Test
+    public void testScoresMatchGameManager() {
+        Random random = new Random(42);
+        BatchScorer scorer = BatchScorerImpl.newInstance();
+        int gameCount = 5000;
+        GameManager[] processors = new GameManager[gameCount];
+        byte[] balls = new byte[gameCount * 21];
+        int[] offsets = new int[gameCount + 1];
+        for (int i = 0; i < gameCount; i++) {
+            processors[i] = randomGame(random);
+            offsets[i + 1] = scorer.packGame(processors[i].getGame(), balls, offsets[i]);
+        }
+
+        int[] scores = new int[gameCount * BatchScorer.SCORES_PER_GAME];
+        scorer.scoreGames(balls, offsets, scores);
+
+        for (int i = 0; i < gameCount; i++) {
+            int base = i * BatchScorer.SCORES_PER_GAME;
+            for (int frameNumber = 1; frameNumber <= BatchScorer.FRAME_SLOTS; frameNumber++) {
+                Assert.assertEquals(processors[i].retrieveFrameScore(frameNumber), scores[base + frameNumber - 1]);
+            }
+            Assert.assertEquals(processors[i].getGame().getScore(), scores[base + BatchScorer.TOTAL_OFFSET]);
+        }
+    }
+
+    @Test
+    public void testPerfectGame() {
+        byte[] balls = {10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 9, 1, 5};
+        int[] offsets = {0, 12, 15};
+        int[] scores = new int[2 * BatchScorer.SCORES_PER_GAME];
+        BatchScorerImpl.newInstance().scoreGames(balls, offsets, scores);
+        Assert.assertEquals(300, scores[BatchScorer.TOTAL_OFFSET]);
+        Assert.assertEquals(270, scores[8]);
+        Assert.assertEquals(20, scores[BatchScorer.SCORES_PER_GAME + 1]);
+        Assert.assertEquals(20, scores[BatchScorer.SCORES_PER_GAME + BatchScorer.TOTAL_OFFSET]);
+        Assert.assertEquals(0, scores[BatchScorer.SCORES_PER_GAME + 2]);
+    }
+
+    @Test(expected = VerifyException.class)
+    public void testBallsAfterLastFrame() {
+        byte[] balls = new byte[21];
+        BatchScorerImpl.newInstance().scoreGames(balls, new int[]{0, 21}, new int[BatchScorer.SCORES_PER_GAME]);
+    }
+
+    @Test(expected = VerifyException.class)
+    public void testFrameWithTooManyPins() {
+        byte[] balls = {6, 5};
+        BatchScorerImpl.newInstance().scoreGames(balls, new int[]{0, 2}, new int[BatchScorer.SCORES_PER_GAME]);
+    }
+}
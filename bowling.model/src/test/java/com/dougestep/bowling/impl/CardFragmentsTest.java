@@ -0,0 +1,59 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.data.BowlingFrame;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CardFragmentsTest {
+
+    @Test
+    public void testEveryFrameMatchesRenderedCell() {
+        for (int firstBall = -1; firstBall <= 11; firstBall++) {
+            for (int secondBall = -1; secondBall <= 11; secondBall++) {
+                for (boolean split : new boolean[] {false, true}) {
+                    BowlingFrame frame = new BowlingFrame(firstBall, secondBall, split);
+                    StringBuilder expected = new StringBuilder();
+                    StringBuilder actual = new StringBuilder();
+                    PrintManagerImpl.renderMarkLinePreTenthFrame(expected, firstBall, secondBall, split);
+                    CardFragments.appendMarkCell(actual, frame);
+                    Assert.assertEquals(frame.toString(), expected.toString(), actual.toString());
+
+                    // the same frame as the tenth frame and each of its bonus frames.
+                    List<BowlingFrame> frames = new ArrayList<>();
+                    for (int frameNumber = 1; frameNumber <= 12; frameNumber++) {
+                        frames.add(frame);
+                        expected.setLength(0);
+                        actual.setLength(0);
+                        PrintManagerImpl.renderMarkLineTenthFrames(expected, frames);
+                        CardFragments.appendTenthMarkCells(actual, frames);
+                        Assert.assertEquals(frame.toString(), expected.toString(), actual.toString());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testEveryScoreMatchesRenderedCell() {
+        BowlingFrame frame = new BowlingFrame();
+        for (int score = -1; score <= 1000; score++) {
+            frame.setScore(score);
+            for (int frameNumber = 1; frameNumber <= 10; frameNumber++) {
+                StringBuilder expected = new StringBuilder();
+                StringBuilder actual = new StringBuilder();
+                PrintManagerImpl.renderScoreCell(expected, frameNumber, frame);
+                CardFragments.appendScoreCell(actual, frameNumber, frame);
+                Assert.assertEquals(expected.toString(), actual.toString());
+
+                expected.setLength(0);
+                actual.setLength(0);
+                PrintManagerImpl.renderScoreCell(expected, frameNumber, null);
+                CardFragments.appendScoreCell(actual, frameNumber, null);
+                Assert.assertEquals(expected.toString(), actual.toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.GameManager;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.Game;
+import com.dougestep.bowling.data.GameSnapshot;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ConcurrentGameManagerImplTest {
+
+    @Test
+    public void testScoresMatchGameManager() {
+        Bowler bowler = new Bowler().setFirstName("Wilma").setLastName("Flintstone");
+        GameManager processor = ConcurrentGameManagerImpl.newGame(bowler);
+
+        BowlingFrame open1 = new BowlingFrame(8, 1);
+        processor.addFrame(open1).addFrame(new BowlingFrame(8, 2)).addFrame(BowlingFrame.strike());
+        Game game = processor.getGame();
+        Assert.assertEquals(39, game.getScore());
+        Assert.assertEquals(3, game.getNumberOfFrames());
+        Assert.assertEquals(29, processor.retrieveFrameScore(2));
+        Assert.assertNotSame(open1, processor.retrieveFrame(1));
+
+        processor.replaceFrame(2, new BowlingFrame(8, 1));
+        Assert.assertEquals(39, game.getScore());
+        Assert.assertEquals(28, processor.getGame().getScore());
+
+        try {
+            processor.getGame().getFrames().clear();
+            Assert.fail("expected the published frames to be read-only");
+        } catch (UnsupportedOperationException uoe) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testGameKeepsUidsAndBowler() {
+        Bowler bowler = new Bowler().setFirstName("Betty");
+        GameManager processor = ConcurrentGameManagerImpl.newGame(bowler);
+        UUID frameUid = UUID.randomUUID();
+        processor.addFrame(new BowlingFrame(7, 3).setUid(frameUid)).addFrame(new BowlingFrame(5, 4));
+
+        Game game = processor.getGame();
+        Assert.assertSame(bowler, game.getBowler());
+        Assert.assertEquals(frameUid, game.getFrames().get(0).getUid());
+        Assert.assertNull(game.getFrames().get(1).getUid());
+        Assert.assertEquals(frameUid, processor.retrieveFrame(1).getUid());
+        Assert.assertEquals(frameUid, processor.getSnapshot().getFrame(1).getUid());
+
+        GameSnapshot before = processor.getSnapshot();
+        UUID replacedUid = UUID.randomUUID();
+        processor.replaceFrame(1, new BowlingFrame(7, 3).setUid(replacedUid));
+        GameSnapshot after = processor.getSnapshot();
+        Assert.assertNotEquals(before.getFrame(1), after.getFrame(1));
+        Assert.assertEquals(replacedUid, processor.getGame().getFrames().get(0).getUid());
+        Assert.assertSame(before.getFrame(2), after.getFrame(2));
+    }
+
+    @Test
+    public void testReadersSeeConsistentGames() throws InterruptedException {
+        final GameManager[] processor = {ConcurrentGameManagerImpl.newGame(new Bowler())};
+        final AtomicBoolean done = new AtomicBoolean();
+        final AtomicReference<String> failure = new AtomicReference<>();
+
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                Game game = processor[0].getGame();
+                int topFrame = game.getNumberOfFrames();
+                int expected = topFrame == 0 ? 0 : game.getFrames().get(Math.min(topFrame, 10) - 1).getScore();
+                if (game.getScore() != expected || topFrame > 12) {
+                    failure.set("torn game: " + game + " frames " + game.getFrames());
+                }
+            }
+        });
+        reader.start();
+
+        for (int gameNumber = 0; gameNumber < 2000; gameNumber++) {
+            processor[0] = ConcurrentGameManagerImpl.newGame(new Bowler());
+            for (int ball = 0; ball < 12; ball++) {
+                processor[0].roll(10);
+            }
+            processor[0].replaceFrame(1, new BowlingFrame(9, 0)).deleteFrame(5);
+        }
+        done.set(true);
+        reader.join();
+
+        Assert.assertNull(failure.get());
+    }
+
+    @Test
+    public void testReadersSeeConsistentSnapshots() throws InterruptedException {
+        final GameManager processor = ConcurrentGameManagerImpl.newGame(new Bowler());
+        final AtomicBoolean done = new AtomicBoolean();
+        final AtomicReference<String> failure = new AtomicReference<>();
+
+        Thread reader = new Thread(() -> {
+            GameSnapshot last = null;
+            while (!done.get()) {
+                GameSnapshot snapshot = processor.getSnapshot();
+                int topFrame = snapshot.getNumberOfFrames();
+                int expected = topFrame == 0 ? 0 : snapshot.getFrame(Math.min(topFrame, 10)).getScore();
+                if (snapshot.getScore() != expected) {
+                    failure.set("torn snapshot: " + snapshot);
+                }
+                if (last != null && last.getNumberOfFrames() > topFrame) {
+                    failure.set("snapshot went back: " + last + " then " + snapshot);
+                }
+                last = snapshot;
+            }
+        });
+        reader.start();
+
+        for (int ball = 0; ball < 12; ball++) {
+            processor.roll(10);
+            Thread.yield();
+        }
+        done.set(true);
+        reader.join();
+
+        Assert.assertNull(failure.get());
+        Assert.assertEquals(300, processor.getSnapshot().getScore());
+        Assert.assertSame(processor.getSnapshot(), processor.getSnapshot());
+    }
+}
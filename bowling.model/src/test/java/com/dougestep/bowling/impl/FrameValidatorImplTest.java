@@ -0,0 +1,146 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.FrameValidator;
+import com.dougestep.bowling.GameManager;
+import com.dougestep.bowling.InvalidFrameException;
+import com.dougestep.bowling.ValidationError;
+import com.dougestep.bowling.ValidationMode;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.Game;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FrameValidatorImplTest {
+
+    @Test
+    public void testValidateFrame() {
+        FrameValidator validator = FrameValidatorImpl.newInstance();
+        Assert.assertEquals(ValidationError.NONE, validator.validateFrame(new BowlingFrame(8, 2)));
+        Assert.assertEquals(ValidationError.NULL_FRAME, validator.validateFrame(null));
+        Assert.assertEquals(ValidationError.INVALID_FIRST_BALL, validator.validateFrame(new BowlingFrame(11)));
+        Assert.assertEquals(ValidationError.INVALID_SECOND_BALL,
+                validator.validateFrame(new BowlingFrame().setSecondBall(-1)));
+        Assert.assertEquals(ValidationError.INVALID_SCORE, validator.validateFrame(new BowlingFrame(1).setScore(301)));
+        Assert.assertEquals(ValidationError.TOO_MANY_PINS, validator.validateFrame(new BowlingFrame(8, 9)));
+    }
+
+    @Test
+    public void testValidateGame() {
+        FrameValidator validator = FrameValidatorImpl.newInstance();
+        BowlingFrame strike = BowlingFrame.strike();
+        BowlingFrame spare = new BowlingFrame(9, 1);
+        Assert.assertEquals(ValidationError.NONE, validator.validateGame(gameOf(strike, strike, strike)));
+        Assert.assertEquals(ValidationError.NONE, validator.validateGame(gameOf(strike, new BowlingFrame(7, 2))));
+        Assert.assertEquals(ValidationError.NONE, validator.validateGame(gameOf(spare, new BowlingFrame(7))));
+        Assert.assertEquals(ValidationError.NONE, validator.validateGame(gameOf(new BowlingFrame(8, 1))));
+
+        Assert.assertEquals(ValidationError.BONUS_FRAME_NOT_EARNED,
+                validator.validateGame(gameOf(new BowlingFrame(8, 1), new BowlingFrame(7))));
+        Assert.assertEquals(ValidationError.BONUS_FRAME_NOT_EARNED,
+                validator.validateGame(gameOf(strike, new BowlingFrame(7, 3), strike)));
+        Assert.assertEquals(ValidationError.BONUS_FRAME_NOT_EARNED,
+                validator.validateGame(gameOf(spare, strike, strike)));
+        Assert.assertEquals(ValidationError.EXTRA_BONUS_BALL,
+                validator.validateGame(gameOf(spare, new BowlingFrame(7, 2))));
+        Assert.assertEquals(ValidationError.TOO_MANY_FRAMES,
+                validator.validateGame(gameOf(strike, strike, strike, strike)));
+        Assert.assertEquals(ValidationError.NULL_FRAME, validator.validateGame(gameOf(strike, null)));
+    }
+
+    @Test
+    public void testManagerRaisesErrorCodes() {
+        GameManager processor = GameManagerImpl.newGame(new Bowler());
+        for (int frame = 0; frame < 9; frame++) {
+            processor.addFrame(new BowlingFrame(9, 0));
+        }
+        processor.addFrame(new BowlingFrame(9, 1));
+        assertRejected(ValidationError.EXTRA_BONUS_BALL, processor, new BowlingFrame(7, 2));
+        processor.addFrame(new BowlingFrame(7));
+        assertRejected(ValidationError.BONUS_FRAME_NOT_EARNED, processor, BowlingFrame.strike());
+
+        try {
+            processor.replaceFrame(10, new BowlingFrame(8, 1));
+            Assert.fail("expected the bonus frame to lose its mark");
+        } catch (InvalidFrameException ife) {
+            Assert.assertEquals(ValidationError.BONUS_FRAME_NOT_EARNED, ife.getError());
+            Assert.assertEquals("Frame 11 is a bonus frame which was not earned.", ife.getMessage());
+        }
+        Assert.assertEquals(10, processor.retrieveFrame(10).getFrameTotal());
+
+        try {
+            processor.roll(1);
+            Assert.fail("expected the game to be complete");
+        } catch (InvalidFrameException ife) {
+            Assert.assertEquals(ValidationError.GAME_COMPLETE, ife.getError());
+        }
+        try {
+            processor.replaceFrame(12, new BowlingFrame(1));
+            Assert.fail("expected the frame to be missing");
+        } catch (InvalidFrameException ife) {
+            Assert.assertEquals(ValidationError.FRAME_NOT_FOUND, ife.getError());
+        }
+    }
+
+    @Test
+    public void testTrustedManagerSkipsFrameRules() {
+        GameManager processor = GameManagerImpl.newGame(new Bowler(), ValidationMode.TRUSTED);
+        for (int frame = 0; frame < 10; frame++) {
+            processor.addFrame(new BowlingFrame(9, 0));
+        }
+        processor.addFrame(new BowlingFrame(7, 2).setScore(-1));
+        Assert.assertEquals(11, processor.getGame().getNumberOfFrames());
+        Assert.assertEquals(90, processor.getGame().getScore());
+
+        processor.addFrame(BowlingFrame.strike());
+        assertRejected(ValidationError.TOO_MANY_FRAMES, processor, BowlingFrame.strike());
+        assertRejected(ValidationError.NULL_FRAME, processor, null);
+    }
+
+    @Test
+    public void testTrustedManagerRejectsUnscorableBalls() {
+        GameManager processor = GameManagerImpl.newGame(new Bowler(), ValidationMode.TRUSTED)
+                .addFrame(new BowlingFrame(8, 1))
+                .addFrame(new BowlingFrame(8, 2));
+        assertRejected(ValidationError.INVALID_FIRST_BALL, processor, new BowlingFrame(11));
+        assertRejected(ValidationError.INVALID_SECOND_BALL, processor, new BowlingFrame().setSecondBall(-1));
+        assertRejected(ValidationError.TOO_MANY_PINS, processor, new BowlingFrame(6, 5));
+        try {
+            processor.replaceFrame(2, new BowlingFrame(8, 3));
+            Assert.fail("expected " + ValidationError.TOO_MANY_PINS);
+        } catch (InvalidFrameException ife) {
+            Assert.assertEquals(ValidationError.TOO_MANY_PINS, ife.getError());
+        }
+
+        Assert.assertEquals(2, processor.getGame().getNumberOfFrames());
+        Assert.assertEquals(2, processor.retrieveFrame(2).getSecondBall());
+        processor.addFrame(BowlingFrame.strike()).roll(7).roll(2);
+        Assert.assertEquals(4, processor.getGame().getNumberOfFrames());
+        Assert.assertEquals(57, processor.getGame().getScore());
+    }
+
+    /**
+     * Returns a game of nine 9-pin open frames followed by the supplied frames.
+     */
+    private static Game gameOf(final BowlingFrame... lastFrames) {
+        Game game = new Game();
+        game.clearFrames();
+        for (int frame = 0; frame < 9; frame++) {
+            game.addFrame(new BowlingFrame(9, 0));
+        }
+        for (BowlingFrame frame : lastFrames) {
+            game.addFrame(frame);
+        }
+        return game;
+    }
+
+    private static void assertRejected(final ValidationError expected, final GameManager processor,
+            final BowlingFrame frame) {
+        try {
+            processor.addFrame(frame);
+            Assert.fail("expected " + expected);
+        } catch (InvalidFrameException ife) {
+            Assert.assertEquals(expected, ife.getError());
+        }
+    }
+}
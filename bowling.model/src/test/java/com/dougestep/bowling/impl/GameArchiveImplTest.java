@@ -0,0 +1,109 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.GameArchive;
+import com.dougestep.bowling.GameView;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.Game;
+import com.google.common.base.VerifyException;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+public class GameArchiveImplTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testViewsMatchGames() {
+        assertArchiveMatches(GameArchiveImpl.newInstance(), 20000);
+    }
+
+    @Test
+    public void testMappedArchive() throws IOException {
+        assertArchiveMatches(GameArchiveImpl.newInstance(folder.newFile().toPath()), 20000);
+    }
+
+    @Test
+    public void testIncompleteGameRejected() {
+        GameArchive archive = GameArchiveImpl.newInstance();
+        try {
+            archive.archive(PrintManagerImplTest.gwensGame());
+            Assert.fail("expected an incomplete game to be rejected");
+        } catch (VerifyException ve) {
+            Assert.assertEquals(0, archive.size());
+        }
+    }
+
+    @Test(expected = VerifyException.class)
+    public void testFrameNotFound() {
+        GameArchive archive = GameArchiveImpl.newInstance();
+        Game game = GameManagerImpl.newGame(new Bowler())
+                .addFrames(new BowlingFrame[]{
+                    new BowlingFrame(9, 0), new BowlingFrame(9, 0), new BowlingFrame(9, 0), new BowlingFrame(9, 0),
+                    new BowlingFrame(9, 0), new BowlingFrame(9, 0), new BowlingFrame(9, 0), new BowlingFrame(9, 0),
+                    new BowlingFrame(9, 0), new BowlingFrame(9, 0)})
+                .getGame();
+        archive.view(archive.archive(game)).getFirstBall(11);
+    }
+
+    private static void assertArchiveMatches(GameArchive archive, int gameCount) {
+        Random random = new Random(16);
+        List<Bowler> league = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Bowler bowler = new Bowler().setFirstName("Bowler " + i);
+            bowler.setUid(i == 0 ? null : UUID.randomUUID());
+            league.add(bowler);
+        }
+
+        List<Game> games = new ArrayList<>();
+        while (games.size() < gameCount) {
+            Game game = BatchScorerImplTest.randomGame(random).getGame();
+            if (game.isComplete()) {
+                game.setBowler(random.nextInt(10) == 0 ? null : league.get(random.nextInt(league.size())));
+                for (BowlingFrame frame : game.getFrames()) {
+                    frame.setSplit(!frame.isStrike() && random.nextInt(8) == 0);
+                }
+                Assert.assertEquals(games.size(), archive.archive(game));
+                games.add(game);
+            }
+        }
+
+        Assert.assertEquals(gameCount, archive.size());
+        GameView view = archive.view(0);
+        for (int index = 0; index < gameCount; index++) {
+            Game game = games.get(index);
+            view.moveTo(index);
+            Assert.assertEquals(index, view.getIndex());
+            Assert.assertEquals(game.getUid(), view.getUid());
+            Assert.assertSame(game.getBowler(), view.getBowler());
+            Assert.assertEquals(game.getScore(), view.getScore());
+            Assert.assertTrue(view.isComplete());
+            Assert.assertEquals(game.getNumberOfFrames(), view.getNumberOfFrames());
+            for (int frameNumber = 1; frameNumber <= game.getNumberOfFrames(); frameNumber++) {
+                BowlingFrame frame = game.getFrames().get(frameNumber - 1);
+                Assert.assertEquals(frame.getFirstBall(), view.getFirstBall(frameNumber));
+                Assert.assertEquals(frame.getSecondBall(), view.getSecondBall(frameNumber));
+                Assert.assertEquals(frame.isSplit(), view.isSplit(frameNumber));
+                Assert.assertEquals(frame.getScore(), view.getFrameScore(frameNumber));
+                Assert.assertEquals(frame.isStrike(), view.isStrike(frameNumber));
+                Assert.assertEquals(frame.isSpare(), view.isSpare(frameNumber));
+                Assert.assertEquals(frame.isOpenFrame(), view.isOpenFrame(frameNumber));
+                Assert.assertEquals(frame.getFrameTotal(), view.getFrameTotal(frameNumber));
+                Assert.assertSame(frame.getShape(), view.getFrameShape(frameNumber));
+            }
+
+            Game copy = archive.toGame(index);
+            Assert.assertEquals(game.getUid(), copy.getUid());
+            Assert.assertEquals(game.getScore(), copy.getScore());
+            Assert.assertEquals(game.getFrames().get(9).getScore(), copy.getFrames().get(9).getScore());
+        }
+    }
+}
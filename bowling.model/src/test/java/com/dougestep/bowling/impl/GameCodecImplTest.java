@@ -0,0 +1,123 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.GameCodec;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.Game;
+import com.google.common.base.VerifyException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.UUID;
+
+public class GameCodecImplTest {
+    private final GameCodec codec = GameCodecImpl.newInstance();
+
+    @Test
+    public void testRoundTripRandomGames() {
+        Random random = new Random(11);
+        ByteBuffer heap = ByteBuffer.allocate(1024);
+        ByteBuffer direct = ByteBuffer.allocateDirect(1024);
+        for (int i = 0; i < 2000; i++) {
+            Game game = BatchScorerImplTest.randomGame(random).getGame();
+            if (random.nextBoolean()) {
+                game.setUid(UUID.randomUUID());
+                game.getBowler().setUid(UUID.randomUUID());
+                game.getBowler().setFirstName("Zo\u00eb").setLastName("\u014ckubo \ud83c\udfb3");
+                for (BowlingFrame frame : game.getFrames()) {
+                    frame.setUid(random.nextBoolean() ? UUID.randomUUID() : null);
+                }
+            }
+            for (ByteBuffer buffer : new ByteBuffer[]{heap, direct}) {
+                buffer.clear();
+                int written = codec.encode(game, buffer);
+                Assert.assertEquals(codec.encodedSize(game), written);
+                Assert.assertEquals(written, buffer.position());
+                buffer.flip();
+                assertSameGame(game, codec.decode(buffer));
+                Assert.assertFalse(buffer.hasRemaining());
+            }
+        }
+    }
+
+    @Test
+    public void testEncodingIsCompact() throws IOException {
+        Game game = PrintManagerImplTest.gwensGame();
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        int written = codec.encode(game, buffer);
+        // 3 header, 16 game uid, 11 names, 5 frames, 2 split bits, 1 game score, 5 frame scores.
+        Assert.assertEquals(43, written);
+
+        game.setUid(UUID.randomUUID());
+        game.getBowler().setUid(UUID.randomUUID());
+        for (BowlingFrame frame : game.getFrames()) {
+            frame.setUid(UUID.randomUUID());
+        }
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(serialized)) {
+            out.writeObject(game);
+        }
+        buffer.clear();
+        written = codec.encode(game, buffer);
+        Assert.assertTrue(written * 3 < serialized.size());
+        buffer.flip();
+        assertSameGame(game, codec.decode(buffer));
+    }
+
+    @Test
+    public void testBufferTooSmall() {
+        Game game = PrintManagerImplTest.gwensGame();
+        ByteBuffer buffer = ByteBuffer.allocate(codec.encodedSize(game) - 1);
+        try {
+            codec.encode(game, buffer);
+            Assert.fail("expected the short buffer to be rejected");
+        } catch (VerifyException ve) {
+            Assert.assertEquals(0, buffer.position());
+        }
+    }
+
+    @Test
+    public void testInvalidBallLeavesBufferUntouched() {
+        Game game = PrintManagerImplTest.gwensGame();
+        game.getFrames().get(3).setFirstBall(11);
+        ByteBuffer buffer = ByteBuffer.allocate(codec.encodedSize(game) + 2);
+        buffer.put((byte) 7).put((byte) 8);
+        try {
+            codec.encode(game, buffer);
+            Assert.fail("expected the invalid ball to be rejected");
+        } catch (VerifyException ve) {
+            Assert.assertEquals(2, buffer.position());
+            Assert.assertEquals(0, buffer.get(2));
+        }
+    }
+
+    @Test(expected = VerifyException.class)
+    public void testUnknownVersion() {
+        codec.decode(ByteBuffer.wrap(new byte[]{9, 0, 0, 0, 0, 0}));
+    }
+
+    private static void assertSameGame(Game expected, Game actual) {
+        Assert.assertEquals(expected.getUid(), actual.getUid());
+        Assert.assertEquals(expected.getScore(), actual.getScore());
+        Assert.assertEquals(expected.isComplete(), actual.isComplete());
+        Bowler bowler = expected.getBowler();
+        Assert.assertEquals(bowler.getUid(), actual.getBowler().getUid());
+        Assert.assertEquals(bowler.getFirstName(), actual.getBowler().getFirstName());
+        Assert.assertEquals(bowler.getLastName(), actual.getBowler().getLastName());
+        Assert.assertEquals(expected.getNumberOfFrames(), actual.getNumberOfFrames());
+        for (int index = 0; index < expected.getNumberOfFrames(); index++) {
+            BowlingFrame frame = expected.getFrames().get(index);
+            BowlingFrame copy = actual.getFrames().get(index);
+            Assert.assertEquals(frame.getUid(), copy.getUid());
+            Assert.assertEquals(frame.getFirstBall(), copy.getFirstBall());
+            Assert.assertEquals(frame.getSecondBall(), copy.getSecondBall());
+            Assert.assertEquals(frame.isSplit(), copy.isSplit());
+            Assert.assertEquals(frame.getScore(), copy.getScore());
+        }
+    }
+}
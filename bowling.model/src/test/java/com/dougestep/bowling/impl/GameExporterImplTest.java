@@ -0,0 +1,161 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.GameExporter;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.Game;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.UUID;
+
+public class GameExporterImplTest {
+    private static final UUID GAME_UID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID BOWLER_UID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    @Test
+    public void testJson() throws Exception {
+        GameExporter processor = GameExporterImpl.newJsonInstance();
+        Assert.assertEquals("application/json", processor.getContentType());
+
+        StringBuilder out = new StringBuilder();
+        processor.exportGames(Arrays.asList(newGame("Fred \"The Rock\"", "Flint\\stone\n\u2028"), new Game()), out);
+        Assert.assertEquals("[\n"
+                + "{\"uid\":\"00000000-0000-0000-0000-000000000001\",\"bowler\":{\"uid\":"
+                + "\"00000000-0000-0000-0000-000000000002\",\"firstName\":\"Fred \\\"The Rock\\\"\","
+                + "\"lastName\":\"Flint\\\\stone\\n\\u2028\"},\"score\":39,\"complete\":false,\"frames\":["
+                + "{\"firstBall\":8,\"secondBall\":1,\"split\":false,\"score\":9},"
+                + "{\"firstBall\":8,\"secondBall\":2,\"split\":true,\"score\":29},"
+                + "{\"firstBall\":10,\"secondBall\":0,\"split\":false,\"score\":39}]},\n"
+                + "{\"uid\":null,\"bowler\":null,\"score\":0,\"complete\":false,\"frames\":[]}\n"
+                + "]\n", out.toString());
+
+        out.setLength(0);
+        processor.exportGames(Collections.<Game>emptyList(), out);
+        Assert.assertEquals("[\n]\n", out.toString());
+    }
+
+    @Test
+    public void testCsv() throws Exception {
+        GameExporter processor = GameExporterImpl.newCsvInstance();
+        Assert.assertEquals("text/csv", processor.getContentType());
+
+        StringBuilder out = new StringBuilder();
+        processor.exportGames(Arrays.asList(newGame("Fred, Jr.", "Flint\"stone"), new Game()), out);
+        String game = "00000000-0000-0000-0000-000000000001,00000000-0000-0000-0000-000000000002,"
+                + "\"Fred, Jr.\",\"Flint\"\"stone\",";
+        Assert.assertEquals("gameUid,bowlerUid,firstName,lastName,frame,firstBall,secondBall,split,frameScore,"
+                + "gameScore,complete\r\n"
+                + game + "1,8,1,false,9,39,false\r\n"
+                + game + "2,8,2,true,29,39,false\r\n"
+                + game + "3,10,0,false,39,39,false\r\n"
+                + ",,,,,,,,,0,false\r\n", out.toString());
+    }
+
+    @Test
+    public void testHtml() throws Exception {
+        GameExporter processor = GameExporterImpl.newHtmlInstance();
+        Assert.assertEquals("text/html", processor.getContentType());
+
+        Game game = GameManagerImpl.newGame(new Bowler().setFirstName("Bam-Bam").setLastName("<Rubble> & Co"))
+                .addFrame(new BowlingFrame(8, 1))
+                .addFrame(new BowlingFrame(8, 2).setSplit(true))
+                .addFrame(BowlingFrame.strike())
+                .addFrame(new BowlingFrame(0, 7))
+                .addFrame(new BowlingFrame(9, 1))
+                .addFrame(new BowlingFrame(9, 0))
+                .addFrame(new BowlingFrame(6, 3))
+                .addFrame(new BowlingFrame(7, 3))
+                .addFrame(new BowlingFrame(9, 0))
+                .addFrame(BowlingFrame.strike())
+                .addFrame(new BowlingFrame(7, 3))
+                .getGame();
+        StringBuilder out = new StringBuilder();
+        processor.exportGames(Collections.singletonList(game), out);
+        String html = out.toString();
+
+        Assert.assertTrue(html, html.startsWith("<div class=\"bowling-games\">\n<table class=\"bowling-game\" "
+                + "data-uid=\"" + game.getUid() + "\" data-complete=\"true\">\n"));
+        Assert.assertTrue(html, html.contains("<tr class=\"marks\"><td class=\"bowler\" rowspan=\"2\">"
+                + "Bam-Bam &lt;Rubble&gt; &amp; Co</td>"
+                + "<td>8</td><td>1</td><td class=\"split\">S8</td><td>/</td><td></td><td>X</td>"
+                + "<td>-</td><td>7</td><td>9</td><td>/</td><td>9</td><td>-</td><td>6</td><td>3</td>"
+                + "<td>7</td><td>/</td><td>9</td><td>-</td><td>X</td><td>7</td><td>/</td></tr>\n"));
+        Assert.assertTrue(html, html.contains("<tr class=\"scores\"><td colspan=\"2\">9</td><td colspan=\"2\">29"
+                + "</td><td colspan=\"2\">46</td><td colspan=\"2\">53</td><td colspan=\"2\">72</td>"
+                + "<td colspan=\"2\">81</td><td colspan=\"2\">90</td><td colspan=\"2\">109</td>"
+                + "<td colspan=\"2\">118</td><td colspan=\"3\">138</td></tr>\n</table>\n</div>\n"));
+    }
+
+    @Test
+    public void testStreamsMillionsOfGames() throws IOException {
+        final Game game = newGame("Wilma", "Flintstone");
+        final int gameCount = 1000000;
+        Iterable<Game> games = new Iterable<Game>() {
+            @Override
+            public Iterator<Game> iterator() {
+                return new Iterator<Game>() {
+                    private int served;
+
+                    @Override
+                    public boolean hasNext() {
+                        return served < gameCount;
+                    }
+
+                    @Override
+                    public Game next() {
+                        served++;
+                        return game;
+                    }
+                };
+            }
+        };
+        CountingOutputStream out = new CountingOutputStream();
+
+        ByteArrayOutputStream oneGame = new ByteArrayOutputStream();
+        GameExporter processor = GameExporterImpl.newJsonInstance();
+        processor.exportGames(Collections.singletonList(game), oneGame);
+        String json = new String(oneGame.toByteArray(), StandardCharsets.UTF_8);
+
+        processor.exportGames(games, out);
+
+        // "[\n" + (game + ",\n") per game, less the last comma, + "\n]\n".
+        long gameLength = json.length() - "[\n\n]\n".length();
+        Assert.assertEquals("[\n\n]\n".length() + gameCount * (gameLength + 2) - 2, out.count);
+    }
+
+    private static Game newGame(final String firstName, final String lastName) {
+        Bowler bowler = new Bowler().setFirstName(firstName).setLastName(lastName);
+        bowler.setUid(BOWLER_UID);
+        return GameManagerImpl.newGame(bowler)
+                .addFrame(new BowlingFrame(8, 1))
+                .addFrame(new BowlingFrame(8, 2).setSplit(true))
+                .addFrame(BowlingFrame.strike())
+                .getGame()
+                .setUid(GAME_UID);
+    }
+
+    /**
+     * Counts the bytes written to it and discards them.
+     */
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(final int b) {
+            count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            count += len;
+        }
+    }
+}
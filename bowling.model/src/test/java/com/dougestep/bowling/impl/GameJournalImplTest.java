@@ -0,0 +1,230 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.GameJournal;
+import com.dougestep.bowling.GameManager;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.Game;
+import com.google.common.base.VerifyException;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+public class GameJournalImplTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testRecoverLiveGames() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        Bowler wilma = new Bowler().setFirstName("Wilma").setLastName("Flintstone");
+        wilma.setUid(UUID.randomUUID());
+
+        Game expected;
+        try (GameJournal journal = GameJournalImpl.open(directory)) {
+            Assert.assertTrue(journal.getRecoveredGames().isEmpty());
+            GameManager wilmasGame = journal.newGame(wilma)
+                    .addFrame(new BowlingFrame(8, 1).setUid(UUID.randomUUID()))
+                    .addFrame(new BowlingFrame(8, 2))
+                    .addFrame(BowlingFrame.strike())
+                    .roll(7)
+                    .roll(2, true)
+                    .replaceFrame(2, new BowlingFrame(9, 1))
+                    .deleteFrame(3);
+            expected = wilmasGame.getGame();
+
+            GameManager finished = journal.newGame(null).roll(10);
+            journal.endGame(finished.getGame().getUid());
+        }
+
+        try (GameJournal journal = GameJournalImpl.open(directory)) {
+            Assert.assertEquals(1, journal.getRecoveredGames().size());
+            GameManager recovered = journal.getRecoveredGames().get(0);
+            assertSameGame(expected, recovered.getGame());
+            Assert.assertEquals(wilma.getUid(), recovered.getGame().getBowler().getUid());
+            Assert.assertEquals("Flintstone", recovered.getGame().getBowler().getLastName());
+            recovered.roll(10);
+            expected = recovered.getGame();
+        }
+
+        try (GameJournal journal = GameJournalImpl.open(directory)) {
+            assertSameGame(expected, journal.getRecoveredGames().get(0).getGame());
+        }
+    }
+
+    @Test
+    public void testClosedJournalLeavesGameUnchanged() throws IOException {
+        GameJournal journal = GameJournalImpl.open(folder.getRoot().toPath());
+        GameManager processor = journal.newGame(null).addFrame(new BowlingFrame(8, 1)).roll(7);
+        journal.close();
+
+        try {
+            processor.roll(2);
+            Assert.fail("expected the closed journal to refuse the roll");
+        } catch (VerifyException ve) {
+            // expected
+        }
+        try {
+            processor.addFrame(BowlingFrame.strike());
+            Assert.fail("expected the closed journal to refuse the frame");
+        } catch (VerifyException ve) {
+            // expected
+        }
+        try {
+            processor.replaceFrame(1, new BowlingFrame(9, 0));
+            Assert.fail("expected the closed journal to refuse the replacement");
+        } catch (VerifyException ve) {
+            // expected
+        }
+        try {
+            processor.deleteFrame(1);
+            Assert.fail("expected the closed journal to refuse the delete");
+        } catch (VerifyException ve) {
+            // expected
+        }
+
+        Game game = processor.getGame();
+        Assert.assertEquals(2, game.getNumberOfFrames());
+        Assert.assertEquals(8, game.getFrames().get(0).getFirstBall());
+        Assert.assertEquals(7, game.getFrames().get(1).getFirstBall());
+        Assert.assertEquals(0, game.getFrames().get(1).getSecondBall());
+        Assert.assertEquals(16, game.getScore());
+
+        try (GameJournal reopened = GameJournalImpl.open(folder.getRoot().toPath())) {
+            assertSameGame(game, reopened.getRecoveredGames().get(0).getGame());
+        }
+    }
+
+    @Test
+    public void testCalculateScoreIsRecorded() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        Game expected;
+        try (GameJournal journal = GameJournalImpl.open(directory)) {
+            GameManager processor = journal.newGame(new Bowler()).roll(8).roll(1).roll(10).roll(7);
+            processor.getGame().getFrames().get(0).setSecondBall(2);
+            expected = processor.calculateScore().getGame();
+        }
+
+        try (GameJournal journal = GameJournalImpl.open(directory)) {
+            GameManager processor = journal.getRecoveredGames().get(0);
+            assertSameGame(expected, processor.getGame());
+            Assert.assertEquals(44, processor.getGame().getScore());
+        }
+    }
+
+    @Test
+    public void testSegmentRollover() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        int segmentSize = GameJournalImpl.RECORD_SIZE * 8;
+        List<Game> expected = new ArrayList<>();
+        try (GameJournal journal = GameJournalImpl.open(directory, segmentSize)) {
+            Random random = new Random(12);
+            for (int i = 0; i < 20; i++) {
+                expected.add(bowl(journal, BatchScorerImplTest.randomGame(random).getGame()));
+            }
+        }
+        Assert.assertTrue(folder.getRoot().list().length > 20);
+
+        try (GameJournal journal = GameJournalImpl.open(directory, segmentSize)) {
+            assertSameGames(expected, journal.getRecoveredGames());
+        }
+    }
+
+    @Test
+    public void testTornRecordIsIgnored() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        Game expected;
+        try (GameJournal journal = GameJournalImpl.open(directory)) {
+            GameManager processor = journal.newGame(new Bowler()).roll(8).roll(1);
+            expected = copyOf(processor.getGame());
+            processor.roll(10);
+        }
+        File segment = folder.getRoot().listFiles()[0];
+        try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+            // the fourth record is the strike.
+            file.seek(GameJournalImpl.RECORD_SIZE * 3 + 7);
+            file.write(9);
+        }
+
+        try (GameJournal journal = GameJournalImpl.open(directory)) {
+            GameManager processor = journal.getRecoveredGames().get(0);
+            assertSameGame(expected, processor.getGame());
+            processor.roll(6);
+            expected = copyOf(processor.getGame());
+        }
+        try (GameJournal journal = GameJournalImpl.open(directory)) {
+            assertSameGame(expected, journal.getRecoveredGames().get(0).getGame());
+        }
+    }
+
+    @Test
+    public void testRecoverNightOfGames() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        List<Game> expected = new ArrayList<>();
+        try (GameJournal journal = GameJournalImpl.open(directory)) {
+            // 40 lanes of 5 bowlers bowling 3 games each.
+            Random random = new Random(13);
+            for (int i = 0; i < 600; i++) {
+                expected.add(bowl(journal, BatchScorerImplTest.randomGame(random).getGame()));
+            }
+        }
+
+        try (GameJournal journal = GameJournalImpl.open(directory)) {
+            assertSameGames(expected, journal.getRecoveredGames());
+        }
+    }
+
+    /**
+     * Starts a game in the supplied journal and adds the frames of the supplied game to it.
+     */
+    private static Game bowl(GameJournal journal, Game frames) {
+        GameManager processor = journal.newGame(new Bowler().setFirstName("Bowler"));
+        for (BowlingFrame frame : frames.getFrames()) {
+            processor.addFrame(new BowlingFrame(frame.getFirstBall(), frame.getSecondBall(), frame.isSplit()));
+        }
+        return processor.getGame();
+    }
+
+    private static Game copyOf(Game game) {
+        Game copy = new Game().setUid(game.getUid()).setScore(game.getScore()).setComplete(game.isComplete());
+        copy.clearFrames();
+        for (BowlingFrame frame : game.getFrames()) {
+            copy.addFrame(new BowlingFrame(frame.getFirstBall(), frame.getSecondBall(), frame.isSplit())
+                    .setScore(frame.getScore()).setUid(frame.getUid()));
+        }
+        return copy;
+    }
+
+    private static void assertSameGames(List<Game> expected, List<GameManager> actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int index = 0; index < expected.size(); index++) {
+            assertSameGame(expected.get(index), actual.get(index).getGame());
+        }
+    }
+
+    private static void assertSameGame(Game expected, Game actual) {
+        Assert.assertEquals(expected.getUid(), actual.getUid());
+        Assert.assertEquals(expected.getScore(), actual.getScore());
+        Assert.assertEquals(expected.isComplete(), actual.isComplete());
+        Assert.assertEquals(expected.getNumberOfFrames(), actual.getNumberOfFrames());
+        for (int index = 0; index < expected.getNumberOfFrames(); index++) {
+            BowlingFrame frame = expected.getFrames().get(index);
+            BowlingFrame copy = actual.getFrames().get(index);
+            Assert.assertEquals(frame.getUid(), copy.getUid());
+            Assert.assertEquals(frame.getFirstBall(), copy.getFirstBall());
+            Assert.assertEquals(frame.getSecondBall(), copy.getSecondBall());
+            Assert.assertEquals(frame.isSplit(), copy.isSplit());
+            Assert.assertEquals(frame.getScore(), copy.getScore());
+        }
+    }
+}
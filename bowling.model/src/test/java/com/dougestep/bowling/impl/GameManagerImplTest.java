@@ -1,10 +1,14 @@
 package com.dougestep.bowling.impl;
 
 import com.dougestep.bowling.GameManager;
+import com.dougestep.bowling.InvalidFrameException;
 import com.dougestep.bowling.PrintManager;
+import com.dougestep.bowling.ValidationError;
 import com.dougestep.bowling.data.Bowler;
 import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.FrameShape;
 import com.dougestep.bowling.data.Game;
+import com.dougestep.bowling.data.GameSnapshot;
 import com.google.common.base.VerifyException;
 import org.junit.Assert;
 import org.junit.Test;
@@ -782,4 +786,308 @@ public class GameManagerImplTest {
         printManager.printGame(processor.getGame(), System.out);
         System.out.println(NL);
     }
+
+    @Test
+    public void testReplaceFirstFrameOfFinishedGame() {
+        Bowler bowler = new Bowler().setFirstName("Pebbles").setLastName("Flintstone");
+        GameManager processor = GameManagerImpl.newGame(bowler);
+
+        BowlingFrame strike1 = BowlingFrame.strike();
+        BowlingFrame strike2 = BowlingFrame.strike();
+        BowlingFrame open3 = new BowlingFrame(7, 2);
+        processor.addFrames(new BowlingFrame[]{strike1, strike2, open3});
+        for (int i = 4; i <= 10; i++) {
+            processor.addFrame(new BowlingFrame(8, 1));
+        }
+        Assert.assertEquals(27, strike1.getScore());
+        Assert.assertEquals(46, strike2.getScore());
+        Assert.assertEquals(55, open3.getScore());
+        Assert.assertEquals(118, processor.getGame().getScore());
+        Assert.assertTrue(processor.getGame().isComplete());
+
+        BowlingFrame open1 = new BowlingFrame(6, 3);
+        processor.replaceFrame(1, open1);
+        Assert.assertEquals(9, open1.getScore());
+        Assert.assertEquals(28, strike2.getScore());
+        Assert.assertEquals(37, open3.getScore());
+        Assert.assertEquals(100, processor.getGame().getScore());
+        Assert.assertEquals(10, processor.getGame().getNumberOfFrames());
+        Assert.assertSame(open1, processor.getGame().getFrames().get(0));
+
+        processor.deleteFrame(10);
+        Assert.assertEquals(9, processor.getGame().getNumberOfFrames());
+        Assert.assertEquals(91, processor.getGame().getScore());
+        Assert.assertFalse(processor.getGame().isComplete());
+    }
+
+    @Test
+    public void testDeleteMiddleFrame() {
+        Bowler bowler = new Bowler().setFirstName("Bamm-Bamm").setLastName("Rubble");
+        GameManager processor = GameManagerImpl.newGame(bowler);
+
+        BowlingFrame open1 = new BowlingFrame(8, 1);
+        BowlingFrame strike2 = BowlingFrame.strike();
+        BowlingFrame spare3 = new BowlingFrame(6, 4);
+        BowlingFrame open4 = new BowlingFrame(3, 2);
+        processor.addFrames(new BowlingFrame[]{open1, strike2, spare3, open4});
+        Assert.assertEquals(47, processor.getGame().getScore());
+
+        processor.deleteFrame(2);
+        Assert.assertEquals(3, processor.getGame().getNumberOfFrames());
+        Assert.assertSame(spare3, processor.retrieveFrame(2));
+        Assert.assertSame(open4, processor.retrieveFrame(3));
+        Assert.assertNull(processor.retrieveFrame(4));
+        Assert.assertEquals(9, open1.getScore());
+        Assert.assertEquals(22, spare3.getScore());
+        Assert.assertEquals(27, open4.getScore());
+        Assert.assertEquals(27, processor.getGame().getScore());
+    }
+
+    @Test(expected = VerifyException.class)
+    public void testAddThirteenthFrame() {
+        GameManager processor = GameManagerImpl.newGame(new Bowler());
+        for (int i = 1; i <= 12; i++) {
+            processor.addFrame(BowlingFrame.strike());
+        }
+        Assert.assertEquals(300, processor.getGame().getScore());
+        processor.addFrame(BowlingFrame.strike());
+    }
+
+    @Test
+    public void testRollMatchesAddFrames() {
+        Bowler bowler = new Bowler().setFirstName("Doug").setLastName("Estep");
+        GameManager framesProcessor = GameManagerImpl.newGame(bowler)
+                .addFrame(BowlingFrame.strike())
+                .addFrame(BowlingFrame.strike())
+                .addFrame(BowlingFrame.strike())
+                .addFrame(new BowlingFrame(9, 1))
+                .addFrame(new BowlingFrame(9, 1))
+                .addFrame(new BowlingFrame(8, 1).setSplit(true))
+                .addFrame(new BowlingFrame(8, 2))
+                .addFrame(new BowlingFrame(9, 1))
+                .addFrame(new BowlingFrame(9, 1))
+                .addFrame(BowlingFrame.strike())
+                .addFrame(BowlingFrame.strike())
+                .addFrame(BowlingFrame.oneBall(9));
+
+        GameManager rollProcessor = GameManagerImpl.newGame(bowler);
+        rollProcessor.roll(10).roll(10).roll(10).roll(9).roll(1).roll(9).roll(1).roll(8, true).roll(1);
+        rollProcessor.roll(8).roll(2).roll(9).roll(1).roll(9).roll(1);
+        Assert.assertFalse(rollProcessor.getGame().isComplete());
+        rollProcessor.roll(10).roll(10);
+        Assert.assertFalse(rollProcessor.getGame().isComplete());
+        rollProcessor.roll(9);
+
+        Assert.assertTrue(rollProcessor.getGame().isComplete());
+        Assert.assertEquals(framesProcessor.getGame().getScore(), rollProcessor.getGame().getScore());
+        Assert.assertEquals(12, rollProcessor.getGame().getNumberOfFrames());
+        for (int frameNumber = 1; frameNumber <= 12; frameNumber++) {
+            BowlingFrame expected = framesProcessor.retrieveFrame(frameNumber);
+            BowlingFrame actual = rollProcessor.retrieveFrame(frameNumber);
+            Assert.assertEquals(expected.getFirstBall(), actual.getFirstBall());
+            Assert.assertEquals(expected.getSecondBall(), actual.getSecondBall());
+            Assert.assertEquals(expected.isSplit(), actual.isSplit());
+            Assert.assertEquals(expected.getScore(), actual.getScore());
+        }
+    }
+
+    @Test
+    public void testRollTenthFrame() {
+        GameManager processor = GameManagerImpl.newGame(new Bowler());
+        for (int i = 1; i <= 18; i++) {
+            processor.roll(0);
+        }
+        processor.roll(7);
+        Assert.assertFalse(processor.getGame().isComplete());
+        Assert.assertEquals(7, processor.getGame().getScore());
+        processor.roll(3);
+        Assert.assertFalse(processor.getGame().isComplete());
+        processor.roll(6);
+        Assert.assertTrue(processor.getGame().isComplete());
+        Assert.assertEquals(16, processor.getGame().getScore());
+        Assert.assertEquals(11, processor.getGame().getNumberOfFrames());
+
+        try {
+            processor.roll(1);
+            Assert.fail("expected the game to be complete");
+        } catch (VerifyException ve) {
+            // expected
+            System.out.println(ve.getMessage());
+        }
+    }
+
+    @Test
+    public void testCalculateScoreKeepsFrameInProgress() {
+        GameManager processor = GameManagerImpl.newGame(new Bowler());
+        processor.roll(3).calculateScore().roll(4);
+        Assert.assertEquals(1, processor.getGame().getNumberOfFrames());
+        Assert.assertEquals(3, processor.retrieveFrame(1).getFirstBall());
+        Assert.assertEquals(4, processor.retrieveFrame(1).getSecondBall());
+        Assert.assertEquals(7, processor.getGame().getScore());
+
+        processor.roll(5);
+        processor.retrieveFrame(2).setSecondBall(5);
+        processor.calculateScore().roll(2);
+        Assert.assertEquals(3, processor.getGame().getNumberOfFrames());
+        Assert.assertEquals(21, processor.getGame().getScore());
+    }
+
+    @Test(expected = VerifyException.class)
+    public void testRollTooManyPins() {
+        GameManagerImpl.newGame(new Bowler()).roll(6).roll(5);
+    }
+
+    @Test
+    public void testRollInvalidBallNamesFrame() {
+        GameManager processor = GameManagerImpl.newGame(new Bowler()).roll(10).roll(3);
+        try {
+            processor.roll(11);
+            Assert.fail("Expected an invalid ball");
+        } catch (InvalidFrameException e) {
+            Assert.assertEquals(ValidationError.INVALID_BALL, e.getError());
+            Assert.assertEquals("Invalid value for the ball in frame 2: 11", e.getMessage());
+        }
+        processor.roll(4);
+        try {
+            processor.roll(-1);
+            Assert.fail("Expected an invalid ball");
+        } catch (InvalidFrameException e) {
+            Assert.assertEquals("Invalid value for the ball in frame 3: -1", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testRetrieveFrameShape() {
+        GameManager processor = GameManagerImpl.newGame(new Bowler())
+                .addFrame(BowlingFrame.strike())
+                .addFrame(new BowlingFrame(8, 1, true))
+                .addFrame(BowlingFrame.strike());
+
+        Assert.assertSame(FrameShape.strike(), processor.retrieveFrameShape(1));
+        Assert.assertSame(FrameShape.of(8, 1, true), processor.retrieveFrameShape(2));
+        Assert.assertSame(processor.retrieveFrameShape(1), processor.retrieveFrameShape(3));
+        Assert.assertNull(processor.retrieveFrameShape(4));
+        Assert.assertEquals(19, processor.retrieveFrameScore(1));
+        Assert.assertEquals(28, processor.retrieveFrameScore(2));
+        Assert.assertEquals(38, processor.retrieveFrameScore(3));
+        Assert.assertEquals(0, processor.retrieveFrameScore(4));
+
+        int legalShapes = 0;
+        for (int index = 0; index < FrameShape.COUNT; index++) {
+            FrameShape shape = FrameShape.fromIndex(index);
+            Assert.assertEquals(index, shape.getIndex());
+            Assert.assertSame(shape, FrameShape.of(shape.getFirstBall(), shape.getSecondBall(), shape.isSplit()));
+            legalShapes++;
+        }
+        Assert.assertEquals(132, legalShapes);
+    }
+
+    @Test
+    public void testLazyScoresMatchEager() {
+        java.util.Random random = new java.util.Random(17);
+        for (int gameNumber = 0; gameNumber < 500; gameNumber++) {
+            GameManager eager = GameManagerImpl.newGame(new Bowler());
+            GameManager lazy = GameManagerImpl.newLazyGame(new Bowler());
+            for (int change = 0; change < 30; change++) {
+                int topFrame = eager.getGame().getNumberOfFrames();
+                int frameNumber = 1 + random.nextInt(Math.max(topFrame, 1));
+                int firstBall = random.nextInt(11);
+                BowlingFrame frame = new BowlingFrame(firstBall, random.nextInt(11 - firstBall));
+                BowlingFrame copy = new BowlingFrame(frame.getFirstBall(), frame.getSecondBall());
+                try {
+                    switch (random.nextInt(4)) {
+                        case 0:
+                            eager.addFrame(frame);
+                            lazy.addFrame(copy);
+                            break;
+                        case 1:
+                            eager.roll(firstBall);
+                            lazy.roll(firstBall);
+                            break;
+                        case 2:
+                            eager.replaceFrame(frameNumber, frame);
+                            lazy.replaceFrame(frameNumber, copy);
+                            break;
+                        default:
+                            eager.deleteFrame(frameNumber);
+                            lazy.deleteFrame(frameNumber);
+                            break;
+                    }
+                } catch (VerifyException ve) {
+                    // rejected by both managers
+                }
+
+                Game lazyGame = lazy.getGame();
+                Assert.assertEquals(eager.getGame().getScore(), lazyGame.getScore());
+                Assert.assertEquals(eager.getGame().isComplete(), lazyGame.isComplete());
+                Assert.assertEquals(eager.getGame().getNumberOfFrames(), lazyGame.getNumberOfFrames());
+                for (int index = 0; index < lazyGame.getNumberOfFrames(); index++) {
+                    Assert.assertEquals(eager.retrieveFrame(index + 1).getScore(),
+                            lazyGame.getFrames().get(index).getScore());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLazyScoringWaitsForRead() {
+        BowlingFrame spare = new BowlingFrame(8, 2);
+        BowlingFrame strike = BowlingFrame.strike();
+        GameManager processor = GameManagerImpl.newLazyGame(new Bowler())
+                .addFrame(new BowlingFrame(8, 1))
+                .addFrame(spare)
+                .addFrame(strike);
+        Assert.assertEquals(0, spare.getScore());
+        Assert.assertEquals(29, processor.retrieveFrameScore(2));
+        Assert.assertEquals(29, spare.getScore());
+
+        Game game = processor.getGame();
+        Assert.assertSame(Game.class, game.getClass());
+        processor.roll(10).roll(10);
+        Assert.assertEquals(39, strike.getScore());
+        Assert.assertEquals(39, game.getScore());
+        Assert.assertSame(game, processor.getGame());
+        Assert.assertEquals(89, game.getScore());
+        Assert.assertEquals(59, strike.getScore());
+        Assert.assertFalse(game.isComplete());
+    }
+
+    @Test
+    public void testSnapshotsShareUnchangedFrames() {
+        GameManager processor = GameManagerImpl.newGame(new Bowler().setFirstName("Wilma"))
+                .addFrame(new BowlingFrame(8, 1))
+                .addFrame(new BowlingFrame(7, 2))
+                .addFrame(new BowlingFrame(8, 2));
+        GameSnapshot first = processor.getSnapshot();
+        Assert.assertSame(first, processor.getSnapshot());
+
+        processor.roll(10);
+        GameSnapshot second = processor.getSnapshot();
+        Assert.assertEquals(28, first.getScore());
+        Assert.assertEquals(3, first.getNumberOfFrames());
+        Assert.assertEquals(48, second.getScore());
+        Assert.assertSame(first.getFrame(1), second.getFrame(1));
+        Assert.assertSame(first.getFrame(2), second.getFrame(2));
+        Assert.assertNotSame(first.getFrame(3), second.getFrame(3));
+        Assert.assertEquals(28, first.getFrame(3).getScore());
+        Assert.assertEquals(38, second.getFrame(3).getScore());
+
+        processor.getGame().getBowler().setLastName("Flintstone");
+        GameSnapshot renamed = processor.getSnapshot();
+        Assert.assertNotSame(second, renamed);
+        Assert.assertEquals("Flintstone", renamed.getLastName());
+        Assert.assertSame(second.getFrame(4), renamed.getFrame(4));
+
+        processor.deleteFrame(4);
+        GameSnapshot deleted = processor.getSnapshot();
+        Assert.assertEquals(first.getFrames(), deleted.getFrames());
+        Assert.assertSame(first.getFrame(2), deleted.getFrame(2));
+        Assert.assertEquals(processor.getGame().getScore(), deleted.toGame().getScore());
+        try {
+            deleted.getFrames().clear();
+            Assert.fail("expected the snapshot frames to be read-only");
+        } catch (UnsupportedOperationException uoe) {
+            // expected
+        }
+    }
 }
@@ -0,0 +1,114 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.GameManager;
+import com.dougestep.bowling.GameRegistry;
+import com.dougestep.bowling.data.Bowler;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class GameRegistryImplTest {
+
+    @Test
+    public void testFindGames() {
+        GameRegistry registry = GameRegistryImpl.newInstance();
+        Bowler fred = new Bowler().setFirstName("Fred").setLastName("Flintstone");
+        fred.setUid(UUID.randomUUID());
+        Bowler barney = new Bowler().setFirstName("Barney").setLastName("Rubble");
+        barney.setUid(UUID.randomUUID());
+
+        GameManager fredGame1 = GameManagerImpl.newGame(fred);
+        GameManager fredGame2 = GameManagerImpl.newGame(fred);
+        GameManager barneyGame = ConcurrentGameManagerImpl.newGame(barney);
+        registry.register(1, fredGame1).register(2, fredGame2).register(2, barneyGame);
+
+        Assert.assertEquals(3, registry.size());
+        Assert.assertSame(barneyGame, registry.findGame(barneyGame.getGame().getUid()));
+        Assert.assertEquals(1, registry.findGamesByLane(1).size());
+        Assert.assertEquals(2, registry.findGamesByLane(2).size());
+        Assert.assertTrue(registry.findGamesByLane(3).isEmpty());
+        Assert.assertEquals(2, registry.findGamesByBowler(fred.getUid()).size());
+        Assert.assertTrue(registry.findGamesByBowler(barney.getUid()).contains(barneyGame));
+
+        registry.register(3, fredGame2);
+        Assert.assertEquals(3, registry.size());
+        Assert.assertEquals(1, registry.findGamesByLane(2).size());
+        Assert.assertEquals(1, registry.findGamesByLane(3).size());
+
+        Assert.assertSame(fredGame1, registry.unregister(fredGame1.getGame().getUid()));
+        Assert.assertNull(registry.unregister(fredGame1.getGame().getUid()));
+        Assert.assertTrue(registry.findGamesByLane(1).isEmpty());
+        Assert.assertEquals(1, registry.findGamesByBowler(fred.getUid()).size());
+        Assert.assertEquals(2, registry.size());
+    }
+
+    @Test
+    public void testConcurrentRegistration() throws InterruptedException {
+        final GameRegistry registry = GameRegistryImpl.newInstance();
+        final int threadCount = 8;
+        final int gamesPerThread = 5000;
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            final int lane = t;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < gamesPerThread; i++) {
+                    GameManager manager = GameManagerImpl.newGame(new Bowler());
+                    registry.register(lane, manager);
+                    if (i % 2 == 0) {
+                        registry.unregister(manager.getGame().getUid());
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assert.assertEquals(threadCount * gamesPerThread / 2, registry.size());
+        for (int lane = 0; lane < threadCount; lane++) {
+            Assert.assertEquals(gamesPerThread / 2, registry.findGamesByLane(lane).size());
+        }
+    }
+
+    @Test
+    public void testConcurrentReregistration() throws InterruptedException {
+        final GameRegistry registry = GameRegistryImpl.newInstance();
+        final int threadCount = 4;
+        final int registrations = 20000;
+        final List<GameManager> managers = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Bowler bowler = new Bowler();
+            bowler.setUid(UUID.randomUUID());
+            managers.add(GameManagerImpl.newGame(bowler));
+        }
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            final int lane = t;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < registrations; i++) {
+                    registry.register(lane, managers.get(i % managers.size()));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        int indexed = 0;
+        for (int lane = 0; lane < threadCount; lane++) {
+            indexed += registry.findGamesByLane(lane).size();
+        }
+        Assert.assertEquals(managers.size(), registry.size());
+        Assert.assertEquals(managers.size(), indexed);
+        for (GameManager manager : managers) {
+            Assert.assertEquals(1, registry.findGamesByBowler(manager.getGame().getBowler().getUid()).size());
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.BatchScorer;
+import com.dougestep.bowling.GameManager;
+import com.dougestep.bowling.GameStore;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.Game;
+import com.google.common.base.VerifyException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+public class GameStoreImplTest {
+
+    @Test
+    public void testStoreMatchesGames() {
+        Random random = new Random(14);
+        List<Bowler> league = league();
+        List<Game> games = new ArrayList<>();
+        GameStore store = GameStoreImpl.newInstance(16);
+        for (int i = 0; i < 5000; i++) {
+            Game game = BatchScorerImplTest.randomGame(random).getGame();
+            game.setBowler(league.get(random.nextInt(league.size())));
+            if (game.getNumberOfFrames() > 0) {
+                game.getFrames().get(0).setSplit(random.nextBoolean());
+            }
+            games.add(game);
+            Assert.assertEquals(i, store.addGame(game));
+        }
+
+        Assert.assertEquals(games.size(), store.size());
+        Assert.assertEquals(league.size(), store.getBowlerCount());
+        for (int i = 0; i < games.size(); i++) {
+            Game game = games.get(i);
+            Assert.assertEquals(game.getUid(), store.getUid(i));
+            Assert.assertSame(game.getBowler(), store.getBowler(store.getBowlerIndex(i)));
+            assertSameFrames(game, store.toGame(i));
+            for (int frameNumber = 1; frameNumber <= game.getNumberOfFrames(); frameNumber++) {
+                Assert.assertEquals(game.getFrames().get(frameNumber - 1).isSplit(), store.isSplit(i, frameNumber));
+            }
+            Assert.assertEquals(game.getUid(), store.toGame(i).getUid());
+            Assert.assertEquals(game.isComplete(), store.isComplete(i));
+        }
+    }
+
+    @Test
+    public void testAddScoredBatch() {
+        Random random = new Random(15);
+        BatchScorer scorer = BatchScorerImpl.newInstance();
+        int gameCount = 2000;
+        List<Game> games = new ArrayList<>();
+        byte[] balls = new byte[gameCount * 21];
+        int[] offsets = new int[gameCount + 1];
+        for (int i = 0; i < gameCount; i++) {
+            Game game = BatchScorerImplTest.randomGame(random).getGame();
+            games.add(game);
+            offsets[i + 1] = scorer.packGame(game, balls, offsets[i]);
+        }
+
+        GameStore store = GameStoreImpl.newInstance();
+        int bowler = store.addBowler(new Bowler().setFirstName("Fred"));
+        int[] bowlerIndexes = new int[gameCount];
+        bowlerIndexes[0] = GameStore.NO_BOWLER;
+        for (int i = 1; i < gameCount; i++) {
+            bowlerIndexes[i] = bowler;
+        }
+        Assert.assertEquals(0, store.addGames(balls, offsets, bowlerIndexes));
+
+        Assert.assertEquals(gameCount, store.size());
+        Assert.assertEquals(GameStore.NO_BOWLER, store.getBowlerIndex(0));
+        Assert.assertNull(store.toGame(0).getBowler());
+        for (int i = 0; i < gameCount; i++) {
+            Game game = games.get(i);
+            Assert.assertNull(store.getUid(i));
+            assertSameFrames(game, store.toGame(i));
+            if (game.isComplete()) {
+                Assert.assertTrue(store.isComplete(i));
+            }
+        }
+    }
+
+    @Test
+    public void testAddBatchOfIncompleteGames() {
+        byte[] balls = new byte[21 * 3];
+        int[] offsets = new int[4];
+        int ball = 0;
+        // a half thrown tenth frame, a tenth frame strike with one bonus ball and a finished tenth frame strike.
+        int[][] tenthFrames = {{7}, {10, 7}, {10, 7, 2}};
+        for (int game = 0; game < tenthFrames.length; game++) {
+            for (int frame = 1; frame < 10; frame++) {
+                balls[ball++] = 7;
+                balls[ball++] = 2;
+            }
+            for (int pins : tenthFrames[game]) {
+                balls[ball++] = (byte) pins;
+            }
+            offsets[game + 1] = ball;
+        }
+
+        GameStore store = GameStoreImpl.newInstance();
+        store.addGames(balls, offsets, new int[] {GameStore.NO_BOWLER, GameStore.NO_BOWLER, GameStore.NO_BOWLER});
+        for (int game = 0; game < tenthFrames.length; game++) {
+            GameManager processor = GameManagerImpl.newGame(new Bowler());
+            for (int index = offsets[game]; index < offsets[game + 1]; index++) {
+                processor.roll(balls[index]);
+            }
+            Assert.assertEquals(processor.getGame().isComplete(), store.isComplete(game));
+        }
+        Assert.assertFalse(store.isComplete(0));
+        Assert.assertFalse(store.isComplete(1));
+        Assert.assertTrue(store.isComplete(2));
+        Assert.assertEquals(10, store.toGame(0).getNumberOfFrames());
+        Assert.assertEquals(11, store.toGame(1).getNumberOfFrames());
+    }
+
+    @Test
+    public void testScanAggregates() {
+        Random random = new Random(16);
+        List<Bowler> league = league();
+        GameStore store = GameStoreImpl.newInstance();
+        long[] expectedPins = new long[league.size()];
+        int[] expectedGames = new int[league.size()];
+        int expectedStrikes = 0;
+        for (int i = 0; i < 10000; i++) {
+            Game game = BatchScorerImplTest.randomGame(random).getGame();
+            int bowler = random.nextInt(league.size());
+            game.setBowler(league.get(bowler));
+            store.addGame(game);
+            expectedPins[bowler] += game.getScore();
+            expectedGames[bowler]++;
+            for (BowlingFrame frame : game.getFrames()) {
+                expectedStrikes += frame.isStrike() ? 1 : 0;
+            }
+        }
+
+        long[] pins = new long[store.getBowlerCount()];
+        int[] gamesBowled = new int[store.getBowlerCount()];
+        int strikes = 0;
+        for (int game = 0; game < store.size(); game++) {
+            pins[store.getBowlerIndex(game)] += store.getScore(game);
+            gamesBowled[store.getBowlerIndex(game)]++;
+            for (int frameNumber = 1; frameNumber <= store.getFrameCount(game); frameNumber++) {
+                strikes += store.getFirstBall(game, frameNumber) == 10 ? 1 : 0;
+            }
+        }
+        for (int bowler = 0; bowler < league.size(); bowler++) {
+            int bowlerIndex = store.addBowler(league.get(bowler));
+            Assert.assertEquals(expectedPins[bowler], pins[bowlerIndex]);
+            Assert.assertEquals(expectedGames[bowler], gamesBowled[bowlerIndex]);
+        }
+        Assert.assertEquals(expectedStrikes, strikes);
+    }
+
+    @Test
+    public void testBowlerTable() {
+        GameStore store = GameStoreImpl.newInstance();
+        Bowler wilma = new Bowler().setFirstName("Wilma");
+        wilma.setUid(UUID.randomUUID());
+        Bowler sameWilma = new Bowler().setFirstName("Wilma");
+        sameWilma.setUid(wilma.getUid());
+        Bowler fred = new Bowler().setFirstName("Fred");
+        Bowler barney = new Bowler().setFirstName("Barney");
+
+        Assert.assertEquals(0, store.addBowler(wilma));
+        Assert.assertEquals(0, store.addBowler(sameWilma));
+        Assert.assertEquals(1, store.addBowler(fred));
+        Assert.assertEquals(2, store.addBowler(barney));
+        Assert.assertEquals(1, store.addBowler(fred));
+        Assert.assertEquals(3, store.getBowlerCount());
+    }
+
+    @Test(expected = VerifyException.class)
+    public void testGameNotInStore() {
+        GameStore store = GameStoreImpl.newInstance();
+        store.addGame(PrintManagerImplTest.gwensGame());
+        store.getScore(1);
+    }
+
+    private static List<Bowler> league() {
+        List<Bowler> league = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Bowler bowler = new Bowler().setFirstName("Bowler " + i);
+            bowler.setUid(UUID.randomUUID());
+            league.add(bowler);
+        }
+        return league;
+    }
+
+    private static void assertSameFrames(Game expected, Game actual) {
+        Assert.assertEquals(expected.getScore(), actual.getScore());
+        Assert.assertEquals(expected.getNumberOfFrames(), actual.getNumberOfFrames());
+        for (int index = 0; index < expected.getNumberOfFrames(); index++) {
+            BowlingFrame frame = expected.getFrames().get(index);
+            BowlingFrame copy = actual.getFrames().get(index);
+            Assert.assertEquals(frame.getFirstBall(), copy.getFirstBall());
+            Assert.assertEquals(frame.getSecondBall(), copy.getSecondBall());
+            Assert.assertEquals(frame.getScore(), copy.getScore());
+        }
+    }
+}
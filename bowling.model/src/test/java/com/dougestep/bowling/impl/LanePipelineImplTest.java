@@ -0,0 +1,217 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.GameManager;
+import com.dougestep.bowling.InvalidFrameException;
+import com.dougestep.bowling.LaneListener;
+import com.dougestep.bowling.LanePipeline;
+import com.dougestep.bowling.ValidationError;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.GameSnapshot;
+import com.dougestep.bowling.data.LaneEvent;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LanePipelineImplTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testGamesPerBowler() throws InterruptedException {
+        RecordingListener listener = new RecordingListener();
+        LanePipeline pipeline = LanePipelineImpl.newInstance(listener, 2, 16);
+        UUID fred = UUID.randomUUID();
+        UUID barney = UUID.randomUUID();
+        for (int ball = 0; ball < 12; ball++) {
+            pipeline.submit(new LaneEvent(7, fred, 10, false));
+            if (ball < 10) {
+                pipeline.submit(new LaneEvent(7, barney, 9, false));
+                pipeline.submit(new LaneEvent(7, barney, 0, false));
+            }
+        }
+        // the next ball starts a new game.
+        pipeline.submit(new LaneEvent(7, fred, 8, true));
+        pipeline.submit(new LaneEvent(7, barney, 11, false));
+        pipeline.close();
+
+        Assert.assertEquals(33, pipeline.getAppliedCount());
+        Assert.assertEquals(1, pipeline.getRejectedCount());
+        Assert.assertEquals(ValidationError.INVALID_BALL,
+                ((InvalidFrameException) listener.rejections.get(0)).getError());
+
+        Assert.assertEquals(2, listener.completed.size());
+        Assert.assertEquals(Integer.valueOf(300), listener.completed.get(fred));
+        Assert.assertEquals(Integer.valueOf(90), listener.completed.get(barney));
+        GameSnapshot next = listener.latest.get(fred);
+        Assert.assertFalse(next.isComplete());
+        Assert.assertEquals(1, next.getNumberOfFrames());
+        Assert.assertTrue(next.getFrames().get(0).isSplit());
+    }
+
+    @Test
+    public void testBackPressure() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingListener listener = new RecordingListener() {
+            @Override
+            public void gameUpdated(final int lane, final GameSnapshot game) {
+                try {
+                    release.await();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+                super.gameUpdated(lane, game);
+            }
+        };
+        LanePipeline pipeline = LanePipelineImpl.newInstance(listener, 1, 4);
+        UUID wilma = UUID.randomUUID();
+
+        int offered = 0;
+        while (pipeline.offer(new LaneEvent(1, wilma, 1, false))) {
+            offered++;
+            Assert.assertTrue("expected the queue to fill up", offered < 100);
+        }
+        release.countDown();
+        pipeline.close();
+
+        Assert.assertEquals(offered, pipeline.getAppliedCount());
+        Assert.assertEquals(offered, listener.latest.get(wilma).getScore());
+    }
+
+    @Test
+    public void testReplay() throws Exception {
+        int lanes = 40;
+        int bowlersPerLane = 4;
+        int gamesPerBowler = 30;
+        List<UUID> bowlers = new ArrayList<>();
+        for (int bowler = 0; bowler < lanes * bowlersPerLane; bowler++) {
+            bowlers.add(UUID.randomUUID());
+        }
+
+        Random random = new Random(19);
+        Path file = folder.newFile("lanes.csv").toPath();
+        int events = 0;
+        int expectedScore = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int game = 0; game < gamesPerBowler; game++) {
+                GameManager[] expected = new GameManager[bowlers.size()];
+                for (int frame = 0; frame < 10; frame++) {
+                    for (int bowler = 0; bowler < bowlers.size(); bowler++) {
+                        if (expected[bowler] == null) {
+                            expected[bowler] = GameManagerImpl.newGame(new Bowler());
+                        }
+                        // the tenth frame is left open so the game ends without bonus balls.
+                        int lane = bowler / bowlersPerLane;
+                        int firstBall = random.nextInt(10);
+                        int secondBall = random.nextInt((frame == 9 ? 10 : 11) - firstBall);
+                        writer.write(lane + "," + bowlers.get(bowler) + "," + firstBall + ",false\n");
+                        writer.write(lane + "," + bowlers.get(bowler) + "," + secondBall + ",false\n");
+                        expected[bowler].roll(firstBall).roll(secondBall);
+                        events += 2;
+                    }
+                }
+                for (GameManager manager : expected) {
+                    expectedScore += manager.getGame().getScore();
+                }
+            }
+        }
+
+        AtomicInteger totalScore = new AtomicInteger();
+        AtomicInteger completedGames = new AtomicInteger();
+        LaneListener listener = new LaneListener() {
+            @Override
+            public void gameUpdated(final int lane, final GameSnapshot game) {
+                if (game.isComplete()) {
+                    completedGames.incrementAndGet();
+                    totalScore.addAndGet(game.getScore());
+                }
+            }
+
+            @Override
+            public void eventRejected(final LaneEvent event, final RuntimeException error) {
+                // counted by the pipeline
+            }
+        };
+
+        LanePipeline pipeline = LanePipelineImpl.newInstance(listener);
+        Assert.assertEquals(events, pipeline.replay(file));
+        pipeline.close();
+
+        Assert.assertEquals(events, pipeline.getAppliedCount());
+        Assert.assertEquals(0, pipeline.getRejectedCount());
+        Assert.assertEquals(bowlers.size() * gamesPerBowler, completedGames.get());
+        Assert.assertEquals(expectedScore, totalScore.get());
+    }
+
+    @Test(timeout = 10000)
+    public void testFailingListener() throws InterruptedException {
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        Thread.UncaughtExceptionHandler previous = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((thread, failure) -> failures.add(failure));
+        try {
+            RecordingListener listener = new RecordingListener() {
+                @Override
+                public void gameUpdated(final int lane, final GameSnapshot game) {
+                    super.gameUpdated(lane, game);
+                    throw new IllegalStateException("scoreboard offline");
+                }
+
+                @Override
+                public void eventRejected(final LaneEvent event, final RuntimeException error) {
+                    super.eventRejected(event, error);
+                    throw new IllegalStateException("scoreboard offline");
+                }
+            };
+            LanePipeline pipeline = LanePipelineImpl.newInstance(listener, 1, 1);
+            UUID pebbles = UUID.randomUUID();
+            pipeline.submit(new LaneEvent(3, pebbles, 7, false));
+            pipeline.submit(new LaneEvent(3, pebbles, 11, false));
+            pipeline.submit(new LaneEvent(3, pebbles, 2, false));
+            pipeline.close();
+
+            Assert.assertEquals(2, pipeline.getAppliedCount());
+            Assert.assertEquals(1, pipeline.getRejectedCount());
+            Assert.assertEquals(1, listener.rejections.size());
+            Assert.assertEquals(9, listener.latest.get(pebbles).getScore());
+            Assert.assertFalse(failures.isEmpty());
+            for (Throwable failure : failures) {
+                Assert.assertEquals("scoreboard offline", failure.getMessage());
+            }
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(previous);
+        }
+    }
+
+    private static class RecordingListener implements LaneListener {
+        private final Map<UUID, GameSnapshot> latest = new ConcurrentHashMap<>();
+        private final Map<UUID, Integer> completed = new ConcurrentHashMap<>();
+        private final List<RuntimeException> rejections = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void gameUpdated(final int lane, final GameSnapshot game) {
+            latest.put(game.getBowlerUid(), game);
+            if (game.isComplete()) {
+                completed.put(game.getBowlerUid(), game.getScore());
+            }
+        }
+
+        @Override
+        public void eventRejected(final LaneEvent event, final RuntimeException error) {
+            rejections.add(error);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.BatchScorer;
+import com.dougestep.bowling.GameManager;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class ParallelBatchScorerImplTest {
+
+    @Test
+    public void testScoresMatchGameManager() {
+        Random random = new Random(11);
+        BatchScorer scorer = ParallelBatchScorerImpl.newInstance(4, 64);
+        int gameCount = 10000;
+        GameManager[] processors = new GameManager[gameCount];
+        byte[] balls = new byte[gameCount * 21];
+        int[] offsets = new int[gameCount + 1];
+        for (int i = 0; i < gameCount; i++) {
+            processors[i] = BatchScorerImplTest.randomGame(random);
+            offsets[i + 1] = scorer.packGame(processors[i].getGame(), balls, offsets[i]);
+        }
+
+        int[] scores = new int[gameCount * BatchScorer.SCORES_PER_GAME];
+        scorer.scoreGames(balls, offsets, scores);
+
+        for (int i = 0; i < gameCount; i++) {
+            int base = i * BatchScorer.SCORES_PER_GAME;
+            for (int frameNumber = 1; frameNumber <= BatchScorer.FRAME_SLOTS; frameNumber++) {
+                Assert.assertEquals(processors[i].retrieveFrameScore(frameNumber), scores[base + frameNumber - 1]);
+            }
+            Assert.assertEquals(processors[i].getGame().getScore(), scores[base + BatchScorer.TOTAL_OFFSET]);
+        }
+
+        int[] sequentialScores = new int[scores.length];
+        BatchScorerImpl.newInstance().scoreGames(balls, offsets, sequentialScores);
+        Assert.assertArrayEquals(sequentialScores, scores);
+
+        int[] commonPoolScores = new int[scores.length];
+        ParallelBatchScorerImpl.newInstance().scoreGames(balls, offsets, commonPoolScores);
+        Assert.assertArrayEquals(sequentialScores, commonPoolScores);
+    }
+}
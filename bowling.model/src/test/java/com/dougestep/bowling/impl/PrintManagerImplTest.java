@@ -0,0 +1,58 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.PrintManager;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.Game;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+public class PrintManagerImplTest {
+    private static final String NL = System.getProperty("line.separator");
+    private static final String HEADER = "                    |     1     |     2     |     3     |     4     |     5     "
+            + "|     6     |     7     |     8     |     9     |       10        |\n";
+    private static final String DASHES = "-----------------------------------------------------------------------------"
+            + "----------------------------------------------------------------------" + NL;
+
+    static Game gwensGame() {
+        Bowler gwen = new Bowler().setFirstName("Gwen").setLastName("Estep");
+        return GameManagerImpl.newGame(gwen)
+                .addFrame(new BowlingFrame(8, 1))
+                .addFrame(new BowlingFrame(9, 0))
+                .addFrame(BowlingFrame.strike())
+                .addFrame(new BowlingFrame(6, 2, true))
+                .addFrame(new BowlingFrame(7, 3))
+                .getGame();
+    }
+
+    static String gwensCard() {
+        return DASHES
+                + "Gwen Estep          |  8  |  1  |  9  |  -  |     X     |  S6 |  2  |  7  |  /  |     |     |     "
+                + "|     |     |     |     |     |     |     |     |\n"
+                + "                    |-----------|-----------|-----------|-----------|-----------|-----------"
+                + "|-----------|-----------|-----------|-----------------|\n"
+                + "                    |     9     |     18    |     36    |     44    |     54    |           "
+                + "|           |           |           |                 |\n";
+    }
+
+    @Test
+    public void testPrintGame() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintManager printManager = PrintManagerImpl.newInstance();
+        printManager.printGame(gwensGame(), new PrintStream(bytes, true, "UTF-8"));
+
+        Assert.assertEquals(HEADER + gwensCard() + "\nGame: Incomplete" + NL, bytes.toString("UTF-8"));
+    }
+
+    @Test
+    public void testPrintGames() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintManager printManager = PrintManagerImpl.newInstance();
+        printManager.printGames(new Game[]{gwensGame(), gwensGame()}, new PrintStream(bytes, true, "UTF-8"));
+
+        Assert.assertEquals(HEADER + gwensCard() + gwensCard(), bytes.toString("UTF-8"));
+    }
+}
@@ -0,0 +1,181 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.GameManager;
+import com.dougestep.bowling.ScoreboardRenderer;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.Game;
+import com.google.common.base.VerifyException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+public class ScoreboardRendererImplTest {
+
+    @Test
+    public void testPatchedBoardMatchesPrintManager() {
+        ScoreboardRenderer renderer = ScoreboardRendererImpl.newInstance();
+        GameManager[] lanes = newLanes(4);
+        Random random = new Random(21);
+        for (int refresh = 0; refresh < 200; refresh++) {
+            if (!rollRandomBall(lanes, random)) {
+                break;
+            }
+            if (refresh == 50) {
+                lanes[2].getGame().getBowler().setFirstName("Bartholomew Jebediah");
+            }
+            Game[] games = gamesOf(lanes);
+            if (refresh == 100) {
+                // a reordered board is rendered from the same cards.
+                games = new Game[] {games[3], games[1], games[2], games[0]};
+            }
+            Assert.assertEquals(printGames(games), render(renderer, games));
+        }
+    }
+
+    @Test
+    public void testAnsiDiffMatchesPrintManager() {
+        ScoreboardRenderer renderer = ScoreboardRendererImpl.newAnsiInstance();
+        GameManager[] lanes = newLanes(6);
+        Terminal terminal = new Terminal();
+        Random random = new Random(7);
+
+        String firstDraw = render(renderer, gamesOf(lanes));
+        terminal.write(firstDraw);
+        int longestPatch = 0;
+        for (int refresh = 0; refresh < 300; refresh++) {
+            if (!rollRandomBall(lanes, random)) {
+                break;
+            }
+            if (refresh == 40) {
+                lanes[4].replaceFrame(1, new BowlingFrame(3, 4));
+            }
+            if (refresh == 80) {
+                lanes[1].getGame().getBowler().setLastName("Fitzgerald-Montgomery");
+            }
+            String patch = render(renderer, gamesOf(lanes));
+            if (refresh != 40 && refresh != 80) {
+                longestPatch = Math.max(longestPatch, patch.length());
+            }
+            terminal.write(patch);
+            terminal.assertShows(printGames(gamesOf(lanes)));
+        }
+        Assert.assertTrue("patch of " + longestPatch + " chars", longestPatch < firstDraw.length() / 20);
+
+        // a different board is redrawn in full.
+        GameManager[] others = newLanes(2);
+        terminal.write(render(renderer, gamesOf(others)));
+        terminal.assertShows(printGames(gamesOf(others)));
+    }
+
+    private static GameManager[] newLanes(final int count) {
+        GameManager[] lanes = new GameManager[count];
+        for (int lane = 0; lane < count; lane++) {
+            lanes[lane] = GameManagerImpl.newGame(new Bowler().setFirstName("Bowler").setLastName("" + lane));
+        }
+        return lanes;
+    }
+
+    /**
+     * Rolls a random ball on a random lane whose game isn't complete.
+     */
+    private static boolean rollRandomBall(final GameManager[] lanes, final Random random) {
+        int start = random.nextInt(lanes.length);
+        for (int offset = 0; offset < lanes.length; offset++) {
+            GameManager lane = lanes[(start + offset) % lanes.length];
+            Game game = lane.getGame();
+            if (!game.isComplete()) {
+                int topFrame = game.getNumberOfFrames();
+                int standing = 10;
+                if (topFrame > 0 && lane.retrieveFrame(topFrame).getSecondBall() == 0
+                        && !lane.retrieveFrame(topFrame).isStrike()) {
+                    standing = random.nextBoolean() ? 10 : 10 - lane.retrieveFrame(topFrame).getFirstBall();
+                }
+                try {
+                    lane.roll(random.nextInt(standing + 1), random.nextInt(8) == 0);
+                } catch (VerifyException ve) {
+                    lane.roll(0);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Game[] gamesOf(final GameManager[] lanes) {
+        Game[] games = new Game[lanes.length];
+        for (int lane = 0; lane < lanes.length; lane++) {
+            games[lane] = lanes[lane].getGame();
+        }
+        return games;
+    }
+
+    private static String printGames(final Game[] games) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintManagerImpl.newInstance().printGames(games, new PrintStream(bytes));
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static String render(final ScoreboardRenderer renderer, final Game[] games) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        renderer.render(games, new PrintStream(bytes));
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A screen that understands the escape sequences written by the renderer.
+     */
+    private static class Terminal {
+        private final char[][] screen = new char[60][200];
+        private int row;
+        private int column;
+
+        void write(final String text) {
+            int index = 0;
+            while (index < text.length()) {
+                char ch = text.charAt(index++);
+                if (ch == '\u001b') {
+                    int end = index + 1;
+                    while (!Character.isLetter(text.charAt(end))) {
+                        end++;
+                    }
+                    escape(text.substring(index + 1, end), text.charAt(end));
+                    index = end + 1;
+                } else if (ch == '\n') {
+                    row++;
+                    column = 0;
+                } else if (ch != '\r') {
+                    screen[row][column++] = ch;
+                }
+            }
+        }
+
+        private void escape(final String arguments, final char command) {
+            if (command == 'H') {
+                String[] position = arguments.isEmpty() ? new String[] {"1", "1"} : arguments.split(";");
+                row = Integer.parseInt(position[0]) - 1;
+                column = Integer.parseInt(position[1]) - 1;
+            } else if (command == 'J') {
+                for (char[] line : screen) {
+                    Arrays.fill(line, ' ');
+                }
+            } else if (command == 'K') {
+                Arrays.fill(screen[row], column, screen[row].length, ' ');
+            }
+        }
+
+        void assertShows(final String expected) {
+            String[] lines = expected.split("\r?\n");
+            for (int line = 0; line < screen.length; line++) {
+                String shown = new String(screen[line]).replaceAll("\\s+$", "");
+                String wanted = line < lines.length ? lines[line].replaceAll("\\s+$", "") : "";
+                Assert.assertEquals("row " + (line + 1), wanted, shown);
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.BatchScorer;
+import com.dougestep.bowling.GameManager;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.FrameShape;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ScoringTableTest {
+
+    /**
+     * A frame's points depend on at most the two frames after it, so scoring every legal run of one to three frames
+     * covers every frame of every legal game prefix.
+     */
+    @Test
+    public void testEveryThreeFrameWindow() {
+        List<FrameShape> shapes = legalShapes();
+        for (FrameShape first : shapes) {
+            assertScoresMatch(first);
+            for (FrameShape second : shapes) {
+                assertScoresMatch(first, second);
+                for (FrameShape third : shapes) {
+                    assertScoresMatch(first, second, third);
+                }
+            }
+        }
+    }
+
+    /**
+     * Rolls every legal finish from the ninth frame on, after eight strikes, and checks the scores after every ball.
+     */
+    @Test
+    public void testEveryGameFinish() {
+        List<FrameShape> shapes = legalShapes();
+        int finishes = 0;
+        for (FrameShape ninth : shapes) {
+            for (FrameShape tenth : shapes) {
+                if (tenth.isStrike()) {
+                    for (FrameShape bonus : shapes) {
+                        int lastBalls = bonus.isStrike() ? 10 : 0;
+                        for (int last = 0; last <= lastBalls; last++) {
+                            int[] balls = bonus.isStrike() ? new int[]{10, last} : balls(bonus);
+                            rollFinish(ninth, tenth, balls);
+                            finishes++;
+                        }
+                    }
+                } else if (tenth.isSpare()) {
+                    for (int bonus = 0; bonus <= 10; bonus++) {
+                        rollFinish(ninth, tenth, new int[]{bonus});
+                        finishes++;
+                    }
+                } else {
+                    rollFinish(ninth, tenth, new int[0]);
+                    finishes++;
+                }
+            }
+        }
+        Assert.assertTrue(finishes > 10000);
+    }
+
+    private static List<FrameShape> legalShapes() {
+        List<FrameShape> shapes = new ArrayList<>();
+        for (int index = 0; index < FrameShape.COUNT / 2; index++) {
+            shapes.add(FrameShape.fromIndex(index));
+        }
+        return shapes;
+    }
+
+    private static int[] balls(FrameShape shape) {
+        return shape.isStrike() ? new int[]{10} : new int[]{shape.getFirstBall(), shape.getSecondBall()};
+    }
+
+    private static void assertScoresMatch(FrameShape... frames) {
+        GameState state = new GameState();
+        int[] firstBalls = new int[frames.length];
+        int[] secondBalls = new int[frames.length];
+        for (int index = 0; index < frames.length; index++) {
+            firstBalls[index] = frames[index].getFirstBall();
+            secondBalls[index] = frames[index].getSecondBall();
+            state.append(firstBalls[index], secondBalls[index], false);
+        }
+        state.score(1);
+
+        int[] expected = branchyScores(firstBalls, secondBalls, frames.length);
+        for (int frameNumber = 1; frameNumber <= frames.length; frameNumber++) {
+            Assert.assertEquals(expected[frameNumber - 1], state.getScore(frameNumber));
+        }
+    }
+
+    private static void rollFinish(FrameShape ninth, FrameShape tenth, int[] bonusBalls) {
+        GameManager processor = GameManagerImpl.newGame(new Bowler());
+        for (int frame = 1; frame <= 8; frame++) {
+            processor.roll(10);
+        }
+        List<Integer> balls = new ArrayList<>();
+        for (int ball : balls(ninth)) {
+            balls.add(ball);
+        }
+        for (int ball : balls(tenth)) {
+            balls.add(ball);
+        }
+        for (int ball : bonusBalls) {
+            balls.add(ball);
+        }
+
+        for (int ball : balls) {
+            processor.roll(ball);
+            assertScoresMatch(processor);
+        }
+        Assert.assertTrue(processor.getGame().isComplete());
+    }
+
+    private static void assertScoresMatch(GameManager processor) {
+        int topFrame = processor.getGame().getNumberOfFrames();
+        int[] firstBalls = new int[topFrame];
+        int[] secondBalls = new int[topFrame];
+        for (int index = 0; index < topFrame; index++) {
+            firstBalls[index] = processor.retrieveFrameShape(index + 1).getFirstBall();
+            secondBalls[index] = processor.retrieveFrameShape(index + 1).getSecondBall();
+        }
+        int[] expected = branchyScores(firstBalls, secondBalls, topFrame);
+
+        byte[] balls = new byte[BatchScorer.FRAME_SLOTS * 2];
+        int end = BatchScorerImpl.pack(processor.getGame(), balls, 0);
+        int[] batchScores = new int[BatchScorer.SCORES_PER_GAME];
+        BatchScorerImpl.scoreGame(balls, new int[]{0, end}, 0, batchScores);
+
+        for (int frameNumber = 1; frameNumber <= topFrame; frameNumber++) {
+            Assert.assertEquals(expected[frameNumber - 1], processor.retrieveFrameScore(frameNumber));
+            Assert.assertEquals(expected[frameNumber - 1], batchScores[frameNumber - 1]);
+        }
+        Assert.assertEquals(expected[Math.min(topFrame, 10) - 1], processor.getGame().getScore());
+        Assert.assertEquals(expected[Math.min(topFrame, 10) - 1], batchScores[BatchScorer.TOTAL_OFFSET]);
+    }
+
+    /**
+     * Scores frames the way the game manager did before the scoring table, by checking for strikes and spares.
+     */
+    private static int[] branchyScores(int[] firstBalls, int[] secondBalls, int frameCount) {
+        int[] scores = new int[frameCount];
+        int runningScore = 0;
+        for (int index = 0; index < frameCount; index++) {
+            int next = index + 1;
+            int value;
+            if (firstBalls[index] == 10) {
+                if (next >= frameCount) {
+                    value = 10;
+                } else if (firstBalls[next] != 10) {
+                    value = 10 + firstBalls[next] + secondBalls[next];
+                } else {
+                    value = index + 2 < frameCount ? 20 + firstBalls[index + 2] : 20;
+                }
+            } else if (firstBalls[index] + secondBalls[index] == 10) {
+                value = next < frameCount ? 10 + firstBalls[next] : 10;
+            } else {
+                value = firstBalls[index] + secondBalls[index];
+            }
+            runningScore += value;
+            scores[index] = runningScore;
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,126 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.GameStore;
+import com.dougestep.bowling.StatisticsEngine;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.BowlerStatistics;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.Game;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+public class StatisticsEngineImplTest {
+    private final StatisticsEngine engine = StatisticsEngineImpl.newInstance();
+
+    @Test
+    public void testBowlerStatistics() {
+        Bowler gwen = new Bowler().setFirstName("Gwen").setLastName("Estep");
+        Game first = GameManagerImpl.newGame(gwen)
+                .addFrame(new BowlingFrame(8, 1))
+                .addFrame(new BowlingFrame(9, 0))
+                .addFrame(BowlingFrame.strike())
+                .addFrame(new BowlingFrame(6, 2, true))
+                .addFrame(new BowlingFrame(7, 2))
+                .addFrame(new BowlingFrame(7, 3))
+                .addFrame(new BowlingFrame(3, 5))
+                .addFrame(new BowlingFrame(0, 7))
+                .addFrame(new BowlingFrame(9, 1))
+                .addFrame(BowlingFrame.strike())
+                .addFrame(BowlingFrame.strike())
+                .addFrame(BowlingFrame.oneBall(6))
+                .getGame();
+        Game second = GameManagerImpl.newGame(gwen)
+                .addFrames(new BowlingFrame[]{
+                    new BowlingFrame(7, 3, true), new BowlingFrame(9, 1), new BowlingFrame(9, 0),
+                    new BowlingFrame(8, 2, true), new BowlingFrame(9, 0), new BowlingFrame(9, 0),
+                    new BowlingFrame(9, 0), new BowlingFrame(9, 0), new BowlingFrame(9, 0), new BowlingFrame(9, 0)})
+                .getGame();
+        Game unfinished = GameManagerImpl.newGame(gwen).addFrame(BowlingFrame.strike()).getGame();
+
+        GameStore store = GameStoreImpl.newInstance();
+        store.addGame(first);
+        store.addGame(second);
+        store.addGame(unfinished);
+        BowlerStatistics statistics = engine.computeStatistics(store).get(0);
+
+        Assert.assertSame(gwen, statistics.getBowler());
+        Assert.assertEquals(2, statistics.getGames());
+        Assert.assertEquals(first.getScore() + second.getScore(), statistics.getTotalPins());
+        Assert.assertEquals(Math.max(first.getScore(), second.getScore()), statistics.getHighGame());
+        Assert.assertEquals((first.getScore() + second.getScore()) / 2, statistics.getAverage());
+        Assert.assertEquals(2, statistics.getStrikes());
+        Assert.assertEquals(10.0, statistics.getStrikePercentage(), 0.0001);
+        Assert.assertEquals(5, statistics.getSpares());
+        Assert.assertEquals(5 * 100.0 / 18, statistics.getSparePercentage(), 0.0001);
+        Assert.assertEquals(3, statistics.getSplits());
+        Assert.assertEquals(2, statistics.getConvertedSplits());
+        Assert.assertEquals(2 * 100.0 / 3, statistics.getSplitConversionPercentage(), 0.0001);
+        Assert.assertEquals((69 + 87) / 20.0, statistics.getFirstBallAverage(), 0.0001);
+    }
+
+    @Test
+    public void testStatisticsMatchFrameSemantics() {
+        Random random = new Random(15);
+        GameStore store = GameStoreImpl.newInstance();
+        int bowlerCount = 6;
+        BowlerStatistics[] expected = new BowlerStatistics[bowlerCount];
+        for (int bowler = 0; bowler < bowlerCount; bowler++) {
+            expected[bowler] = new BowlerStatistics();
+            store.addBowler(new Bowler().setFirstName("Bowler " + bowler));
+        }
+
+        for (int i = 0; i < 20000; i++) {
+            Game game = BatchScorerImplTest.randomGame(random).getGame();
+            int bowler = random.nextInt(bowlerCount);
+            game.setBowler(store.getBowler(bowler));
+            for (BowlingFrame frame : game.getFrames()) {
+                frame.setSplit(!frame.isStrike() && random.nextInt(8) == 0);
+            }
+            store.addGame(game);
+            if (game.isComplete()) {
+                accumulate(expected[bowler], game);
+            }
+        }
+
+        List<BowlerStatistics> statistics = engine.computeStatistics(store);
+        Assert.assertEquals(bowlerCount, statistics.size());
+        for (int bowler = 0; bowler < bowlerCount; bowler++) {
+            BowlerStatistics actual = statistics.get(bowler);
+            Assert.assertEquals(expected[bowler].getGames(), actual.getGames());
+            Assert.assertEquals(expected[bowler].getTotalPins(), actual.getTotalPins());
+            Assert.assertEquals(expected[bowler].getHighGame(), actual.getHighGame());
+            Assert.assertEquals(expected[bowler].getStrikes(), actual.getStrikes());
+            Assert.assertEquals(expected[bowler].getSpares(), actual.getSpares());
+            Assert.assertEquals(expected[bowler].getFirstBallPins(), actual.getFirstBallPins());
+            Assert.assertEquals(expected[bowler].getSplits(), actual.getSplits());
+            Assert.assertEquals(expected[bowler].getConvertedSplits(), actual.getConvertedSplits());
+        }
+    }
+
+    /**
+     * Adds a game to the supplied statistics by walking its frames, the way report code did before the engine.
+     */
+    private static void accumulate(BowlerStatistics statistics, Game game) {
+        statistics.setGames(statistics.getGames() + 1)
+                .setTotalPins(statistics.getTotalPins() + game.getScore())
+                .setHighGame(Math.max(statistics.getHighGame(), game.getScore()));
+        for (BowlingFrame frame : game.getFrames().subList(0, 10)) {
+            statistics.setFirstBallPins(statistics.getFirstBallPins() + frame.getFirstBall());
+            if (frame.isStrike()) {
+                statistics.setStrikes(statistics.getStrikes() + 1);
+            }
+            if (frame.isSpare()) {
+                statistics.setSpares(statistics.getSpares() + 1);
+            }
+            if (frame.isSplit()) {
+                statistics.setSplits(statistics.getSplits() + 1);
+                if (frame.isSpare()) {
+                    statistics.setConvertedSplits(statistics.getConvertedSplits() + 1);
+                }
+            }
+        }
+    }
+}
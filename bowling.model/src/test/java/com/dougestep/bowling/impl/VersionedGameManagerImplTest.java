@@ -0,0 +1,122 @@
+package com.dougestep.bowling.impl;
+
+import com.dougestep.bowling.InvalidFrameException;
+import com.dougestep.bowling.VersionedGameManager;
+import com.dougestep.bowling.data.Bowler;
+import com.dougestep.bowling.data.BowlingFrame;
+import com.dougestep.bowling.data.GameSnapshot;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class VersionedGameManagerImplTest {
+
+    @Test
+    public void testUndoRedoCorrections() {
+        VersionedGameManager processor = VersionedGameManagerImpl.newGame(new Bowler().setFirstName("Fred"));
+        processor.addFrame(new BowlingFrame(8, 1)).addFrame(new BowlingFrame(7, 2)).addFrame(new BowlingFrame(8, 2));
+        Assert.assertEquals(3, processor.getVersion());
+        Assert.assertFalse(processor.canRedo());
+
+        processor.replaceFrame(2, BowlingFrame.strike());
+        Assert.assertEquals(4, processor.getVersion());
+        Assert.assertEquals(39, processor.getGame().getScore());
+
+        processor.undo();
+        Assert.assertEquals(3, processor.getVersion());
+        Assert.assertTrue(processor.canRedo());
+        Assert.assertEquals(28, processor.getGame().getScore());
+        Assert.assertEquals(7, processor.retrieveFrame(2).getFirstBall());
+        Assert.assertEquals(18, processor.retrieveFrameScore(2));
+        Assert.assertSame(processor.versionAt(3), processor.getSnapshot());
+
+        processor.redo();
+        Assert.assertEquals(39, processor.getGame().getScore());
+        Assert.assertTrue(processor.retrieveFrame(2).isStrike());
+        Assert.assertSame(processor.versionAt(4), processor.getSnapshot());
+
+        processor.undo().undo();
+        Assert.assertEquals(18, processor.getGame().getScore());
+        processor.deleteFrame(1);
+        Assert.assertEquals(3, processor.getVersion());
+        Assert.assertEquals(4, processor.getNumberOfVersions());
+        Assert.assertFalse(processor.canRedo());
+        Assert.assertEquals(9, processor.getGame().getScore());
+        Assert.assertNull(processor.versionAt(4));
+
+        GameSnapshot start = processor.versionAt(0);
+        Assert.assertEquals(0, start.getNumberOfFrames());
+        Assert.assertSame(processor.versionAt(1).getFrame(1), processor.versionAt(2).getFrame(1));
+        Assert.assertEquals(9, processor.versionAt(3).getFrame(1).getScore());
+        Assert.assertNull(processor.versionAt(-1));
+    }
+
+    @Test
+    public void testUndoFrameInProgress() {
+        VersionedGameManager processor = VersionedGameManagerImpl.newGame(new Bowler());
+        processor.undo();
+        Assert.assertEquals(0, processor.getVersion());
+        Assert.assertFalse(processor.canUndo());
+
+        processor.roll(7).roll(2);
+        Assert.assertEquals(2, processor.getVersion());
+        processor.undo();
+        try {
+            processor.roll(4);
+            Assert.fail("expected the restored frame to be waiting on its second ball");
+        } catch (InvalidFrameException ife) {
+            // expected
+        }
+        Assert.assertEquals(1, processor.getVersion());
+        Assert.assertEquals(3, processor.getNumberOfVersions());
+
+        processor.roll(3).roll(5);
+        Assert.assertTrue(processor.retrieveFrame(1).isSpare());
+        Assert.assertEquals(15, processor.retrieveFrameScore(1));
+        Assert.assertEquals(2, processor.getGame().getNumberOfFrames());
+        Assert.assertEquals(3, processor.getVersion());
+    }
+
+    @Test
+    public void testUndoGutterSecondBall() {
+        VersionedGameManager processor = VersionedGameManagerImpl.newGame(new Bowler());
+        processor.roll(3).roll(0).roll(5);
+        Assert.assertEquals(3, processor.getVersion());
+
+        processor.undo().roll(4);
+        Assert.assertEquals(2, processor.getGame().getNumberOfFrames());
+        Assert.assertEquals(0, processor.retrieveFrame(1).getSecondBall());
+        Assert.assertEquals(4, processor.retrieveFrame(2).getFirstBall());
+        Assert.assertEquals(3, processor.getVersion());
+
+        processor.undo().undo().roll(4);
+        Assert.assertEquals(1, processor.getGame().getNumberOfFrames());
+        Assert.assertEquals(4, processor.retrieveFrame(1).getSecondBall());
+    }
+
+    @Test
+    public void testLongHistorySharesFrames() {
+        VersionedGameManager processor = VersionedGameManagerImpl.newGame(new Bowler());
+        for (int frame = 0; frame < 9; frame++) {
+            processor.addFrame(new BowlingFrame(7, 2));
+        }
+        processor.addFrame(new BowlingFrame(9, 0));
+
+        for (int correction = 0; correction < 1000; correction++) {
+            processor.replaceFrame(10, new BowlingFrame(correction % 2 == 0 ? 8 : 9, 0));
+        }
+        Assert.assertEquals(1011, processor.getNumberOfVersions());
+        Assert.assertEquals(90, processor.getGame().getScore());
+        for (int version = 11; version < processor.getNumberOfVersions(); version++) {
+            GameSnapshot previous = processor.versionAt(version - 1);
+            GameSnapshot current = processor.versionAt(version);
+            Assert.assertSame(previous.getFrame(9), current.getFrame(9));
+            Assert.assertNotEquals(previous.getScore(), current.getScore());
+        }
+
+        processor.replaceFrame(10, new BowlingFrame(9, 0));
+        Assert.assertEquals(1011, processor.getNumberOfVersions());
+        processor.undo();
+        Assert.assertEquals(89, processor.getGame().getScore());
+        Assert.assertTrue(processor.getGame().isComplete());
+    }
+}